@@ -0,0 +1,200 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.utils.SingletonManager;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A {@link DownloadMetricsSink} that aggregates the metrics of all downloads reporting to it,
+ * readable directly or over JMX once {@link #register(String) registered}.
+ * <p>
+ * Counters are {@link LongAdder}s, so reporting downloads never contend with each other. Only the
+ * byte total takes a lock, once when a download finishes and on every read of it.
+ * @since 1.0.0-alpha
+ */
+public final class AggregateDownloadMetrics implements DownloadMetricsSink, DownloadMetricsMXBean {
+    /** The JMX domain the metrics are registered under. */
+    public static final String JMX_DOMAIN = "com.jwcomptech.commons";
+
+    // Keyed by the metrics as they use identity equality, unlike the downloaders.
+    private final Set<DownloadMetrics> active = ConcurrentHashMap.newKeySet();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    // Moving a download's bytes from active to the total and summing them both take this lock,
+    // so a finishing download is never counted twice or missed by a concurrent read.
+    private final Object bytesLock = new Object();
+    private long bytes;
+    private final LongAdder connectNanos = new LongAdder();
+    private final LongAdder connects = new LongAdder();
+    private final LongAdder firstByteNanos = new LongAdder();
+    private final LongAdder firstBytes = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+
+    /**
+     * Returns the shared aggregate, registered over JMX as {@code com.jwcomptech.commons:type=DownloadMetrics,name=default}.
+     * Downloads only report to it once it is set as their sink.
+     * @return the shared aggregate
+     */
+    public static AggregateDownloadMetrics getInstance() {
+        return SingletonManager.getInstance(AggregateDownloadMetrics.class, () -> {
+            final AggregateDownloadMetrics metrics = new AggregateDownloadMetrics();
+            try {
+                metrics.register("default");
+            } catch (final JMException ignored) {
+                // Metrics are still readable directly if JMX is unavailable.
+            }
+            return metrics;
+        });
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server.
+     * @param name the value of the {@code name} key of the object name
+     * @return the object name the metrics were registered under
+     * @throws JMException if the metrics cannot be registered
+     */
+    public ObjectName register(final String name) throws JMException {
+        checkArgumentNotNull(name, cannotBeNull("name"));
+        final ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=DownloadMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public void started(final HTTPDownloader downloader) {
+        active.add(downloader.getMetrics());
+    }
+
+    @Override
+    public void connected(final HTTPDownloader downloader, final long connectNanos) {
+        this.connectNanos.add(connectNanos);
+        connects.increment();
+    }
+
+    @Override
+    public void firstByte(final HTTPDownloader downloader, final long timeToFirstByteNanos) {
+        firstByteNanos.add(timeToFirstByteNanos);
+        firstBytes.increment();
+    }
+
+    @Override
+    public void retried(final HTTPDownloader downloader, final int attempt, final IOException cause) {
+        retries.increment();
+    }
+
+    @Override
+    public void stalled(final HTTPDownloader downloader) {
+        stalls.increment();
+    }
+
+    @Override
+    public void finished(final HTTPDownloader downloader, final @NotNull DLStatus status, final DownloadMetrics metrics) {
+        synchronized (bytesLock) {
+            bytes += metrics.getBytesReceived();
+            active.remove(metrics);
+        }
+
+        switch (status) {
+            case COMPLETE -> completed.increment();
+            case ERROR -> failed.increment();
+            default -> { }
+        }
+    }
+
+    @Override
+    public int getActiveDownloads() {
+        return active.size();
+    }
+
+    @Override
+    public long getCompletedDownloads() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getFailedDownloads() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        // Bytes of running downloads are added when they finish.
+        synchronized (bytesLock) {
+            return bytes + active.stream().mapToLong(DownloadMetrics::getBytesReceived).sum();
+        }
+    }
+
+    @Override
+    public double getBytesPerSecond() {
+        return active.stream().mapToDouble(metrics -> metrics.getBytesPerSecond().get()).sum();
+    }
+
+    @Override
+    public double getAverageBytesPerSecond() {
+        return active.stream().mapToDouble(metrics -> metrics.getAverageBytesPerSecond().get()).sum();
+    }
+
+    @Override
+    public double getMeanConnectTimeMillis() {
+        return meanMillis(connectNanos, connects);
+    }
+
+    @Override
+    public double getMeanTimeToFirstByteMillis() {
+        return meanMillis(firstByteNanos, firstBytes);
+    }
+
+    @Override
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    @Override
+    public long getStalls() {
+        return stalls.sum();
+    }
+
+    @Override
+    public int getStalledDownloads() {
+        return (int) active.stream().filter(DownloadMetrics::isStalled).count();
+    }
+
+    private static double meanMillis(final @NotNull LongAdder totalNanos, final @NotNull LongAdder count) {
+        final long samples = count.sum();
+        return samples == 0 ? 0 : (double) totalNanos.sum() / samples / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,255 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A token bucket limiting the throughput of the downloads sharing it.
+ * <p>
+ * Every transferred byte takes a token, tokens are refilled at the configured rate up to the
+ * burst size. A transfer is allowed to go into debt and the thread is then parked until the
+ * debt is paid off, so the rate is exact regardless of the chunk size and nobody busy-waits.
+ * Debts shorter than a millisecond are carried over to the next transfer instead of parking.
+ * <p>
+ * A limiter can be set per download with {@link HTTPDownloader#setBandwidthLimit(long)},
+ * shared between downloads with {@link HTTPDownloader#addBandwidthLimiter(BandwidthLimiter)},
+ * per host through {@link DownloadManager#getHostLimiter(String)} and for all downloads through
+ * {@link #global()}. The rate can be changed at any time.
+ * @since 1.0.0-alpha
+ */
+public final class BandwidthLimiter {
+    /** The rate of a limiter that does not limit. */
+    public static final long UNLIMITED = 0;
+    /** The default burst, the limiter allows this much time worth of bytes to be sent at once. */
+    public static final Duration DEFAULT_BURST = Duration.ofMillis(100);
+
+    private static final long MIN_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final BandwidthLimiter GLOBAL = new BandwidthLimiter(UNLIMITED);
+
+    private final Lock lock = new ReentrantLock();
+    private final Ticker ticker;
+    private final long burstNanos;
+    private volatile long bytesPerSecond;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Creates a new limiter with the specified rate and the {@link #DEFAULT_BURST}.
+     * @param bytesPerSecond the maximum rate or {@link #UNLIMITED}
+     * @throws IllegalArgumentException if {@code bytesPerSecond} is negative
+     */
+    public BandwidthLimiter(final long bytesPerSecond) {
+        this(bytesPerSecond, DEFAULT_BURST);
+    }
+
+    /**
+     * Creates a new limiter with the specified rate and burst.
+     * @param bytesPerSecond the maximum rate or {@link #UNLIMITED}
+     * @param burst the time worth of bytes that may be sent at once after being idle
+     * @throws IllegalArgumentException if {@code bytesPerSecond} is negative
+     * or {@code burst} is null or not positive
+     */
+    public BandwidthLimiter(final long bytesPerSecond, final Duration burst) {
+        this(bytesPerSecond, burst, Ticker.SYSTEM);
+    }
+
+    /**
+     * Creates a new limiter with the specified rate and burst, reading the time from the specified ticker.
+     * @param bytesPerSecond the maximum rate or {@link #UNLIMITED}
+     * @param burst the time worth of bytes that may be sent at once after being idle
+     * @param ticker the time source, replaced in tests
+     */
+    BandwidthLimiter(final long bytesPerSecond, final Duration burst, final Ticker ticker) {
+        checkArgument(bytesPerSecond >= 0, "Bytes per second cannot be negative!");
+        checkArgumentNotNull(burst, cannotBeNull("burst"));
+        checkArgument(burst.isPositive(), "Burst must be positive!");
+        this.ticker = ticker;
+        this.burstNanos = burst.toNanos();
+        this.bytesPerSecond = bytesPerSecond;
+        this.lastRefill = ticker.nanoTime();
+        this.tokens = capacity(bytesPerSecond);
+    }
+
+    /**
+     * Returns the limiter shared by all downloads, unlimited until a rate is set.
+     * @return the limiter shared by all downloads
+     */
+    public static BandwidthLimiter global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Creates a new limiter with the specified rate.
+     * @param bytesPerSecond the maximum rate or {@link #UNLIMITED}
+     * @return a new limiter
+     * @throws IllegalArgumentException if {@code bytesPerSecond} is negative
+     */
+    @Contract("_ -> new")
+    public static @NotNull BandwidthLimiter of(final long bytesPerSecond) {
+        return new BandwidthLimiter(bytesPerSecond);
+    }
+
+    /**
+     * Takes the specified number of tokens, parking the current thread until
+     * the rate allows that many bytes to be transferred.
+     * @param bytes the number of bytes transferred
+     * @throws InterruptedIOException if the thread is interrupted while parked
+     */
+    public void acquire(final long bytes) throws InterruptedIOException {
+        // Unlimited limiters cost a single volatile read.
+        if (bytes <= 0 || bytesPerSecond == UNLIMITED) return;
+
+        final long waitNanos;
+
+        lock.lock();
+        try {
+            final long rate = bytesPerSecond;
+            if (rate == UNLIMITED) return;
+
+            refill(rate, ticker.nanoTime());
+            tokens -= bytes;
+            waitNanos = tokens < 0 ? (long) (-tokens * NANOS_PER_SECOND / rate) : 0;
+        } finally {
+            lock.unlock();
+        }
+
+        if (waitNanos < MIN_PARK_NANOS) return;
+
+        final long deadline = ticker.nanoTime() + waitNanos;
+        long remaining = waitNanos;
+        while (remaining > 0) {
+            ticker.parkNanos(this, remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Interrupted while throttled!");
+            }
+            remaining = deadline - ticker.nanoTime();
+        }
+    }
+
+    /**
+     * Returns the maximum rate.
+     * @return the maximum rate or {@link #UNLIMITED}
+     */
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Changes the maximum rate, taking effect for the next transfer of every download using this limiter.
+     * @param bytesPerSecond the new maximum rate or {@link #UNLIMITED}
+     * @return this instance
+     * @throws IllegalArgumentException if {@code bytesPerSecond} is negative
+     */
+    public BandwidthLimiter setBytesPerSecond(final long bytesPerSecond) {
+        checkArgument(bytesPerSecond >= 0, "Bytes per second cannot be negative!");
+
+        lock.lock();
+        try {
+            final long now = ticker.nanoTime();
+            final long previous = this.bytesPerSecond;
+
+            if (previous == UNLIMITED) {
+                tokens = capacity(bytesPerSecond);
+                lastRefill = now;
+            } else {
+                // Settle the tokens earned at the old rate before switching.
+                refill(previous, now);
+                tokens = Math.min(tokens, capacity(bytesPerSecond));
+            }
+
+            this.bytesPerSecond = bytesPerSecond;
+        } finally {
+            lock.unlock();
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks if this limiter does not limit.
+     * @return true if this limiter does not limit
+     */
+    public boolean isUnlimited() {
+        return bytesPerSecond == UNLIMITED;
+    }
+
+    /** Must be called while holding the lock. */
+    private void refill(final long rate, final long now) {
+        tokens = Math.min(capacity(rate), tokens + (now - lastRefill) * rate / NANOS_PER_SECOND);
+        lastRefill = now;
+    }
+
+    private double capacity(final long rate) {
+        return Math.max(1, rate * (burstNanos / NANOS_PER_SECOND));
+    }
+
+    @Override
+    public String toString() {
+        return "BandwidthLimiter{bytesPerSecond=" + bytesPerSecond + '}';
+    }
+
+    /**
+     * The time source of a limiter and the way it waits for that time to pass.
+     */
+    interface Ticker {
+        /** Reads the system time and parks the thread. */
+        Ticker SYSTEM = new Ticker() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void parkNanos(final Object blocker, final long nanos) {
+                LockSupport.parkNanos(blocker, nanos);
+            }
+        };
+
+        /**
+         * Returns the current time.
+         * @return the current time in nanoseconds, only meaningful relative to other readings
+         */
+        long nanoTime();
+
+        /**
+         * Waits for up to the specified time, returning early if the thread is interrupted.
+         * @param blocker the object the thread is waiting on
+         * @param nanos the maximum time to wait
+         */
+        void parkNanos(Object blocker, long nanos);
+    }
+}
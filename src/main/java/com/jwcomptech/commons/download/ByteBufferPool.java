@@ -0,0 +1,138 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+
+/**
+ * A thread safe pool of fixed size {@link ByteBuffer}s used by the {@link HTTPDownloader} transfer loop.
+ * <p>
+ * Buffers are handed out with {@link #acquire()} and returned with {@link #release(ByteBuffer)}, so a
+ * download reuses the same buffer for every chunk it reads instead of allocating a new array per read.
+ * At most {@code maxPooled} idle buffers are retained, extra released buffers are left to the garbage
+ * collector.
+ * @since 1.0.0-alpha
+ */
+@SuppressWarnings("unused")
+public final class ByteBufferPool {
+    /** The default size of each pooled buffer. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /** The default maximum number of idle buffers retained by the shared pools. */
+    public static final int DEFAULT_MAX_POOLED = 64;
+
+    private static final ByteBufferPool HEAP = new ByteBufferPool(DEFAULT_BUFFER_SIZE, false, DEFAULT_MAX_POOLED);
+    private static final ByteBufferPool DIRECT = new ByteBufferPool(DEFAULT_BUFFER_SIZE, true, DEFAULT_MAX_POOLED);
+
+    private final int bufferSize;
+    private final boolean direct;
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    /**
+     * Creates a new pool.
+     * @param bufferSize the capacity of each buffer
+     * @param direct if true the pool hands out direct buffers
+     * @param maxPooled the maximum number of idle buffers to retain
+     * @throws IllegalArgumentException if {@code bufferSize} or {@code maxPooled} is less than 1
+     */
+    public ByteBufferPool(final int bufferSize, final boolean direct, final int maxPooled) {
+        checkArgument(bufferSize > 0, "Buffer size must be greater than 0!");
+        checkArgument(maxPooled > 0, "Max pooled must be greater than 0!");
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+        // ArrayBlockingQueue does not allocate a node per offer, unlike the linked queues.
+        this.buffers = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    /**
+     * Returns the shared pool of heap buffers.
+     * @return the shared pool of heap buffers
+     */
+    @Contract(pure = true)
+    public static @NotNull ByteBufferPool heap() {
+        return HEAP;
+    }
+
+    /**
+     * Returns the shared pool of direct buffers.
+     * @return the shared pool of direct buffers
+     */
+    @Contract(pure = true)
+    public static @NotNull ByteBufferPool direct() {
+        return DIRECT;
+    }
+
+    /**
+     * Takes an idle buffer from the pool or allocates a new one if the pool is empty.
+     * The returned buffer is cleared.
+     * @return a cleared buffer
+     */
+    public @NotNull ByteBuffer acquire() {
+        final ByteBuffer buffer = buffers.poll();
+        if (buffer != null) return buffer.clear();
+
+        return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers that were not created by this pool or
+     * that do not fit into the pool are dropped.
+     * @param buffer the buffer to return, may be null
+     */
+    public void release(final ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() != bufferSize || buffer.isDirect() != direct) return;
+
+        //noinspection ResultOfMethodCallIgnored
+        buffers.offer(buffer.clear());
+    }
+
+    /**
+     * Returns the capacity of each buffer.
+     * @return the capacity of each buffer
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Checks if this pool hands out direct buffers.
+     * @return true if this pool hands out direct buffers
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Returns the number of idle buffers currently held by the pool.
+     * @return the number of idle buffers currently held by the pool
+     */
+    public int getPooledCount() {
+        return buffers.size();
+    }
+}
@@ -40,7 +40,8 @@ public enum DLStatus implements BaseEnum<String> {
     COMPLETE("Complete"),
     CANCELLED("Cancelled"),
     ERROR("Error"),
-    IDLE("Idle");
+    IDLE("Idle"),
+    QUEUED("Queued");
 
     private final String value;
 }
@@ -0,0 +1,178 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.values.FloatValue;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A handle to a download queued in the {@link DownloadManager}. The handle can be used
+ * to monitor the status and progress of the download, to cancel it and to wait for its result.
+ *
+ * @param <T> the result type of the download
+ * @since 1.0.0-alpha
+ */
+@SuppressWarnings("unused")
+public final class DownloadHandle<T> implements Comparable<DownloadHandle<?>> {
+    private final HTTPDownloader downloader;
+    private final DownloadPriority priority;
+    private final long sequence;
+    private final Callable<T> task;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private volatile boolean queued = true;
+
+    DownloadHandle(final HTTPDownloader downloader,
+                   final DownloadPriority priority,
+                   final long sequence,
+                   final Callable<T> task) {
+        this.downloader = downloader;
+        this.priority = priority;
+        this.sequence = sequence;
+        this.task = task;
+    }
+
+    /**
+     * Returns the downloader performing the download.
+     * @return the downloader performing the download
+     */
+    public HTTPDownloader getDownloader() {
+        return downloader;
+    }
+
+    /**
+     * Returns the scheduling priority of the download.
+     * @return the scheduling priority of the download
+     */
+    public DownloadPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the host the download is fetched from, used for the per-host concurrency limit.
+     * @return the host the download is fetched from
+     */
+    public @NotNull String getHost() {
+        return downloader.getHost().get().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the status of the download, {@link DLStatus#QUEUED} while
+     * the download is waiting for a free slot.
+     * @return the status of the download
+     */
+    public DLStatus getStatus() {
+        return queued && !result.isDone() ? DLStatus.QUEUED : downloader.getStatus();
+    }
+
+    /**
+     * Returns the download's progress.
+     * @return the download's progress
+     */
+    public FloatValue getProgress() {
+        return downloader.getProgress();
+    }
+
+    /**
+     * Checks if the download is still waiting for a free slot.
+     * @return true if the download is still waiting for a free slot
+     */
+    public boolean isQueued() {
+        return queued && !result.isDone();
+    }
+
+    /**
+     * Checks if the download has finished, failed or was cancelled.
+     * @return true if the download has finished, failed or was cancelled
+     */
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * Cancels the download. A queued download is never started,
+     * a running download is stopped at its next read.
+     * @return this instance
+     */
+    public DownloadHandle<T> cancel() {
+        downloader.cancel();
+        if (queued) result.cancel(false);
+        return this;
+    }
+
+    /**
+     * Returns a future that completes with the result of the download.
+     * @return a future that completes with the result of the download
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        return result;
+    }
+
+    /**
+     * Waits for the download to finish and returns its result.
+     * @return the result of the download
+     * @throws java.util.concurrent.CompletionException if the download failed
+     * @throws java.util.concurrent.CancellationException if the download was cancelled
+     */
+    public T join() {
+        return result.join();
+    }
+
+    /**
+     * Runs the download on the current thread, only called by the {@link DownloadManager}.
+     */
+    void run() {
+        queued = false;
+        if (result.isDone()) return;
+
+        try {
+            result.complete(task.call());
+        } catch (final Exception e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Fails the download without running it, only called by the {@link DownloadManager}.
+     * @param cause the reason the download could not be started
+     */
+    void fail(final Throwable cause) {
+        queued = false;
+        result.completeExceptionally(cause);
+    }
+
+    @Override
+    public int compareTo(final @NotNull DownloadHandle<?> other) {
+        final int byPriority = other.priority.compareTo(priority);
+        return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+    }
+
+    @Override
+    public String toString() {
+        return "DownloadHandle{url=%s, priority=%s, status=%s}"
+                .formatted(downloader.getUrl(), priority, getStatus());
+    }
+}
@@ -0,0 +1,192 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * The on-disk record of a partially completed {@link HTTPDownloader} download,
+ * stored as JSON next to the partial file so the download can be resumed
+ * after the JVM restarts.
+ *
+ * @param url the url being downloaded
+ * @param etag the {@code ETag} the server sent for the file, may be null
+ * @param lastModified the {@code Last-Modified} date the server sent for the file, may be null
+ * @param totalSize the total size of the file in bytes
+ * @param segments the progress of every segment of the download
+ * @since 1.0.0-alpha
+ */
+public record DownloadJournal(String url,
+                              @Nullable String etag,
+                              @Nullable String lastModified,
+                              long totalSize,
+                              List<SegmentState> segments) {
+    /** The extension appended to the partial file's name to get the journal's name. */
+    public static final String EXTENSION = ".dljournal";
+
+    private static final Gson GSON = new Gson();
+
+    /**
+     * The saved progress of a single {@link DownloadSegment}.
+     *
+     * @param start the offset of the first byte of the segment
+     * @param end the offset of the last byte of the segment, inclusive
+     * @param downloaded the number of bytes of the segment written to disk
+     */
+    public record SegmentState(long start, long end, long downloaded) { }
+
+    /**
+     * Creates a journal from the current state of a download.
+     * @param url the url being downloaded
+     * @param etag the {@code ETag} the server sent for the file, may be null
+     * @param lastModified the {@code Last-Modified} date the server sent for the file, may be null
+     * @param totalSize the total size of the file in bytes
+     * @param segments the segments of the download
+     * @return a new journal
+     */
+    @Contract("_, _, _, _, _ -> new")
+    public static @NotNull DownloadJournal of(final String url,
+                                              final String etag,
+                                              final String lastModified,
+                                              final long totalSize,
+                                              final @NotNull List<DownloadSegment> segments) {
+        return new DownloadJournal(url, etag, lastModified, totalSize, segments.stream()
+                .map(segment -> new SegmentState(segment.getStart(), segment.getEnd(), segment.getDownloaded()))
+                .toList());
+    }
+
+    /**
+     * Returns the path of the journal belonging to the specified partial file.
+     * @param file the partial file
+     * @return the path of the journal belonging to the specified partial file
+     */
+    public static @NotNull Path pathFor(final @NotNull Path file) {
+        return file.resolveSibling(file.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Reads the journal at the specified path.
+     * @param journalFile the journal to read
+     * @return the journal or empty if it does not exist or is unreadable
+     */
+    public static Optional<DownloadJournal> read(final @NotNull Path journalFile) {
+        if (!Files.isRegularFile(journalFile)) return Optional.empty();
+
+        try (final Reader reader = Files.newBufferedReader(journalFile, UTF_8)) {
+            final DownloadJournal journal = GSON.fromJson(reader, DownloadJournal.class);
+            return journal == null || journal.url == null || journal.segments == null
+                    ? Optional.empty()
+                    : Optional.of(journal);
+        } catch (final IOException | JsonParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes this journal to the specified path, replacing any existing journal.
+     * The journal is written to a temporary file first and then moved into place,
+     * so a crash never leaves a half written journal behind.
+     * @param journalFile the path to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(final @NotNull Path journalFile) throws IOException {
+        final Path temp = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+
+        try (final Writer writer = Files.newBufferedWriter(temp, UTF_8)) {
+            GSON.toJson(this, writer);
+        }
+
+        try {
+            Files.move(temp, journalFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, journalFile, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the journal at the specified path if it exists.
+     * @param journalFile the journal to delete
+     * @throws IOException if an I/O error occurs
+     */
+    public static void delete(final @NotNull Path journalFile) throws IOException {
+        Files.deleteIfExists(journalFile);
+    }
+
+    /**
+     * Returns the total number of bytes already written to disk.
+     * @return the total number of bytes already written to disk
+     */
+    public long getBytesCompleted() {
+        return segments.stream().mapToLong(SegmentState::downloaded).sum();
+    }
+
+    /**
+     * Returns the validator to send in the {@code If-Range} header when resuming,
+     * a strong {@code ETag} is preferred over the {@code Last-Modified} date.
+     * @return the validator or null if the server sent none usable
+     */
+    public @Nullable String getIfRangeValidator() {
+        return ifRangeValidator(etag, lastModified);
+    }
+
+    /**
+     * Returns the validator to send in the {@code If-Range} header for the specified
+     * response headers, a strong {@code ETag} is preferred over the {@code Last-Modified} date.
+     * @param etag the {@code ETag} the server sent, may be null
+     * @param lastModified the {@code Last-Modified} date the server sent, may be null
+     * @return the validator or null if neither is usable
+     */
+    @Contract(pure = true)
+    public static @Nullable String ifRangeValidator(final @Nullable String etag, final @Nullable String lastModified) {
+        // Weak ETags are not allowed in If-Range.
+        if (etag != null && !etag.startsWith("W/")) return etag;
+        return lastModified;
+    }
+
+    /**
+     * Recreates the segments described by this journal.
+     * @return the segments described by this journal
+     */
+    public @NotNull List<DownloadSegment> toSegments() {
+        return segments.stream()
+                .map(state -> new DownloadSegment(state.start(), state.end(), state.downloaded()))
+                .toList();
+    }
+}
@@ -22,29 +22,487 @@ package com.jwcomptech.commons.download;
  * #L%
  */
 
-import com.google.errorprone.annotations.DoNotCall;
+import com.google.gson.JsonArray;
 import com.jwcomptech.commons.annotations.Beta;
+import com.jwcomptech.commons.interfaces.Buildable;
+import com.jwcomptech.commons.utils.SingletonManager;
 import com.jwcomptech.commons.values.StringValue;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * Schedules downloads with a bounded number of concurrent downloads overall and per host.
+ * <p>
+ * Queued downloads are started in {@link DownloadPriority} order, downloads with the same
+ * priority are started in the order they were queued. A download whose host is already at
+ * its limit is skipped until a download from that host finishes, so one busy host never
+ * blocks downloads from other hosts. By default, each running download gets its own
+ * virtual thread, so a burst of queued downloads never creates more than the configured
+ * number of threads or connections.
+ * @since 1.0.0-alpha
+ */
 @SuppressWarnings("unused")
 @Beta
-//TODO Finish implementation
 public final class DownloadManager {
-    private DownloadManager() {
+    /** The default maximum number of downloads running at the same time. */
+    public static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 16;
+    /** The default maximum number of downloads running at the same time against a single host. */
+    public static final int DEFAULT_MAX_DOWNLOADS_PER_HOST = 4;
+
+    private final int maxConcurrentDownloads;
+    private final int maxDownloadsPerHost;
+    private final Executor executor;
+    // The executor this manager created itself and therefore has to shut down, null if supplied.
+    private final ExecutorService ownedExecutor;
+    private final DownloadTransport transport;
+    private final HttpCache cache;
+    private final long bandwidthLimitPerHost;
+    private final DownloadMetricsSink metricsSink;
+    private final Map<String, BandwidthLimiter> hostLimiters = new ConcurrentHashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private final Queue<DownloadHandle<?>> queue = new PriorityQueue<>();
+    private final Map<String, Integer> activePerHost = new HashMap<>();
+    private long sequence;
+    private int active;
+    private boolean shutdown;
+
+    private DownloadManager(final int maxConcurrentDownloads,
+                            final int maxDownloadsPerHost,
+                            final Executor executor,
+                            final ExecutorService ownedExecutor,
+                            final DownloadTransport transport,
+                            final HttpCache cache,
+                            final long bandwidthLimitPerHost,
+                            final DownloadMetricsSink metricsSink) {
+        this.maxConcurrentDownloads = maxConcurrentDownloads;
+        this.maxDownloadsPerHost = maxDownloadsPerHost;
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.transport = transport;
+        this.cache = cache;
+        this.bandwidthLimitPerHost = bandwidthLimitPerHost;
+        this.metricsSink = metricsSink;
+    }
+
+    /**
+     * Returns the global download manager, using the default limits.
+     * @return the global download manager
+     */
+    public static DownloadManager getInstance() {
+        return SingletonManager.getInstance(DownloadManager.class, () -> builder().build());
+    }
+
+    /**
+     * Returns a new builder for creating a download manager with custom limits.
+     * @return a new builder for creating a download manager with custom limits
+     */
+    @Contract(" -> new")
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Queues the specified file for download into the current directory with {@link DownloadPriority#NORMAL}.
+     * @param url the url of the file to download
+     * @return the handle of the queued download
+     * @throws MalformedURLException if the url is invalid
+     */
+    public DownloadHandle<HTTPDownloader> download(final String url) throws MalformedURLException {
+        return download(new HTTPDownloader(url).setTransport(transport), DownloadPriority.NORMAL);
+    }
+
+    /**
+     * Queues the specified file for download into the specified directory.
+     * @param downloadDir the directory to download the file to
+     * @param url the url of the file to download
+     * @param priority the scheduling priority of the download
+     * @return the handle of the queued download
+     * @throws MalformedURLException if the url is invalid
+     */
+    public DownloadHandle<HTTPDownloader> download(final String downloadDir,
+                                                   final String url,
+                                                   final DownloadPriority priority)
+            throws MalformedURLException {
+        return download(new HTTPDownloader(downloadDir, url).setTransport(transport), priority);
+    }
+
+    /**
+     * Queues the specified downloader to download its file.
+     * @param downloader the downloader to run
+     * @param priority the scheduling priority of the download
+     * @return the handle of the queued download
+     * @throws IllegalArgumentException if {@code downloader} or {@code priority} is null
+     * @throws IllegalStateException if this manager has been shut down
+     */
+    public DownloadHandle<HTTPDownloader> download(final HTTPDownloader downloader,
+                                                   final DownloadPriority priority) {
+        checkArgumentNotNull(downloader, cannotBeNull("downloader"));
+        downloader.addBandwidthLimiter(getHostLimiter(downloader.getHost().get()));
+        if (metricsSink != null) downloader.setMetricsSink(metricsSink);
+        return submit(downloader, priority, () -> {
+            downloader.downloadNow();
+            return downloader;
+        });
+    }
+
+    /**
+     * Fetches the specified url as a string, waiting for a free slot if needed.
+     * The response is served from the cache if one is set and the response is fresh.
+     * @param url the url to fetch
+     * @return the result as a string or an empty string if the request failed
+     * @throws IOException if any errors occur
+     */
+    public StringValue getString(final String url) throws IOException {
+        final HTTPDownloader downloader = new HTTPDownloader(url).setTransport(transport).setCache(cache);
+        return StringValue.of(await(submit(downloader, DownloadPriority.NORMAL,
+                downloader::processTextAsString)).orElse(""));
+    }
+
+    /**
+     * Fetches the specified url as a json array, waiting for a free slot if needed.
+     * The response is served from the cache if one is set and the response is fresh.
+     * @param url the url to fetch
+     * @return the result as a json array or empty if the request failed
+     * @throws IOException if any errors occur
+     */
+    public Optional<JsonArray> getJSON(final String url) throws IOException {
+        final HTTPDownloader downloader = new HTTPDownloader(url).setTransport(transport).setCache(cache);
+        return await(submit(downloader, DownloadPriority.NORMAL, downloader::processJSONAsArray));
+    }
+
+    /**
+     * Returns the number of downloads waiting for a free slot.
+     * @return the number of downloads waiting for a free slot
+     */
+    public int getQueuedCount() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of downloads currently running.
+     * @return the number of downloads currently running
+     */
+    public int getActiveCount() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum number of downloads running at the same time.
+     * @return the maximum number of downloads running at the same time
+     */
+    public int getMaxConcurrentDownloads() {
+        return maxConcurrentDownloads;
+    }
+
+    /**
+     * Returns the maximum number of downloads running at the same time against a single host.
+     * @return the maximum number of downloads running at the same time against a single host
+     */
+    public int getMaxDownloadsPerHost() {
+        return maxDownloadsPerHost;
+    }
+
+    /**
+     * Returns the transport used by the downloaders this manager creates.
+     * @return the transport used by the downloaders this manager creates
+     */
+    public DownloadTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Returns the limiter shared by all file downloads of this manager from the specified host,
+     * its rate can be changed at any time.
+     * @param host the host name
+     * @return the limiter of the host, initially limited to the configured per host limit
+     */
+    public BandwidthLimiter getHostLimiter(final String host) {
+        checkArgumentNotNull(host, cannotBeNull("host"));
+        return hostLimiters.computeIfAbsent(host.toLowerCase(Locale.ROOT),
+                ignored -> new BandwidthLimiter(bandwidthLimitPerHost));
     }
 
-    @DoNotCall
-    public static void download(final String url) {
+    /**
+     * Returns the cache the text and JSON fetches go through.
+     * @return the cache or null if caching is disabled
+     */
+    public HttpCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Stops accepting new downloads and cancels all queued downloads.
+     * Running downloads are allowed to finish, after which the executor
+     * is shut down if it was created by this manager.
+     */
+    public void shutdown() {
+        final List<DownloadHandle<?>> cancelled;
+
+        lock.lock();
+        try {
+            shutdown = true;
+            cancelled = new ArrayList<>(queue);
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        cancelled.forEach(DownloadHandle::cancel);
+        if (ownedExecutor != null) ownedExecutor.shutdown();
+    }
+
+    private <T> @NotNull DownloadHandle<T> submit(final HTTPDownloader downloader,
+                                                  final DownloadPriority priority,
+                                                  final Callable<T> task) {
+        checkArgumentNotNull(priority, cannotBeNull("priority"));
+
+        final DownloadHandle<T> handle;
+
+        lock.lock();
+        try {
+            if (shutdown) throw new IllegalStateException("DownloadManager has been shut down!");
+            handle = new DownloadHandle<>(downloader, priority, sequence++, task);
+            queue.add(handle);
+        } finally {
+            lock.unlock();
+        }
+
+        handle.toCompletableFuture().whenComplete((result, error) -> {
+            if (error instanceof CancellationException) dequeue(handle);
+        });
+        dispatch();
+        return handle;
+    }
+
+    /**
+     * Starts as many queued downloads as the limits allow.
+     */
+    private void dispatch() {
+        final List<DownloadHandle<?>> ready = new ArrayList<>();
+
+        lock.lock();
+        try {
+            final List<DownloadHandle<?>> skipped = new ArrayList<>();
+
+            while (active < maxConcurrentDownloads && !queue.isEmpty()) {
+                final DownloadHandle<?> next = queue.poll();
+                final int hostActive = activePerHost.getOrDefault(next.getHost(), 0);
+
+                if (hostActive >= maxDownloadsPerHost) {
+                    skipped.add(next);
+                    continue;
+                }
+
+                activePerHost.put(next.getHost(), hostActive + 1);
+                active++;
+                ready.add(next);
+            }
+
+            queue.addAll(skipped);
+        } finally {
+            lock.unlock();
+        }
 
+        for (final DownloadHandle<?> handle : ready) {
+            try {
+                executor.execute(() -> run(handle));
+            } catch (final RejectedExecutionException e) {
+                release(handle);
+                handle.fail(e);
+            }
+        }
     }
 
-    @DoNotCall
-    public static StringValue getString(final String url) {
-        return StringValue.of("");
+    private void run(final DownloadHandle<?> handle) {
+        try {
+            handle.run();
+        } finally {
+            release(handle);
+            dispatch();
+        }
     }
 
-    @DoNotCall
-    public static StringValue getJSON(final String url) {
-        return StringValue.of("");
+    /**
+     * Removes a cancelled download from the queue, so it neither keeps its downloader
+     * reachable nor takes a slot once its turn comes.
+     */
+    private void dequeue(final DownloadHandle<?> handle) {
+        lock.lock();
+        try {
+            queue.remove(handle);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees the slots taken by the specified download when it was dispatched.
+     */
+    private void release(final DownloadHandle<?> handle) {
+        lock.lock();
+        try {
+            active--;
+            activePerHost.computeIfPresent(handle.getHost(), (host, count) -> count > 1 ? count - 1 : null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <T> T await(final DownloadHandle<T> handle) throws IOException {
+        try {
+            return handle.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final IOException ioException) throw ioException;
+            throw e;
+        }
+    }
+
+    /**
+     * The builder class for the DownloadManager.
+     */
+    public static final class Builder implements Buildable<DownloadManager> {
+        private int maxConcurrentDownloads = DEFAULT_MAX_CONCURRENT_DOWNLOADS;
+        private int maxDownloadsPerHost = DEFAULT_MAX_DOWNLOADS_PER_HOST;
+        private Executor executor;
+        private DownloadTransport transport;
+        private HttpCache cache;
+        private long bandwidthLimitPerHost = BandwidthLimiter.UNLIMITED;
+        private DownloadMetricsSink metricsSink;
+
+        private Builder() { }
+
+        /**
+         * Sets the maximum number of downloads running at the same time.
+         *
+         * @param maxConcurrentDownloads the maximum number of downloads
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code maxConcurrentDownloads} is less than 1
+         */
+        public Builder withMaxConcurrentDownloads(final int maxConcurrentDownloads) {
+            checkArgument(maxConcurrentDownloads > 0, "Max concurrent downloads must be greater than 0!");
+            this.maxConcurrentDownloads = maxConcurrentDownloads;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of downloads running at the same time against a single host.
+         *
+         * @param maxDownloadsPerHost the maximum number of downloads per host
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code maxDownloadsPerHost} is less than 1
+         */
+        public Builder withMaxDownloadsPerHost(final int maxDownloadsPerHost) {
+            checkArgument(maxDownloadsPerHost > 0, "Max downloads per host must be greater than 0!");
+            this.maxDownloadsPerHost = maxDownloadsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to run downloads, by default each download
+         * runs on a new virtual thread. A supplied executor is never shut down by the manager.
+         *
+         * @param executor the executor to run downloads on
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code executor} is null
+         */
+        public Builder withExecutor(final Executor executor) {
+            checkArgumentNotNull(executor, cannotBeNull("executor"));
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the transport used by the downloaders this manager creates,
+         * by default {@link DownloadTransport#getDefault()} is used.
+         *
+         * @param transport the transport to send requests with
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code transport} is null
+         */
+        public Builder withTransport(final DownloadTransport transport) {
+            checkArgumentNotNull(transport, cannotBeNull("transport"));
+            this.transport = transport;
+            return this;
+        }
+
+        /**
+         * Sets the cache the text and JSON fetches of this manager go through,
+         * by default responses are not cached.
+         *
+         * @param cache the cache to use or null to disable caching
+         * @return this instance to for method chaining
+         */
+        public Builder withCache(final HttpCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the initial throughput limit shared by all file downloads from the same host,
+         * by default downloads are not limited per host.
+         *
+         * @param bytesPerSecond the maximum rate per host or {@link BandwidthLimiter#UNLIMITED}
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code bytesPerSecond} is negative
+         */
+        public Builder withBandwidthLimitPerHost(final long bytesPerSecond) {
+            checkArgument(bytesPerSecond >= 0, "Bytes per second cannot be negative!");
+            this.bandwidthLimitPerHost = bytesPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the sink the metrics of every file download of this manager are reported to,
+         * such as {@link AggregateDownloadMetrics#getInstance()}. By default, downloads keep
+         * their own sink.
+         *
+         * @param metricsSink the sink to report to
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code metricsSink} is null
+         */
+        public Builder withMetricsSink(final DownloadMetricsSink metricsSink) {
+            checkArgumentNotNull(metricsSink, cannotBeNull("metricsSink"));
+            this.metricsSink = metricsSink;
+            return this;
+        }
+
+        /**
+         * Builds a new DownloadManager instance with the set parameters.
+         *
+         * @return a new DownloadManager instance
+         */
+        @Override
+        public DownloadManager build() {
+            final ExecutorService owned = executor != null ? null : Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("DownloadManager-", 0).factory());
+            return new DownloadManager(maxConcurrentDownloads, maxDownloadsPerHost,
+                    executor != null ? executor : owned,
+                    owned,
+                    transport != null ? transport : DownloadTransport.getDefault(),
+                    cache,
+                    bandwidthLimitPerHost,
+                    metricsSink);
+        }
     }
 }
@@ -0,0 +1,266 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.values.DoubleValue;
+import com.jwcomptech.commons.values.IntegerValue;
+import com.jwcomptech.commons.values.LongValue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * The throughput and latency of a single {@link HTTPDownloader} file download.
+ * <p>
+ * While the download runs, the throughput is sampled every second: the instantaneous rate is
+ * the rate of the last second, the average rate is an exponentially weighted moving average
+ * over roughly the last five seconds. A download that receives no bytes for the stall timeout
+ * is marked stalled until bytes arrive again. The values are reset when a download starts.
+ * @since 1.0.0-alpha
+ */
+public final class DownloadMetrics {
+    /** The default time without receiving bytes after which a download is considered stalled. */
+    public static final Duration DEFAULT_STALL_TIMEOUT = Duration.ofSeconds(10);
+    /** The interval the throughput is sampled at. */
+    public static final Duration SAMPLE_INTERVAL = Duration.ofSeconds(1);
+
+    private static final double EWMA_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongAdder bytes = new LongAdder();
+    private final DoubleValue bytesPerSecond = DoubleValue.atomic(0);
+    private final DoubleValue averageBytesPerSecond = DoubleValue.atomic(0);
+    private final LongValue connectTime = LongValue.atomic(-1);
+    private final LongValue timeToFirstByte = LongValue.atomic(-1);
+    private final IntegerValue retries = IntegerValue.atomic(0);
+    private final IntegerValue stalls = IntegerValue.atomic(0);
+    private volatile Duration stallTimeout = DEFAULT_STALL_TIMEOUT;
+    private volatile boolean stalled;
+    private volatile long requestStart;
+    private volatile boolean firstByteReceived;
+    private long lastSampleTime;
+    private long lastSampleBytes;
+    private long lastProgressTime;
+
+    DownloadMetrics() { }
+
+    /**
+     * Returns the rate of the last sample interval in bytes per second.
+     * @return the instantaneous throughput
+     */
+    public DoubleValue getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Returns the exponentially weighted moving average of the throughput in bytes per second.
+     * @return the average throughput
+     */
+    public DoubleValue getAverageBytesPerSecond() {
+        return averageBytesPerSecond;
+    }
+
+    /**
+     * Returns the time in milliseconds from sending the first request until its response headers
+     * arrived, which includes resolving the host and the TCP and TLS handshakes if no pooled
+     * connection was available.
+     * @return the connection setup time or -1 if not connected yet
+     */
+    public LongValue getConnectTime() {
+        return connectTime;
+    }
+
+    /**
+     * Returns the time in milliseconds from sending the first request until the first byte of the file arrived.
+     * @return the time to first byte or -1 if no byte arrived yet
+     */
+    public LongValue getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * Returns the number of requests that were retried after failing.
+     * @return the number of retries
+     */
+    public IntegerValue getRetries() {
+        return retries;
+    }
+
+    /**
+     * Returns the number of times the download stalled.
+     * @return the number of stalls
+     */
+    public IntegerValue getStalls() {
+        return stalls;
+    }
+
+    /**
+     * Returns the number of bytes received during the current download,
+     * counting bytes received for retried requests only once they were written.
+     * @return the number of bytes received
+     */
+    public long getBytesReceived() {
+        return bytes.sum();
+    }
+
+    /**
+     * Checks if the download has not received any bytes for the stall timeout.
+     * @return true if the download is stalled
+     */
+    public boolean isStalled() {
+        return stalled;
+    }
+
+    /**
+     * Returns the time without receiving bytes after which the download is considered stalled.
+     * @return the stall timeout
+     */
+    public Duration getStallTimeout() {
+        return stallTimeout;
+    }
+
+    /**
+     * Sets the time without receiving bytes after which the download is considered stalled.
+     * @param stallTimeout the stall timeout
+     * @return this instance
+     * @throws IllegalArgumentException if {@code stallTimeout} is null or not positive
+     */
+    public DownloadMetrics setStallTimeout(final Duration stallTimeout) {
+        checkArgumentNotNull(stallTimeout, cannotBeNull("stallTimeout"));
+        checkArgument(stallTimeout.isPositive(), "Stall timeout must be positive!");
+        this.stallTimeout = stallTimeout;
+        return this;
+    }
+
+    synchronized void reset() {
+        final long now = System.nanoTime();
+        bytes.reset();
+        bytesPerSecond.set(0);
+        averageBytesPerSecond.set(0);
+        connectTime.set(-1);
+        timeToFirstByte.set(-1);
+        retries.set(0);
+        stalls.set(0);
+        stalled = false;
+        firstByteReceived = false;
+        requestStart = now;
+        lastSampleTime = now;
+        lastSampleBytes = 0;
+        lastProgressTime = now;
+    }
+
+    /**
+     * Records that the first request is about to be sent.
+     */
+    void requestStarted() {
+        requestStart = System.nanoTime();
+    }
+
+    /**
+     * Records that the response headers of the first request arrived.
+     * @return the connection setup time in nanoseconds
+     */
+    long responseReceived() {
+        final long elapsed = System.nanoTime() - requestStart;
+        connectTime.set(TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return elapsed;
+    }
+
+    /**
+     * Records received bytes, called for every chunk so it must stay cheap.
+     * @param count the number of bytes received
+     * @return the time to first byte in nanoseconds if these are the first bytes, otherwise -1
+     */
+    long bytesReceived(final long count) {
+        bytes.add(count);
+        if (firstByteReceived) return -1;
+
+        synchronized (this) {
+            if (firstByteReceived) return -1;
+            firstByteReceived = true;
+            final long elapsed = System.nanoTime() - requestStart;
+            timeToFirstByte.set(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            return elapsed;
+        }
+    }
+
+    /**
+     * Records a retried request.
+     */
+    void retried() {
+        retries.increment();
+    }
+
+    /**
+     * Updates the throughput and stall state.
+     * @param now the current {@link System#nanoTime()}
+     * @return true if the download stalled since the last sample
+     */
+    synchronized boolean sample(final long now) {
+        final long elapsed = now - lastSampleTime;
+        if (elapsed <= 0) return false;
+
+        final long total = bytes.sum();
+        final long delta = total - lastSampleBytes;
+        final double rate = delta * NANOS_PER_SECOND / elapsed;
+
+        // Weight the new rate by the time it covers, so irregular samples average correctly.
+        final double alpha = 1 - Math.exp(-elapsed / EWMA_WINDOW_NANOS);
+        final double average = averageBytesPerSecond.get();
+        bytesPerSecond.set(rate);
+        averageBytesPerSecond.set(average + alpha * (rate - average));
+
+        lastSampleTime = now;
+        lastSampleBytes = total;
+
+        if (delta > 0) {
+            lastProgressTime = now;
+            stalled = false;
+            return false;
+        }
+
+        if (!stalled && now - lastProgressTime >= stallTimeout.toNanos()) {
+            stalled = true;
+            stalls.increment();
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "DownloadMetrics{bytesPerSecond=" + bytesPerSecond
+                + ", averageBytesPerSecond=" + averageBytesPerSecond
+                + ", connectTime=" + connectTime
+                + ", timeToFirstByte=" + timeToFirstByte
+                + ", retries=" + retries
+                + ", stalls=" + stalls
+                + ", stalled=" + stalled + '}';
+    }
+}
@@ -0,0 +1,95 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * The JMX view of {@link AggregateDownloadMetrics}.
+ * @since 1.0.0-alpha
+ */
+public interface DownloadMetricsMXBean {
+    /**
+     * Returns the number of downloads currently running.
+     * @return the number of downloads currently running
+     */
+    int getActiveDownloads();
+
+    /**
+     * Returns the number of downloads that completed.
+     * @return the number of downloads that completed
+     */
+    long getCompletedDownloads();
+
+    /**
+     * Returns the number of downloads that failed.
+     * @return the number of downloads that failed
+     */
+    long getFailedDownloads();
+
+    /**
+     * Returns the number of bytes received by all downloads.
+     * @return the number of bytes received by all downloads
+     */
+    long getBytesReceived();
+
+    /**
+     * Returns the combined instantaneous throughput of the running downloads in bytes per second.
+     * @return the combined instantaneous throughput
+     */
+    double getBytesPerSecond();
+
+    /**
+     * Returns the combined average throughput of the running downloads in bytes per second.
+     * @return the combined average throughput
+     */
+    double getAverageBytesPerSecond();
+
+    /**
+     * Returns the mean connection setup time in milliseconds.
+     * @return the mean connection setup time or 0 if nothing connected yet
+     */
+    double getMeanConnectTimeMillis();
+
+    /**
+     * Returns the mean time to first byte in milliseconds.
+     * @return the mean time to first byte or 0 if no byte arrived yet
+     */
+    double getMeanTimeToFirstByteMillis();
+
+    /**
+     * Returns the number of retried requests.
+     * @return the number of retried requests
+     */
+    long getRetries();
+
+    /**
+     * Returns the number of times a download stalled.
+     * @return the number of stalls
+     */
+    long getStalls();
+
+    /**
+     * Returns the number of running downloads that are currently stalled.
+     * @return the number of stalled downloads
+     */
+    int getStalledDownloads();
+}
@@ -0,0 +1,143 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * Receives the metrics of {@link HTTPDownloader} file downloads, for example to publish them to a
+ * metrics registry. {@link AggregateDownloadMetrics} is a sink that aggregates all downloads and
+ * publishes them over JMX.
+ * <p>
+ * Callbacks are invoked on the download threads and must not block.
+ * @since 1.0.0-alpha
+ */
+public interface DownloadMetricsSink {
+    /** A sink that ignores all metrics. */
+    DownloadMetricsSink NOOP = new DownloadMetricsSink() { };
+
+    /**
+     * Returns a sink that forwards all metrics to the specified sinks in order.
+     * @param sinks the sinks to forward to
+     * @return a sink that forwards to all specified sinks
+     * @throws IllegalArgumentException if {@code sinks} is null
+     */
+    @Contract("_ -> new")
+    static @NotNull DownloadMetricsSink composite(final DownloadMetricsSink... sinks) {
+        checkArgumentNotNull(sinks, cannotBeNull("sinks"));
+        final List<DownloadMetricsSink> targets = List.of(sinks);
+
+        return new DownloadMetricsSink() {
+            @Override
+            public void started(final HTTPDownloader downloader) {
+                targets.forEach(sink -> sink.started(downloader));
+            }
+
+            @Override
+            public void connected(final HTTPDownloader downloader, final long connectNanos) {
+                targets.forEach(sink -> sink.connected(downloader, connectNanos));
+            }
+
+            @Override
+            public void firstByte(final HTTPDownloader downloader, final long timeToFirstByteNanos) {
+                targets.forEach(sink -> sink.firstByte(downloader, timeToFirstByteNanos));
+            }
+
+            @Override
+            public void sampled(final HTTPDownloader downloader, final DownloadMetrics metrics) {
+                targets.forEach(sink -> sink.sampled(downloader, metrics));
+            }
+
+            @Override
+            public void retried(final HTTPDownloader downloader, final int attempt, final IOException cause) {
+                targets.forEach(sink -> sink.retried(downloader, attempt, cause));
+            }
+
+            @Override
+            public void stalled(final HTTPDownloader downloader) {
+                targets.forEach(sink -> sink.stalled(downloader));
+            }
+
+            @Override
+            public void finished(final HTTPDownloader downloader, final DLStatus status, final DownloadMetrics metrics) {
+                targets.forEach(sink -> sink.finished(downloader, status, metrics));
+            }
+        };
+    }
+
+    /**
+     * Called when a file download starts or resumes.
+     * @param downloader the download
+     */
+    default void started(final HTTPDownloader downloader) { }
+
+    /**
+     * Called when the response headers of the first request arrived.
+     * @param downloader the download
+     * @param connectNanos the time from sending the request until the headers arrived
+     */
+    default void connected(final HTTPDownloader downloader, final long connectNanos) { }
+
+    /**
+     * Called when the first byte of the file arrived.
+     * @param downloader the download
+     * @param timeToFirstByteNanos the time from sending the first request until the first byte arrived
+     */
+    default void firstByte(final HTTPDownloader downloader, final long timeToFirstByteNanos) { }
+
+    /**
+     * Called every {@link DownloadMetrics#SAMPLE_INTERVAL} while the download runs.
+     * @param downloader the download
+     * @param metrics the updated metrics of the download
+     */
+    default void sampled(final HTTPDownloader downloader, final DownloadMetrics metrics) { }
+
+    /**
+     * Called when a failed request is retried.
+     * @param downloader the download
+     * @param attempt the number of the retry, starting at 1
+     * @param cause the failure that caused the retry
+     */
+    default void retried(final HTTPDownloader downloader, final int attempt, final IOException cause) { }
+
+    /**
+     * Called when the download has not received any bytes for the stall timeout.
+     * @param downloader the download
+     */
+    default void stalled(final HTTPDownloader downloader) { }
+
+    /**
+     * Called when the download stops, whether it completed, failed, was paused or cancelled.
+     * @param downloader the download
+     * @param status the status the download stopped with
+     * @param metrics the final metrics of the download
+     */
+    default void finished(final HTTPDownloader downloader, final DLStatus status, final DownloadMetrics metrics) { }
+}
@@ -0,0 +1,46 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.enums.BaseEnum;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Represents the scheduling priority of a download queued in the {@link DownloadManager}.
+ * Downloads with a higher priority are started first, downloads with the same
+ * priority are started in the order they were queued.
+ * @since 1.0.0-alpha
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public enum DownloadPriority implements BaseEnum<String> {
+    LOW("Low"),
+    NORMAL("Normal"),
+    HIGH("High"),
+    CRITICAL("Critical");
+
+    private final String value;
+}
@@ -0,0 +1,166 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+
+/**
+ * Represents a single byte range of a segmented {@link HTTPDownloader} download.
+ * <p>
+ * Each segment is fetched with its own {@code Range} request and written to the
+ * target file at its own offset, so the segments of one download can be transferred
+ * concurrently.
+ * @since 1.0.0-alpha
+ */
+@SuppressWarnings("unused")
+@Getter
+@ToString
+public final class DownloadSegment implements Serializable {
+    /** The offset of the first byte of this segment. */
+    private final long start;
+    /** The offset of the last byte of this segment, inclusive. */
+    private final long end;
+    /** The number of bytes of this segment that have been written to disk. */
+    private volatile long downloaded;
+
+    @Serial
+    private static final long serialVersionUID = 7816245710932875018L;
+
+    /**
+     * Creates a new segment covering the specified inclusive byte range.
+     * @param start the offset of the first byte
+     * @param end the offset of the last byte, inclusive
+     * @throws IllegalArgumentException if {@code start} is negative or greater than {@code end}
+     */
+    public DownloadSegment(final long start, final long end) {
+        this(start, end, 0);
+    }
+
+    /**
+     * Creates a new segment covering the specified inclusive byte range
+     * that has already been partially downloaded.
+     * @param start the offset of the first byte
+     * @param end the offset of the last byte, inclusive
+     * @param downloaded the number of bytes already written to disk
+     * @throws IllegalArgumentException if {@code start} is negative or greater than {@code end}
+     * or if {@code downloaded} is not within the segment
+     */
+    public DownloadSegment(final long start, final long end, final long downloaded) {
+        checkArgument(start >= 0 && start <= end, "Invalid segment range!");
+        checkArgument(downloaded >= 0 && downloaded <= end - start + 1, "Invalid segment progress!");
+        this.start = start;
+        this.end = end;
+        this.downloaded = downloaded;
+    }
+
+    /**
+     * Splits the specified byte range into the specified number of evenly sized segments.
+     * The last segment absorbs any remainder.
+     * @param offset the offset of the first byte to download
+     * @param length the number of bytes to download
+     * @param count the number of segments to create
+     * @return an unmodifiable list of segments covering the entire range
+     * @throws IllegalArgumentException if {@code length} or {@code count} is less than 1
+     */
+    @Contract(pure = true)
+    public static @NotNull @Unmodifiable List<DownloadSegment> split(final long offset,
+                                                                    final long length,
+                                                                    final int count) {
+        checkArgument(length > 0, "Length must be greater than 0!");
+        checkArgument(count > 0, "Count must be greater than 0!");
+
+        final int actualCount = (int) Math.min(count, length);
+        final long size = length / actualCount;
+        final List<DownloadSegment> segments = new ArrayList<>(actualCount);
+
+        for (int i = 0; i < actualCount; i++) {
+            final long start = offset + (i * size);
+            final long end = i == actualCount - 1 ? offset + length - 1 : start + size - 1;
+            segments.add(new DownloadSegment(start, end));
+        }
+
+        return Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Returns the total number of bytes in this segment.
+     * @return the total number of bytes in this segment
+     */
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * Returns the number of bytes of this segment left to download.
+     * @return the number of bytes of this segment left to download
+     */
+    public long getRemaining() {
+        return getLength() - downloaded;
+    }
+
+    /**
+     * Returns the file offset the next received byte will be written to.
+     * @return the file offset the next received byte will be written to
+     */
+    public long getPosition() {
+        return start + downloaded;
+    }
+
+    /**
+     * Checks if every byte of this segment has been downloaded.
+     * @return true if every byte of this segment has been downloaded
+     */
+    public boolean isComplete() {
+        return getRemaining() <= 0;
+    }
+
+    /**
+     * Returns the value of the {@code Range} header needed to request the remainder of this segment.
+     * @return the value of the {@code Range} header
+     */
+    public @NotNull String toRangeHeader() {
+        return "bytes=%d-%d".formatted(getPosition(), end);
+    }
+
+    /**
+     * Records that the specified number of bytes have been written to disk.
+     * Only the thread transferring this segment may call this method.
+     * @param bytes the number of bytes written
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    void advance(final long bytes) {
+        downloaded += bytes;
+    }
+}
@@ -0,0 +1,64 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends the HTTP requests of a {@link HTTPDownloader}.
+ * <p>
+ * The default transport is a shared {@link HttpClientTransport}, so all downloaders reuse
+ * pooled connections and multiplex requests to the same host over HTTP/2 where the server
+ * supports it. {@link URLConnectionTransport} is available for environments that need the
+ * legacy {@link java.net.HttpURLConnection} stack.
+ * @since 1.0.0-alpha
+ */
+@FunctionalInterface
+public interface DownloadTransport {
+    /** The default time allowed for establishing a connection. */
+    Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    /** The default time allowed for the server to respond. */
+    Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Returns the transport shared by all downloaders that were not given their own.
+     * @return the shared transport
+     */
+    static @NotNull DownloadTransport getDefault() {
+        return HttpClientTransport.getDefault();
+    }
+
+    /**
+     * Sends a GET request for the specified url and returns once the response headers arrive.
+     * @param url the url to request
+     * @param headers the request headers to send
+     * @return the response, which must be closed to release the connection
+     * @throws IOException if the request fails or times out
+     */
+    TransportResponse send(URL url, Map<String, String> headers) throws IOException;
+}
@@ -22,14 +22,21 @@ package com.jwcomptech.commons.download;
  * #L%
  */
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.jwcomptech.commons.utils.SecurityUtils.HashType;
 import com.jwcomptech.commons.validators.Condition;
 import com.jwcomptech.commons.validators.Validated;
 import com.jwcomptech.commons.values.*;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import lombok.SneakyThrows;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.NotNull;
@@ -37,16 +44,36 @@ import org.jetbrains.annotations.NotNull;
 import java.io.*;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.ProtocolException;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Optional;
-import java.util.function.Supplier;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
 import static com.jwcomptech.commons.download.DLStatus.*;
-import static com.jwcomptech.commons.utils.Parse.convertBytesToString;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 import static com.jwcomptech.commons.validators.Preconditions.isBoolean;
 
@@ -59,24 +86,68 @@ import static com.jwcomptech.commons.validators.Preconditions.isBoolean;
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
 public class HTTPDownloader extends Validated implements AutoCloseable, Runnable {
-    // Max size of download buffer.
-    private static final int MAX_BUFFER_SIZE = 1024;
+    // Number of bytes transferred between progress updates.
+    private static final long PROGRESS_UPDATE_SIZE = 256 * 1024;
+    // Smallest byte range worth splitting off into its own segment.
+    private static final long MIN_SEGMENT_SIZE = 1024 * 1024;
+    // Minimum time between two writes of the resume journal.
+    private static final long CHECKPOINT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    // Wait before the first retry, doubled for every further retry up to the maximum.
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(10);
 
     private final URL url;
     private MutableStringValue downloadDir;
-    private final IntegerValue totalDownloadSize;
-    private final IntegerValue totalBytesDownloaded;
+    private final LongValue totalDownloadSize;
+    private final LongValue totalBytesDownloaded;
+    private int segments;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private List<DownloadSegment> downloadSegments;
+    private boolean resumable;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private String etag;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private String lastModified;
+    private ByteBufferPool bufferPool;
+    private DownloadTransport transport;
+    private HttpCache cache;
+    private final BandwidthLimiter bandwidthLimiter;
+    private final List<BandwidthLimiter> sharedLimiters;
+    @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private HashType hashType;
+    @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private String expectedHash;
+    @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private String actualHash;
+    private int maxRetries;
+    private final transient DownloadMetrics metrics;
+    private DownloadMetricsSink metricsSink;
     private final EnumValue<DLStatus> status;
     private StringValue errorMessage;
     private final MutableStringValue filename;
     private final MutableStringValue filepath;
     private RandomAccessFile file;
     private InputStream stream;
-    private HttpURLConnection connection;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private TransportResponse response;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private transient Path journalPath;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private transient volatile long lastCheckpoint;
+    @Getter(AccessLevel.NONE) @EqualsAndHashCode.Exclude @ToString.Exclude
+    private final transient Object journalLock = new Object();
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private transient MessageDigest digest;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+    private transient long digestedUpTo;
+    @Getter(AccessLevel.NONE) @EqualsAndHashCode.Exclude @ToString.Exclude
+    private final transient Object digestLock = new Object();
 
     @Serial
     private static final long serialVersionUID = 1356368919575260587L;
 
+    private static final Gson GSON = new Gson();
+
     private enum Type {
         FileDownload,
         JSONDownload,
@@ -119,8 +190,17 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
 
         this.url = url;
         this.status = new EnumValue<>(DLStatus.IDLE);
-        this.totalDownloadSize = IntegerValue.of(-1);
-        this.totalBytesDownloaded = IntegerValue.of(0);
+        this.totalDownloadSize = LongValue.atomic(-1);
+        this.totalBytesDownloaded = LongValue.atomic(0);
+        this.segments = 1;
+        this.downloadSegments = List.of();
+        this.resumable = true;
+        this.bufferPool = ByteBufferPool.heap();
+        this.transport = DownloadTransport.getDefault();
+        this.bandwidthLimiter = new BandwidthLimiter(BandwidthLimiter.UNLIMITED);
+        this.sharedLimiters = new CopyOnWriteArrayList<>();
+        this.metrics = new DownloadMetrics();
+        this.metricsSink = DownloadMetricsSink.NOOP;
         this.filename = MutableStringValue.EMPTY();
         this.filepath = MutableStringValue.EMPTY();
         this.errorMessage = StringValue.EMPTY;
@@ -134,18 +214,48 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
         return StringValue.of(url.toString());
     }
 
+    /**
+     * Returns the host name of the download's URL.
+     * @return the host name of the download's URL
+     */
+    public StringValue getHost() {
+        return StringValue.of(url.getHost());
+    }
+
     /**
      * Returns the download's progress.
      * @return the download's progress
      */
     public FloatValue getProgress() {
-        float progress = totalBytesDownloaded
-                        .divide(totalDownloadSize)
-                        .multiply(100).floatValue();
+        final long total = totalDownloadSize.get();
+        if (total < 1) return FloatValue.of(0);
+
+        return FloatValue.of(totalBytesDownloaded.get() * 100.0F / total);
+    }
 
-        progress = Float.isNaN(progress) ? 0 : progress;
+    /**
+     * Returns the number of segments the file is split into when downloading.
+     * @return the number of segments the file is split into when downloading
+     */
+    public int getSegments() {
+        return segments;
+    }
 
-        return FloatValue.of(convertBytesToString(progress));
+    /**
+     * Sets the number of segments to split the file into when downloading. Each segment
+     * is fetched concurrently with its own {@code Range} request.
+     * <p>
+     * Segmenting is only used if the server advertises byte range support and the file is
+     * large enough for every segment to be at least 1 MiB, otherwise the file is downloaded
+     * over a single connection.
+     * @param segments the number of segments, 1 disables segmenting
+     * @return this instance
+     * @throws IllegalArgumentException if {@code segments} is less than 1
+     */
+    public HTTPDownloader setSegments(final int segments) {
+        checkArgument(segments > 0, "Segments must be greater than 0!");
+        this.segments = segments;
+        return this;
     }
 
     /**
@@ -156,6 +266,156 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
         return status.get();
     }
 
+    /**
+     * Sets if the download keeps a journal next to the partial file so that it can be resumed
+     * after the JVM restarts. The journal is deleted once the download completes.
+     * <p>
+     * A download is only resumed if the server sent an {@code ETag} or {@code Last-Modified}
+     * header, which is then sent back in an {@code If-Range} header. If the file changed on the
+     * server in the meantime the download starts over.
+     * @param resumable if true, the download keeps a journal, defaults to true
+     * @return this instance
+     */
+    public HTTPDownloader setResumable(final boolean resumable) {
+        this.resumable = resumable;
+        return this;
+    }
+
+    /**
+     * Sets the transport used to send requests, by default all downloaders share
+     * {@link DownloadTransport#getDefault()} so that connections are pooled between them.
+     * @param transport the transport to send requests with
+     * @return this instance
+     * @throws IllegalArgumentException if {@code transport} is null
+     */
+    public HTTPDownloader setTransport(final DownloadTransport transport) {
+        checkArgumentNotNull(transport, cannotBeNull("transport"));
+        this.transport = transport;
+        return this;
+    }
+
+    /**
+     * Sets the hash the downloaded file must match. The file is hashed while it is written,
+     * parts that cannot be hashed in order, such as the later segments of a segmented download
+     * or the part downloaded before a restart, are read back from disk once at the end.
+     * If the hash does not match, the status is set to {@link DLStatus#ERROR}
+     * and the partial progress is discarded.
+     * @param type the hash type to use
+     * @param hash the expected hex representation of the hash, case-insensitive
+     * @return this instance
+     * @throws IllegalArgumentException if {@code type} or {@code hash} is null
+     */
+    public HTTPDownloader setExpectedHash(final HashType type, final String hash) {
+        checkArgumentNotNull(type, cannotBeNull("type"));
+        checkArgumentNotNull(hash, cannotBeNull("hash"));
+
+        synchronized (digestLock) {
+            hashType = type;
+            expectedHash = hash.strip();
+            resetDigest();
+        }
+        return this;
+    }
+
+    /**
+     * Removes the hash set with {@link #setExpectedHash(HashType, String)}.
+     * @return this instance
+     */
+    public HTTPDownloader clearExpectedHash() {
+        synchronized (digestLock) {
+            hashType = null;
+            expectedHash = null;
+            resetDigest();
+        }
+        return this;
+    }
+
+    /**
+     * Sets how often a failed request of a file download is retried before the download fails.
+     * Every segment is retried separately, continuing where it stopped. Connection failures,
+     * timeouts and connections closed early are retried, error responses are not.
+     * @param maxRetries the maximum number of retries per segment, 0 disables retrying
+     * @return this instance
+     * @throws IllegalArgumentException if {@code maxRetries} is negative
+     */
+    public HTTPDownloader setMaxRetries(final int maxRetries) {
+        checkArgument(maxRetries >= 0, "Max retries cannot be negative!");
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * Sets the sink the metrics of this download are reported to.
+     * @param metricsSink the sink to report to, {@link DownloadMetricsSink#NOOP} by default
+     * @return this instance
+     * @throws IllegalArgumentException if {@code metricsSink} is null
+     */
+    public HTTPDownloader setMetricsSink(final DownloadMetricsSink metricsSink) {
+        checkArgumentNotNull(metricsSink, cannotBeNull("metricsSink"));
+        this.metricsSink = metricsSink;
+        return this;
+    }
+
+    /**
+     * Limits the throughput of this download, can be changed while downloading.
+     * Shared limits set with {@link #addBandwidthLimiter(BandwidthLimiter)} and the
+     * {@link BandwidthLimiter#global() global limit} apply as well.
+     * @param bytesPerSecond the maximum rate or {@link BandwidthLimiter#UNLIMITED}
+     * @return this instance
+     * @throws IllegalArgumentException if {@code bytesPerSecond} is negative
+     */
+    public HTTPDownloader setBandwidthLimit(final long bytesPerSecond) {
+        bandwidthLimiter.setBytesPerSecond(bytesPerSecond);
+        return this;
+    }
+
+    /**
+     * Adds a limiter shared with other downloads, such as a per host limit.
+     * @param limiter the limiter to respect
+     * @return this instance
+     * @throws IllegalArgumentException if {@code limiter} is null
+     */
+    public HTTPDownloader addBandwidthLimiter(final BandwidthLimiter limiter) {
+        checkArgumentNotNull(limiter, cannotBeNull("limiter"));
+        if (!sharedLimiters.contains(limiter)) sharedLimiters.add(limiter);
+        return this;
+    }
+
+    /**
+     * Removes a limiter added with {@link #addBandwidthLimiter(BandwidthLimiter)}.
+     * @param limiter the limiter to remove
+     * @return this instance
+     */
+    public HTTPDownloader removeBandwidthLimiter(final BandwidthLimiter limiter) {
+        sharedLimiters.remove(limiter);
+        return this;
+    }
+
+    /**
+     * Sets the cache the text and JSON fetches go through, fresh responses are served from the
+     * cache and stale ones are revalidated with a conditional request. File downloads and the
+     * streaming methods are never cached.
+     * @param cache the cache to use or null to disable caching, disabled by default
+     * @return this instance
+     */
+    public HTTPDownloader setCache(final HttpCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * Sets the pool the transfer buffers are taken from, use {@link ByteBufferPool#direct()}
+     * to transfer through direct buffers.
+     * @param bufferPool the pool to take transfer buffers from
+     * @return this instance
+     * @throws IllegalArgumentException if {@code bufferPool} is null
+     */
+    public HTTPDownloader setBufferPool(final ByteBufferPool bufferPool) {
+        checkArgumentNotNull(bufferPool, cannotBeNull("bufferPool"));
+        this.bufferPool = bufferPool;
+        return this;
+    }
+
     /**
      * Returns the download's filename.
      * @return the download's filename
@@ -233,6 +493,7 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
                 stream.close();
             } catch (final IOException ignored) {}
         }
+        if (response != null) response.close();
     }
 
     /**
@@ -242,25 +503,42 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
     public HTTPDownloader download() {
         preStart();
 
-        //The run method is executed in a new thread
-        new Thread(this).start();
+        //The run method is executed in a new virtual thread
+        Thread.ofVirtual().name("HTTPDownloader").start(this);
 
         return this;
     }
 
+    /**
+     * Starts or resumes the file download on the current thread,
+     * used by the {@link DownloadManager} to run queued downloads.
+     */
+    void downloadNow() {
+        preStart();
+        run();
+    }
+
     /**
      * Connects to the remote server and requests info about the file.
      * @throws IOException if any connection errors occur
      */
     private void connect() throws IOException {
-        // Open connection to URL.
-        connection = (HttpURLConnection) url.openConnection();
+        response = transport.send(url, Map.of());
+    }
 
+    /**
+     * Connects to the remote server and requests the file starting at the specified offset.
+     * @param rangeStart the offset of the first byte to request
+     * @param ifRange the validator to send in the {@code If-Range} header, may be null
+     * @throws IOException if any connection errors occur
+     */
+    private void connect(final long rangeStart, final String ifRange) throws IOException {
         // Specify what portion of file to download.
-        connection.setRequestProperty("Range", "bytes=%s-".formatted(totalBytesDownloaded));
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("Range", "bytes=%d-".formatted(rangeStart));
+        if (ifRange != null) headers.put("If-Range", ifRange);
 
-        // Connect to server.
-        connection.connect();
+        response = transport.send(url, headers);
     }
 
     /**
@@ -268,51 +546,522 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
      */
     @Override
     public void run() {
-        final Path filePath;
+        metrics.reset();
+        metricsSink.started(this);
+        final Thread sampler = Thread.ofVirtual().name("HTTPDownloader-metrics").start(this::sampleMetrics);
 
         try {
-            connect();
+            filename.set(parseFilename(url));
+            filepath.set(downloadDir.get() + filename);
+
+            final Path filePath = Paths.get(filepath.get());
+            journalPath = DownloadJournal.pathFor(filePath);
+            lastCheckpoint = System.nanoTime();
+            file = new RandomAccessFile(filePath.toFile(), "rw");
+
+            restoreProgress();
+
+            // Request the file from the first byte still missing, the server only honors
+            // the range if the file still matches the validator.
+            final long resumeFrom = downloadSegments.stream()
+                    .filter(segment -> !segment.isComplete())
+                    .mapToLong(DownloadSegment::getPosition)
+                    .min().orElse(0);
+            metrics.requestStarted();
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    connect(resumeFrom, downloadSegments.isEmpty() ? null : getIfRangeValidator());
+                    break;
+                } catch (final IOException e) {
+                    if (!isRetryable(e, attempt)) throw e;
+                    retry(attempt + 1, e);
+                }
+            }
+            metricsSink.connected(this, metrics.responseReceived());
 
             // Make sure response code is in the 200 range.
-            processResponseCode(connection.getResponseCode(), Type.FileDownload);
+            if (!processResponseCode(response.getStatusCode(), Type.FileDownload)) return;
+
+            final boolean resumed = !downloadSegments.isEmpty()
+                    && response.getStatusCode() == HttpURLConnection.HTTP_PARTIAL;
+            final long streamStart = resumed ? resumeFrom : 0;
+
+            if (!resumed && !startOver()) return;
+
+            final List<DownloadSegment> pending = downloadSegments.stream()
+                    .filter(segment -> !segment.isComplete())
+                    .toList();
+
+            if (pending.size() == 1 && pending.getFirst().getPosition() == streamStart) {
+                stream = response.getBody();
+                try {
+                    transfer(stream, file.getChannel(), pending.getFirst());
+                } catch (final IOException e) {
+                    if (!isRetryable(e, 0)) throw e;
+                    retry(1, e);
+                    downloadSegment(pending.getFirst(), file.getChannel(), 1);
+                }
+            } else {
+                // The probe response is only used for its headers.
+                response.close();
+                downloadSegments(pending);
+            }
+
+            verifyChecksum();
+            verifyComplete();
+        } catch (final Exception e) {
+            error(e.getMessage());
+        } finally {
+            if (response != null) response.close();
+            closeJournal();
 
-            // Check for valid content length.
-            final int contentLength = connection.getContentLength();
-            if (contentLength < 1) error("Invalid Content Length!");
+            sampler.interrupt();
+            metrics.sample(System.nanoTime());
+            metricsSink.finished(this, status.get(), metrics);
+        }
+    }
 
-            //Set the size for this download if it hasn't been already set.
-            if (totalDownloadSize.isEqualTo(-1)) {
-                totalDownloadSize.set(contentLength);
+    /**
+     * Samples the metrics every {@link DownloadMetrics#SAMPLE_INTERVAL} until interrupted.
+     */
+    private void sampleMetrics() {
+        try {
+            while (true) {
+                Thread.sleep(DownloadMetrics.SAMPLE_INTERVAL);
+                if (metrics.sample(System.nanoTime())) metricsSink.stalled(this);
+                metricsSink.sampled(this, metrics);
             }
+        } catch (final InterruptedException ignored) {
+            // The download finished.
+        }
+    }
 
-            filename.set(parseFilename(url));
-            filepath.set(downloadDir.get() + filename);
+    /**
+     * Checks if a failed request should be retried.
+     * @param e the failure
+     * @param attempt the number of retries already made
+     * @return true if the request should be retried
+     */
+    private boolean isRetryable(final IOException e, final int attempt) {
+        // Protocol errors, such as a changed remote file, fail the same way every time.
+        // A read timeout is an InterruptedIOException too, but it means the connection stalled.
+        return attempt < maxRetries
+                && status.equals(DOWNLOADING)
+                && !(e instanceof ProtocolException)
+                && (!(e instanceof InterruptedIOException) || e instanceof SocketTimeoutException);
+    }
 
-            // Open file and seek to the end of it.
-            filePath = Paths.get(filepath.get());
+    /**
+     * Records a retry and waits before it with an exponential backoff.
+     * @param attempt the number of the retry, starting at 1
+     * @param cause the failure that caused the retry
+     * @throws InterruptedIOException if interrupted while waiting
+     */
+    private void retry(final int attempt, final IOException cause) throws InterruptedIOException {
+        metrics.retried();
+        metricsSink.retried(this, attempt, cause);
 
-            file = new RandomAccessFile(filePath.toFile(), "rw");
-            file.seek(totalBytesDownloaded.get());
-
-            stream = connection.getInputStream();
-            while (status.equals(DOWNLOADING)) {
-                // Size buffer according to how much of the file is left to download.
-                final byte[] buffer = totalDownloadSize.subtractAndGet(totalBytesDownloaded) > MAX_BUFFER_SIZE
-                        ? new byte[MAX_BUFFER_SIZE]
-                        : new byte[totalDownloadSize.subtractAndGet(totalBytesDownloaded)];
-
-                // Read from server into buffer.
-                final int read = stream.read(buffer);
-                if (read == -1) break;
-
-                // Write buffer to file.
-                file.write(buffer, 0, read);
-                totalBytesDownloaded.add(read);
+        final Duration backoff = RETRY_BACKOFF.multipliedBy(1L << Math.min(attempt - 1, 10));
+        try {
+            Thread.sleep(backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry!");
+        }
+    }
+
+    /**
+     * Restores the progress of a previous attempt, either still in memory after a
+     * pause or read from the journal after a restart. Progress that cannot be
+     * validated against the server or that does not match the partial file is discarded.
+     * @throws IOException if the partial file cannot be read
+     */
+    private void restoreProgress() throws IOException {
+        final boolean inMemory = !downloadSegments.isEmpty();
+
+        if (!inMemory && resumable) {
+            final Optional<DownloadJournal> journal = DownloadJournal.read(journalPath)
+                    .filter(saved -> saved.url().equals(url.toString()));
+
+            if (journal.isPresent()) {
+                try {
+                    downloadSegments = journal.get().toSegments();
+                    etag = journal.get().etag();
+                    lastModified = journal.get().lastModified();
+                    totalDownloadSize.set(journal.get().totalSize());
+                } catch (final IllegalArgumentException e) {
+                    downloadSegments = List.of();
+                }
             }
+        }
 
-            verifyComplete();
-        } catch (final Exception e) {
-            error(e.getMessage());
+        final long written = downloadSegments.stream()
+                .mapToLong(DownloadSegment::getPosition)
+                .max().orElse(0);
+
+        if (getIfRangeValidator() == null || file.length() < written) {
+            downloadSegments = List.of();
+        }
+
+        // A paused download keeps hashing where it stopped, anything else is hashed from disk.
+        if (!inMemory || downloadSegments.isEmpty()) {
+            synchronized (digestLock) {
+                resetDigest();
+            }
+        }
+
+        totalBytesDownloaded.set(downloadSegments.stream().mapToLong(DownloadSegment::getDownloaded).sum());
+    }
+
+    /**
+     * Discards any previous progress and plans the segments of a fresh download
+     * from the response headers.
+     * @return false if the response has no valid content length
+     * @throws IOException if any connection errors occur
+     */
+    @SuppressWarnings("BooleanMethodNameMustStartWithQuestion")
+    private boolean startOver() throws IOException {
+        // Check for valid content length.
+        final long contentLength = response.getContentLength();
+        if (contentLength < 1) {
+            error("Invalid Content Length!");
+            return false;
+        }
+
+        etag = response.getHeader("ETag");
+        lastModified = response.getHeader("Last-Modified");
+        totalDownloadSize.set(contentLength);
+        totalBytesDownloaded.set(0);
+        file.setLength(0);
+
+        synchronized (digestLock) {
+            resetDigest();
+        }
+
+        if (isSegmentable(contentLength)) {
+            final int count = (int) Math.min(segments, contentLength / MIN_SEGMENT_SIZE);
+            downloadSegments = DownloadSegment.split(0, contentLength, count);
+            file.setLength(contentLength);
+        } else {
+            downloadSegments = List.of(new DownloadSegment(0, contentLength - 1));
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if the file can be downloaded as multiple concurrent segments.
+     * @param contentLength the size of the file
+     * @return true if segmenting is enabled, the server accepts byte ranges
+     * and the file is large enough to split
+     * @throws IOException if any connection errors occur
+     */
+    private boolean isSegmentable(final long contentLength) throws IOException {
+        if (segments < 2 || contentLength < MIN_SEGMENT_SIZE * 2) return false;
+
+        return response.getStatusCode() == HttpURLConnection.HTTP_PARTIAL
+                || "bytes".equalsIgnoreCase(response.getHeader("Accept-Ranges"));
+    }
+
+    /**
+     * Downloads the specified segments concurrently, each written
+     * to the file at its own offset.
+     * @param parts the segments to download
+     * @throws IOException if any segment fails to download
+     * @throws InterruptedException if interrupted while waiting for the segments to finish
+     */
+    private void downloadSegments(final List<DownloadSegment> parts)
+            throws IOException, InterruptedException {
+        final FileChannel channel = file.getChannel();
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<?>> futures = new ArrayList<>(parts.size());
+
+            for (final DownloadSegment part : parts) {
+                futures.add(executor.submit(() -> {
+                    downloadSegment(part, channel);
+                    return null;
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException e) {
+                    // Stops the remaining segments at their next read.
+                    error(e.getCause().getMessage());
+                    throw new IOException(e.getCause().getMessage(), e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * Downloads a single segment with its own request.
+     * @param segment the segment to download
+     * @param channel the channel of the file to write to
+     * @throws IOException if any connection errors occur or the server ignores the range request
+     */
+    private void downloadSegment(final DownloadSegment segment, final FileChannel channel) throws IOException {
+        downloadSegment(segment, channel, 0);
+    }
+
+    /**
+     * Downloads a single segment with its own request, retrying failed requests
+     * from where the segment stopped.
+     * @param segment the segment to download
+     * @param channel the channel of the file to write to
+     * @param retries the number of retries already made for the segment
+     * @throws IOException if the last attempt fails or the server ignores the range request
+     */
+    private void downloadSegment(final DownloadSegment segment,
+                                 final FileChannel channel,
+                                 final int retries) throws IOException {
+        for (int attempt = retries; ; attempt++) {
+            try {
+                requestSegment(segment, channel);
+                return;
+            } catch (final IOException e) {
+                if (!isRetryable(e, attempt)) throw e;
+                retry(attempt + 1, e);
+            }
+        }
+    }
+
+    /**
+     * Requests the remaining bytes of a segment and transfers them.
+     * @param segment the segment to download
+     * @param channel the channel of the file to write to
+     * @throws IOException if any connection errors occur or the server ignores the range request
+     */
+    private void requestSegment(final DownloadSegment segment, final FileChannel channel) throws IOException {
+        final String validator = getIfRangeValidator();
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("Range", segment.toRangeHeader());
+        if (validator != null) headers.put("If-Range", validator);
+
+        try (final TransportResponse segmentResponse = transport.send(url, headers)) {
+            if (segmentResponse.getStatusCode() != HttpURLConnection.HTTP_PARTIAL) {
+                throw new ProtocolException(validator != null
+                        ? "Remote file changed during download!"
+                        : "Server ignored range request for " + segment.toRangeHeader() + '!');
+            }
+
+            transfer(segmentResponse.getBody(), channel, segment);
+        }
+    }
+
+    /**
+     * Copies the segment's bytes from the stream to the file at the segment's offset
+     * until the segment is complete, the stream ends or the download is stopped.
+     * <p>
+     * A single pooled buffer is reused for every chunk and progress is published
+     * in batches, so the loop does not allocate per chunk.
+     * @param input the stream to read from
+     * @param channel the channel of the file to write to
+     * @param segment the segment being transferred
+     * @throws IOException if any read or write errors occur
+     */
+    private void transfer(final InputStream input,
+                          final FileChannel channel,
+                          final DownloadSegment segment) throws IOException {
+        // Not closed here, closing the channel would close the caller's stream.
+        final ReadableByteChannel source = Channels.newChannel(input);
+        final ByteBuffer buffer = bufferPool.acquire();
+        long unreported = 0;
+
+        try {
+            while (status.equals(DOWNLOADING) && !segment.isComplete()) {
+                // Read from server into buffer, never past the end of the segment.
+                buffer.clear().limit((int) Math.min(buffer.capacity(), segment.getRemaining()));
+                final int read = source.read(buffer);
+                if (read == -1) {
+                    if (!status.equals(DOWNLOADING)) break;
+                    throw new EOFException("Connection closed before the download was complete!");
+                }
+
+                final long timeToFirstByte = metrics.bytesReceived(read);
+                if (timeToFirstByte >= 0) metricsSink.firstByte(this, timeToFirstByte);
+
+                // Write buffer to file at the segment's offset.
+                buffer.flip();
+                final long start = segment.getPosition();
+                long position = start;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                digest(buffer, start);
+
+                segment.advance(read);
+                unreported += read;
+
+                throttle(read);
+
+                if (unreported >= PROGRESS_UPDATE_SIZE) {
+                    addProgress(unreported);
+                    unreported = 0;
+                }
+            }
+        } finally {
+            addProgress(unreported);
+            bufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * Feeds the written bytes to the digest if they directly follow the bytes hashed so far.
+     * @param buffer the buffer that was written, its contents start at the buffer's beginning
+     * @param position the offset in the file the buffer was written to
+     */
+    private void digest(final ByteBuffer buffer, final long position) {
+        if (expectedHash == null) return;
+
+        synchronized (digestLock) {
+            if (digest != null && position == digestedUpTo) {
+                buffer.rewind();
+                digest.update(buffer);
+                digestedUpTo += buffer.limit();
+            }
+        }
+    }
+
+    /**
+     * Hashes the part of the file that was not hashed while downloading and compares
+     * the result to the expected hash, setting the status to {@link DLStatus#ERROR} on mismatch.
+     * @throws IOException if the file cannot be read
+     */
+    private void verifyChecksum() throws IOException {
+        if (expectedHash == null || !status.equals(DOWNLOADING)) return;
+
+        synchronized (digestLock) {
+            if (digest == null) resetDigest();
+
+            final FileChannel channel = file.getChannel();
+            final long size = totalDownloadSize.get();
+            final ByteBuffer buffer = bufferPool.acquire();
+
+            try {
+                while (digestedUpTo < size) {
+                    buffer.clear().limit((int) Math.min(buffer.capacity(), size - digestedUpTo));
+                    final int read = channel.read(buffer, digestedUpTo);
+                    if (read == -1) throw new EOFException("Downloaded file is shorter than expected!");
+
+                    buffer.flip();
+                    digest.update(buffer);
+                    digestedUpTo += read;
+                }
+            } finally {
+                bufferPool.release(buffer);
+            }
+
+            actualHash = HexFormat.of().withUpperCase().formatHex(digest.digest());
+            digest = null;
+        }
+
+        if (!actualHash.equalsIgnoreCase(expectedHash)) {
+            error("Checksum mismatch! Expected %s but was %s".formatted(expectedHash, actualHash));
+
+            // The bytes on disk are wrong, so they must not be resumed from.
+            downloadSegments = List.of();
+            if (journalPath != null) DownloadJournal.delete(journalPath);
+        }
+    }
+
+    /**
+     * Starts hashing from the beginning of the file. Must be called while holding the digest lock.
+     */
+    private void resetDigest() {
+        digestedUpTo = 0;
+        if (hashType == null) {
+            digest = null;
+            return;
+        }
+
+        try {
+            digest = MessageDigest.getInstance(switch (hashType) {
+                case SHA256 -> "SHA-256";
+                case SHA384 -> "SHA-384";
+                case SHA512 -> "SHA-512";
+            });
+        } catch (final NoSuchAlgorithmException e) {
+            // Every Java platform is required to support these algorithms.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Waits until every limiter that applies to this download allows the transferred bytes.
+     * @param bytes the number of bytes transferred
+     * @throws InterruptedIOException if the thread is interrupted while waiting
+     */
+    private void throttle(final long bytes) throws InterruptedIOException {
+        bandwidthLimiter.acquire(bytes);
+        for (final BandwidthLimiter limiter : sharedLimiters) {
+            limiter.acquire(bytes);
+        }
+        BandwidthLimiter.global().acquire(bytes);
+    }
+
+    /**
+     * Adds the specified number of bytes to the download's progress.
+     * @param bytes the number of bytes downloaded
+     */
+    private void addProgress(final long bytes) {
+        if (bytes == 0) return;
+
+        totalBytesDownloaded.add(bytes);
+
+        checkpoint(false);
+    }
+
+    /**
+     * Returns the validator to send in the {@code If-Range} header when resuming.
+     * @return the validator or null if the server sent none usable
+     */
+    private String getIfRangeValidator() {
+        return DownloadJournal.ifRangeValidator(etag, lastModified);
+    }
+
+    /**
+     * Writes the resume journal if it is enabled and at least
+     * {@link #CHECKPOINT_INTERVAL} has passed since the last write.
+     * @param force if true, the journal is written regardless of the interval
+     */
+    private void checkpoint(final boolean force) {
+        if (!resumable || journalPath == null || downloadSegments.isEmpty()) return;
+
+        final long now = System.nanoTime();
+        if (!force && now - lastCheckpoint < CHECKPOINT_INTERVAL) return;
+
+        synchronized (journalLock) {
+            lastCheckpoint = now;
+            try {
+                // The journal must never claim bytes that are not on disk yet, so snapshot
+                // the progress first and only write it once everything it covers is forced.
+                final DownloadJournal journal = DownloadJournal.of(
+                        url.toString(), etag, lastModified, totalDownloadSize.get(), downloadSegments);
+                file.getChannel().force(false);
+                journal.write(journalPath);
+            } catch (final IOException ignored) {
+                // A missed checkpoint only means re-downloading a little more after a restart.
+            }
+        }
+    }
+
+    /**
+     * Deletes the resume journal if the download completed, otherwise saves the final progress.
+     */
+    private void closeJournal() {
+        if (!resumable || journalPath == null) return;
+
+        if (status.equals(COMPLETE)) {
+            try {
+                DownloadJournal.delete(journalPath);
+            } catch (final IOException ignored) {
+                // A stale journal is discarded on the next download as the file no longer matches.
+            }
+        } else {
+            checkpoint(true);
         }
     }
 
@@ -322,7 +1071,7 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
      * @throws IOException if any errors occur
      */
     public Optional<String> processTextAsString() throws IOException {
-        return process(this::getHTTPResponseAsString, Type.TextDownload);
+        return process(IOUtils::toString, Type.TextDownload, UnaryOperator.identity());
     }
 
     /**
@@ -331,27 +1080,175 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
      * @throws IOException if any errors occur
      */
     public Optional<Boolean> processTextAsBoolean() throws IOException {
-        return process(() -> isBoolean(getHTTPResponseAsString()), Type.BooleanDownload);
+        return process(reader -> isBoolean(IOUtils.toString(reader)), Type.BooleanDownload, UnaryOperator.identity());
     }
 
     /**
      * Attempts to return the url location result as a json array.
+     * <p>
+     * The whole array is held in memory, use {@link #processJSONArray(Class, Consumer)}
+     * or {@link #streamJSONArray(Class)} for large responses.
      * @return the result as a json array
      * @throws IOException if any errors occur
      */
     public Optional<JsonArray> processJSONAsArray() throws IOException {
-        return process(this::getHTTPResponseAsJSONArray, Type.JSONDownload);
+        return process(reader -> JsonParser.parseReader(reader).getAsJsonArray(), Type.JSONDownload,
+                JsonArray::deepCopy);
     }
 
-    private <T> Optional<T> process(final Supplier<T> task, final Type downloadType) throws IOException {
-        Optional<T> result = Optional.empty();
+    /**
+     * Reads the url location result line by line, passing each line to the specified action
+     * as soon as it is read so that only a single line is held in memory at a time.
+     * @param action the action to perform on each line
+     * @return true if every line was read, false if the request failed
+     * @throws IOException if any errors occur
+     */
+    public boolean processTextAsLines(final Consumer<? super String> action) throws IOException {
+        checkArgumentNotNull(action, cannotBeNull("action"));
 
-        if(!preStart()) return Optional.empty();
+        if (!start(Type.TextDownload)) return false;
 
-        connect();
+        try (final BufferedReader reader = new BufferedReader(openReader())) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                action.accept(line);
+            }
+        } catch (final IOException e) {
+            error(e.getMessage());
+            throw e;
+        }
+
+        verifyComplete();
+
+        return status.equals(COMPLETE);
+    }
+
+    /**
+     * Reads the url location result as a json array, binding each element to the specified
+     * type and passing it to the specified action as soon as it is read. Only a single element
+     * is held in memory at a time, so arbitrarily large arrays can be processed.
+     * @param type the type to bind each element to
+     * @param action the action to perform on each element
+     * @param <T> the element type
+     * @return true if every element was read, false if the request failed
+     * @throws IOException if any errors occur
+     */
+    public <T> boolean processJSONArray(final Class<T> type, final Consumer<? super T> action) throws IOException {
+        checkArgumentNotNull(type, cannotBeNull("type"));
+        return processJSONArray(TypeToken.get(type), action);
+    }
+
+    /**
+     * Reads the url location result as a json array, binding each element to the specified
+     * generic type and passing it to the specified action as soon as it is read. Only a single
+     * element is held in memory at a time, so arbitrarily large arrays can be processed.
+     * @param type the type to bind each element to
+     * @param action the action to perform on each element
+     * @param <T> the element type
+     * @return true if every element was read, false if the request failed
+     * @throws IOException if any errors occur
+     */
+    public <T> boolean processJSONArray(final TypeToken<T> type, final Consumer<? super T> action) throws IOException {
+        checkArgumentNotNull(action, cannotBeNull("action"));
 
-        if(processResponseCode(connection.getResponseCode(), downloadType)) {
-            result = Optional.ofNullable(task.get());
+        try (final Stream<T> elements = streamJSONArray(type)) {
+            elements.forEachOrdered(action);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return status.equals(COMPLETE);
+    }
+
+    /**
+     * Returns a lazy stream over the elements of the url location result json array,
+     * each bound to the specified type. Elements are read from the connection as the stream
+     * is consumed. The stream must be closed to release the connection, closing it before
+     * the end of the array cancels the download.
+     * <p>
+     * Read or parse errors are thrown as an {@link UncheckedIOException}.
+     * @param type the type to bind each element to
+     * @param <T> the element type
+     * @return a stream of the elements, empty if the request failed
+     * @throws IOException if any connection errors occur
+     */
+    public <T> Stream<T> streamJSONArray(final Class<T> type) throws IOException {
+        checkArgumentNotNull(type, cannotBeNull("type"));
+        return streamJSONArray(TypeToken.get(type));
+    }
+
+    /**
+     * Returns a lazy stream over the elements of the url location result json array,
+     * each bound to the specified generic type. Elements are read from the connection as the
+     * stream is consumed. The stream must be closed to release the connection, closing it
+     * before the end of the array cancels the download.
+     * <p>
+     * Read or parse errors are thrown as an {@link UncheckedIOException}.
+     * @param type the type to bind each element to
+     * @param <T> the element type
+     * @return a stream of the elements, empty if the request failed
+     * @throws IOException if any connection errors occur
+     */
+    public <T> Stream<T> streamJSONArray(final TypeToken<T> type) throws IOException {
+        checkArgumentNotNull(type, cannotBeNull("type"));
+
+        if (!start(Type.JSONDownload)) return Stream.empty();
+
+        final JsonArrayIterator<T> iterator = new JsonArrayIterator<>(
+                new JsonReader(openReader()), GSON.getAdapter(type));
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                        iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Fetches and parses the url location result, going through the cache if one is set.
+     * @param parser parses the response body
+     * @param downloadType the type of the download
+     * @param copier copies a parsed result shared through the cache, so callers cannot modify it
+     * @param <T> the type of the parsed result
+     * @return the parsed result or empty if the request failed
+     * @throws IOException if any errors occur
+     */
+    private <T> Optional<T> process(final BodyParser<T> parser,
+                                    final Type downloadType,
+                                    final UnaryOperator<T> copier) throws IOException {
+        if (!preStart()) return Optional.empty();
+
+        final HttpCache.Entry cached = cache != null ? cache.get(url).orElse(null) : null;
+        Optional<T> result = Optional.empty();
+
+        try {
+            if (cached != null && cached.isFresh()) {
+                result = Optional.ofNullable(parseCached(cached, parser, downloadType)).map(copier);
+            } else {
+                response = transport.send(url, cached != null ? cached.getConditionalHeaders() : Map.of());
+
+                // Closing twice is harmless, the finally block covers the paths that throw.
+                try {
+                    if (cached != null && response.getStatusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                        response.close();
+                        final HttpCache.Entry entry = cache.revalidated(cached, response);
+                        result = Optional.ofNullable(parseCached(entry, parser, downloadType)).map(copier);
+                    } else if (!processResponseCode(response.getStatusCode(), downloadType)) {
+                        response.close();
+                    } else if (cache != null && HttpCache.isStorable(response)) {
+                        final HttpCache.Entry entry = cache.put(url, response);
+                        response.close();
+                        result = Optional.ofNullable(parseCached(entry, parser, downloadType)).map(copier);
+                    } else {
+                        try (final Reader reader = openReader()) {
+                            result = Optional.ofNullable(parser.parse(reader));
+                        }
+                    }
+                } finally {
+                    response.close();
+                }
+            }
+        } catch (final IOException e) {
+            error(e.getMessage());
+            throw e;
         }
 
         verifyComplete();
@@ -359,38 +1256,166 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
         return result;
     }
 
-    //TODO: might not work
-    private String getHTTPResponseAsString() {
+    /**
+     * Returns the result of parsing the cached body, parsing it only once per download type.
+     * @param entry the cached response
+     * @param parser parses the response body
+     * @param downloadType the type of the download
+     * @param <T> the type of the parsed result
+     * @return the parsed result
+     * @throws IOException if the cached body cannot be read
+     */
+    private static <T> T parseCached(final HttpCache.@NotNull Entry entry,
+                                     final BodyParser<T> parser,
+                                     final Type downloadType) throws IOException {
         try {
-            //This line might not be supported
-            stream = connection.getInputStream();
-            String encoding = connection.getContentEncoding();
-            encoding = encoding == null ? "UTF-8" : encoding;
-            return IOUtils.toString(stream, encoding);
-        } catch (final IOException e) {
-            throw new IllegalStateException(e);
+            return entry.getParsed(downloadType, () -> {
+                try (final Reader reader = new InputStreamReader(entry.openBody(), charsetOf(entry.getContentType()))) {
+                    return parser.parse(reader);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
         }
     }
 
-    //TODO: might not work
-    @SneakyThrows
-    private JsonArray getHTTPResponseAsJSONArray() {
-        //This line might not be supported
-        try(final var inputStream = connection.getInputStream();
-            final InputStreamReader isr = new InputStreamReader(stream)) {
-            this.stream = inputStream;
-            return JsonParser.parseReader(isr).getAsJsonArray();
-        } catch (final IOException e) {
-            throw new IllegalStateException(e);
+    /**
+     * Connects to the remote server for a non file download.
+     * @param downloadType the type of the download
+     * @return true if the server responded successfully
+     * @throws IOException if any connection errors occur
+     */
+    @SuppressWarnings("BooleanMethodNameMustStartWithQuestion")
+    private boolean start(final Type downloadType) throws IOException {
+        if (!preStart()) return false;
+
+        connect();
+
+        boolean success = false;
+        try {
+            success = processResponseCode(response.getStatusCode(), downloadType);
+            return success;
         } finally {
-            stream.close();
+            if (!success) response.close();
+        }
+    }
+
+    /**
+     * Opens a reader over the response body using the charset of the response.
+     * @return the reader
+     * @throws IOException if any connection errors occur
+     */
+    private @NotNull Reader openReader() throws IOException {
+        stream = response.getBody();
+        return new InputStreamReader(stream, getResponseCharset());
+    }
+
+    /**
+     * Returns the charset declared in the {@code Content-Type} header of the response.
+     * @return the charset, defaults to UTF-8
+     */
+    private @NotNull Charset getResponseCharset() {
+        return charsetOf(response.getHeader("Content-Type"));
+    }
+
+    /**
+     * Returns the charset declared in the specified {@code Content-Type} header.
+     * @param contentType the header value, may be null
+     * @return the charset, defaults to UTF-8
+     */
+    private static @NotNull Charset charsetOf(final String contentType) {
+        if (contentType != null) {
+            for (final String parameter : contentType.split(";")) {
+                final String trimmed = parameter.trim();
+                if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                    try {
+                        return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                    } catch (final IllegalArgumentException ignored) {
+                        break;
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Parses a response body.
+     * @param <T> the type of the parsed result
+     */
+    @FunctionalInterface
+    private interface BodyParser<T> {
+        T parse(Reader reader) throws IOException;
+    }
+
+    /**
+     * Reads the elements of a json array one at a time.
+     * @param <T> the element type
+     */
+    private final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+        private final JsonReader reader;
+        private final TypeAdapter<T> adapter;
+        private boolean started;
+        private boolean finished;
+
+        private JsonArrayIterator(final JsonReader reader, final TypeAdapter<T> adapter) {
+            this.reader = reader;
+            this.adapter = adapter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (finished) return false;
+
+            try {
+                if (!started) {
+                    reader.beginArray();
+                    started = true;
+                }
+                if (reader.hasNext()) return true;
+
+                reader.endArray();
+                finished = true;
+                return false;
+            } catch (final IOException | RuntimeException e) {
+                throw failed(e);
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            try {
+                return adapter.read(reader);
+            } catch (final IOException | RuntimeException e) {
+                throw failed(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                reader.close();
+            } catch (final IOException ignored) {}
+
+            if (finished) verifyComplete();
+            else if (status.equals(DOWNLOADING)) status.set(CANCELLED);
+        }
+
+        private @NotNull UncheckedIOException failed(final Exception e) {
+            finished = true;
+            error(e.getMessage());
+            return new UncheckedIOException(e instanceof final IOException io ? io : new IOException(e.getMessage(), e));
         }
     }
 
     //TODO: might not work
     private @NotNull String getHTTPErrorMessage() {
         //This line might not be supported
-        try (final InputStreamReader isr = new InputStreamReader(connection.getErrorStream())) {
+        try (final InputStreamReader isr = new InputStreamReader(response.getBody(), getResponseCharset())) {
             return JsonParser.parseReader(isr).getAsJsonObject()
                     .get("message").getAsString().replace("\"", "");
         } catch (final IOException e) {
@@ -457,6 +1482,13 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
 
         totalDownloadSize.set(-1);
         totalBytesDownloaded.set(0);
+        downloadSegments = List.of();
+        etag = null;
+        lastModified = null;
+        actualHash = null;
+        synchronized (digestLock) {
+            resetDigest();
+        }
         status.set(DOWNLOADING);
 
         return true;
@@ -0,0 +1,499 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A private HTTP cache for the text and JSON fetches of {@link HTTPDownloader}.
+ * <p>
+ * Response bodies are stored on disk, keyed by url, with an in-memory LRU index of the most
+ * recently used entries. Entries are served without a request while fresh according to the
+ * {@code Cache-Control: max-age} or {@code Expires} headers, once stale they are revalidated
+ * with {@code If-None-Match} and {@code If-Modified-Since} so that a {@code 304 Not Modified}
+ * response skips transferring the body again. The parsed result of an entry is kept in memory
+ * as well, so an unchanged response is not parsed again either.
+ * <p>
+ * Responses marked {@code no-store} are never stored, responses marked {@code no-cache} are
+ * stored but revalidated on every use.
+ * @since 1.0.0-alpha
+ */
+public final class HttpCache {
+    /** The default maximum number of entries kept in the cache. */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static final Gson GSON = new Gson();
+    private static final String BODY_EXTENSION = ".body";
+    private static final String META_EXTENSION = ".meta";
+
+    private final Path directory;
+    private final int maxEntries;
+    private final Lock lock = new ReentrantLock();
+    private final Map<String, Entry> index = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Creates a new cache storing at most {@link #DEFAULT_MAX_ENTRIES} entries in the specified directory.
+     * @param directory the directory to store the responses in, created if missing
+     * @throws IOException if the directory cannot be created
+     */
+    public HttpCache(final Path directory) throws IOException {
+        this(directory, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a new cache storing at most the specified number of entries in the specified directory.
+     * @param directory the directory to store the responses in, created if missing
+     * @param maxEntries the maximum number of entries, the least recently used entry is evicted first
+     * @throws IOException if the directory cannot be created
+     * @throws IllegalArgumentException if {@code directory} is null or {@code maxEntries} is less than 1
+     */
+    public HttpCache(final Path directory, final int maxEntries) throws IOException {
+        checkArgumentNotNull(directory, cannotBeNull("directory"));
+        checkArgument(maxEntries > 0, "Max entries must be greater than 0!");
+        this.directory = Files.createDirectories(directory);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached entry for the specified url, loading it from disk if it is not indexed.
+     * @param url the url to look up
+     * @return the entry or empty if the url is not cached
+     */
+    public Optional<Entry> get(final URL url) {
+        checkArgumentNotNull(url, cannotBeNull("url"));
+        final String key = keyOf(url);
+
+        lock.lock();
+        try {
+            Entry entry = index.get(key);
+            if (entry == null) {
+                entry = load(key, url.toString());
+                if (entry != null) index(key, entry);
+            }
+            return Optional.ofNullable(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the body of the specified response, replacing any previous entry for the url.
+     * The body is read to the end but the response is not closed.
+     * @param url the url of the response
+     * @param response the response to store, must be storable
+     * @return the new entry
+     * @throws IOException if the body cannot be read or written to disk
+     * @throws IllegalArgumentException if the response is not storable
+     */
+    public Entry put(final URL url, final TransportResponse response) throws IOException {
+        checkArgumentNotNull(url, cannotBeNull("url"));
+        checkArgumentNotNull(response, cannotBeNull("response"));
+        checkArgument(isStorable(response), "Response is not storable!");
+
+        final String key = keyOf(url);
+        final Path body = directory.resolve(key + BODY_EXTENSION);
+        final Path temp = Files.createTempFile(directory, key, ".tmp");
+
+        try {
+            try (final InputStream input = response.getBody()) {
+                Files.copy(input, temp, REPLACE_EXISTING);
+            }
+            move(temp, body);
+        } catch (final IOException | RuntimeException e) {
+            deleteQuietly(temp, e);
+            throw e;
+        }
+
+        final Entry entry = new Entry(new Metadata(url.toString(),
+                response.getHeader("ETag"),
+                response.getHeader("Last-Modified"),
+                response.getHeader("Content-Type"),
+                expiresAt(response)), body);
+        writeMetadata(key, entry.metadata);
+
+        lock.lock();
+        try {
+            index(key, entry);
+        } finally {
+            lock.unlock();
+        }
+
+        return entry;
+    }
+
+    /**
+     * Updates the entry for the specified url from a {@code 304 Not Modified} response,
+     * refreshing its expiry and validators while keeping the stored body and parsed results.
+     * @param entry the entry that was revalidated
+     * @param response the {@code 304 Not Modified} response
+     * @return the updated entry
+     * @throws IOException if the updated metadata cannot be written to disk
+     */
+    public Entry revalidated(final Entry entry, final TransportResponse response) throws IOException {
+        checkArgumentNotNull(entry, cannotBeNull("entry"));
+        checkArgumentNotNull(response, cannotBeNull("response"));
+
+        final Metadata previous = entry.metadata;
+        final String etag = response.getHeader("ETag");
+        final String lastModified = response.getHeader("Last-Modified");
+        entry.metadata = new Metadata(previous.url(),
+                etag != null ? etag : previous.etag(),
+                lastModified != null ? lastModified : previous.lastModified(),
+                previous.contentType(),
+                isStorable(response) ? expiresAt(response) : 0);
+
+        writeMetadata(keyOf(previous.url()), entry.metadata);
+
+        return entry;
+    }
+
+    /**
+     * Removes the entry for the specified url from the cache and from disk.
+     * @param url the url to remove
+     * @throws IOException if the stored files cannot be deleted
+     */
+    public void remove(final URL url) throws IOException {
+        checkArgumentNotNull(url, cannotBeNull("url"));
+        final String key = keyOf(url);
+
+        lock.lock();
+        try {
+            index.remove(key);
+        } finally {
+            lock.unlock();
+        }
+
+        delete(key);
+    }
+
+    /**
+     * Removes all indexed entries from the cache and from disk.
+     * @throws IOException if the stored files cannot be deleted
+     */
+    public void clear() throws IOException {
+        final List<String> keys;
+
+        lock.lock();
+        try {
+            keys = new ArrayList<>(index.keySet());
+            index.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        for (final String key : keys) delete(key);
+    }
+
+    /**
+     * Returns the number of entries in the in-memory index.
+     * @return the number of entries in the in-memory index
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the directory the responses are stored in.
+     * @return the directory the responses are stored in
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the maximum number of entries kept in the cache.
+     * @return the maximum number of entries kept in the cache
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Checks if the specified response may be stored. A response is storable if it is not
+     * marked {@code no-store} and it is either fresh for some time or can be revalidated.
+     * @param response the response to check
+     * @return true if the response may be stored
+     */
+    public static boolean isStorable(final @NotNull TransportResponse response) {
+        final String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl != null && directives(cacheControl).containsKey("no-store")) return false;
+
+        return response.getHeader("ETag") != null
+                || response.getHeader("Last-Modified") != null
+                || expiresAt(response) > System.currentTimeMillis();
+    }
+
+    /** Must be called while holding the lock. */
+    private void index(final String key, final Entry entry) {
+        index.put(key, entry);
+
+        final Iterator<Map.Entry<String, Entry>> iterator = index.entrySet().iterator();
+        while (index.size() > maxEntries && iterator.hasNext()) {
+            final String eldest = iterator.next().getKey();
+            iterator.remove();
+            try {
+                delete(eldest);
+            } catch (final IOException ignored) {
+                // Evicted files left behind are overwritten when the url is cached again.
+            }
+        }
+    }
+
+    private @Nullable Entry load(final String key, final String url) {
+        final Path meta = directory.resolve(key + META_EXTENSION);
+        final Path body = directory.resolve(key + BODY_EXTENSION);
+        if (!Files.isRegularFile(meta) || !Files.isRegularFile(body)) return null;
+
+        try (final Reader reader = Files.newBufferedReader(meta, UTF_8)) {
+            final Metadata metadata = GSON.fromJson(reader, Metadata.class);
+            return metadata != null && url.equals(metadata.url()) ? new Entry(metadata, body) : null;
+        } catch (final IOException | JsonParseException e) {
+            return null;
+        }
+    }
+
+    private void writeMetadata(final String key, final Metadata metadata) throws IOException {
+        final Path meta = directory.resolve(key + META_EXTENSION);
+        final Path temp = Files.createTempFile(directory, key, ".tmp");
+
+        try {
+            try (final Writer writer = Files.newBufferedWriter(temp, UTF_8)) {
+                GSON.toJson(metadata, writer);
+            }
+            move(temp, meta);
+        } catch (final IOException | RuntimeException e) {
+            deleteQuietly(temp, e);
+            throw e;
+        }
+    }
+
+    private void delete(final String key) throws IOException {
+        Files.deleteIfExists(directory.resolve(key + META_EXTENSION));
+        Files.deleteIfExists(directory.resolve(key + BODY_EXTENSION));
+    }
+
+    /** Removes a temporary file after a failed write, recording any failure on the original exception. */
+    private static void deleteQuietly(final Path temp, final Exception failure) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (final IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    private static @NotNull String keyOf(final @NotNull URL url) {
+        return keyOf(url.toString());
+    }
+
+    private static @NotNull String keyOf(final @NotNull String url) {
+        return DigestUtils.sha256Hex(url);
+    }
+
+    /**
+     * Returns the time the specified response stops being fresh, in epoch milliseconds.
+     * @param response the response to check
+     * @return the expiry time, 0 if the response must be revalidated before every use
+     */
+    private static long expiresAt(final @NotNull TransportResponse response) {
+        final long now = System.currentTimeMillis();
+        final String cacheControl = response.getHeader("Cache-Control");
+
+        if (cacheControl != null) {
+            final Map<String, String> directives = directives(cacheControl);
+            if (directives.containsKey("no-cache") || directives.containsKey("no-store")) return 0;
+
+            final String maxAge = directives.get("max-age");
+            if (maxAge != null) {
+                try {
+                    return now + (Long.parseLong(maxAge) - parseSeconds(response.getHeader("Age"))) * 1000;
+                } catch (final NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+
+        final String expires = response.getHeader("Expires");
+        if (expires == null) return 0;
+
+        try {
+            final long expiresTime = parseDate(expires);
+            final String date = response.getHeader("Date");
+            // Measure the lifetime against the server clock, not ours.
+            return now + expiresTime - (date != null ? parseDate(date) : now);
+        } catch (final DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    private static @NotNull Map<String, String> directives(final @NotNull String cacheControl) {
+        final Map<String, String> directives = new HashMap<>();
+
+        for (final String directive : cacheControl.split(",")) {
+            final String trimmed = directive.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.isEmpty()) continue;
+
+            final int equals = trimmed.indexOf('=');
+            if (equals < 0) directives.put(trimmed, "");
+            else directives.put(trimmed.substring(0, equals).trim(),
+                    trimmed.substring(equals + 1).trim().replace("\"", ""));
+        }
+
+        return directives;
+    }
+
+    private static long parseSeconds(final @Nullable String value) {
+        if (value == null) return 0;
+
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long parseDate(final @NotNull String date) {
+        return ZonedDateTime.parse(date.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+    }
+
+    /**
+     * The stored metadata of a cached response.
+     *
+     * @param url the url of the response
+     * @param etag the {@code ETag} of the response, may be null
+     * @param lastModified the {@code Last-Modified} date of the response, may be null
+     * @param contentType the {@code Content-Type} of the response, may be null
+     * @param expiresAt the time the response stops being fresh, in epoch milliseconds
+     */
+    private record Metadata(String url,
+                            @Nullable String etag,
+                            @Nullable String lastModified,
+                            @Nullable String contentType,
+                            long expiresAt) { }
+
+    /**
+     * A cached response.
+     */
+    public static final class Entry {
+        private volatile Metadata metadata;
+        private final Path body;
+        private final Map<Object, Object> parsed = new ConcurrentHashMap<>();
+
+        private Entry(final Metadata metadata, final Path body) {
+            this.metadata = metadata;
+            this.body = body;
+        }
+
+        /**
+         * Checks if the entry can be used without revalidating it with the server.
+         * @return true if the entry is still fresh
+         */
+        public boolean isFresh() {
+            return System.currentTimeMillis() < metadata.expiresAt();
+        }
+
+        /**
+         * Returns the headers to send to revalidate this entry with the server.
+         * @return the conditional request headers
+         */
+        public @NotNull Map<String, String> getConditionalHeaders() {
+            final Map<String, String> headers = new HashMap<>();
+            final Metadata current = metadata;
+            if (current.etag() != null) headers.put("If-None-Match", current.etag());
+            if (current.lastModified() != null) headers.put("If-Modified-Since", current.lastModified());
+            return headers;
+        }
+
+        /**
+         * Returns the {@code Content-Type} of the cached response.
+         * @return the content type or null if the server sent none
+         */
+        public @Nullable String getContentType() {
+            return metadata.contentType();
+        }
+
+        /**
+         * Opens the stored body of the cached response.
+         * @return a stream over the stored body
+         * @throws IOException if the body cannot be read
+         */
+        public InputStream openBody() throws IOException {
+            return Files.newInputStream(body);
+        }
+
+        /**
+         * Returns the result of parsing this entry's body with the parser identified by the specified key,
+         * parsing it only the first time. Parsed results are only kept in memory.
+         * @param key identifies the parser
+         * @param parser parses the body
+         * @param <T> the type of the parsed result
+         * @return the parsed result
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T getParsed(final Object key, final Supplier<T> parser) {
+            checkArgumentNotNull(key, cannotBeNull("key"));
+            checkArgumentNotNull(parser, cannotBeNull("parser"));
+            return (T) parsed.computeIfAbsent(key, ignored -> parser.get());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.interfaces.Buildable;
+import com.jwcomptech.commons.utils.SingletonManager;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A {@link DownloadTransport} backed by a {@link HttpClient}.
+ * <p>
+ * The client keeps a pool of open connections, so repeated requests to the same host skip
+ * the TCP and TLS handshakes, and multiplexes concurrent requests, such as the segments of a
+ * download, over a single HTTP/2 connection where the server supports it.
+ * <p>
+ * The read timeout bounds the wait for the response headers and every read of the body, so a
+ * connection that stalls mid-body fails with a {@link java.net.SocketTimeoutException} instead
+ * of blocking the download forever.
+ * @since 1.0.0-alpha
+ */
+public final class HttpClientTransport implements DownloadTransport {
+    private final HttpClient client;
+    private final Duration readTimeout;
+
+    private HttpClientTransport(final HttpClient client, final Duration readTimeout) {
+        this.client = client;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Returns the shared transport, using the default timeouts.
+     * @return the shared transport
+     */
+    public static HttpClientTransport getDefault() {
+        return SingletonManager.getInstance(HttpClientTransport.class, () -> builder().build());
+    }
+
+    /**
+     * Returns a new builder for creating a transport with custom settings.
+     * @return a new builder for creating a transport with custom settings
+     */
+    @Contract(" -> new")
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public TransportResponse send(final URL url, final Map<String, String> headers) throws IOException {
+        checkArgumentNotNull(url, cannotBeNull("url"));
+        checkArgumentNotNull(headers, cannotBeNull("headers"));
+
+        final HttpRequest.Builder request;
+        try {
+            request = HttpRequest.newBuilder(url.toURI()).timeout(readTimeout).GET();
+        } catch (final URISyntaxException e) {
+            throw new IOException("Invalid url " + url + '!', e);
+        }
+        headers.forEach(request::header);
+
+        try {
+            final HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+            return new Response(response, new ReadTimeoutInputStream(response.body(), readTimeout));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + url + '!');
+        }
+    }
+
+    /**
+     * Returns the underlying client.
+     * @return the underlying client
+     */
+    public HttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * Returns the time allowed for the server to respond and for each read of the body.
+     * @return the time allowed for the server to respond and for each read of the body
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    private record Response(HttpResponse<InputStream> response, InputStream body) implements TransportResponse {
+        @Override
+        public int getStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public @Nullable String getHeader(final String name) {
+            return response.headers().firstValue(name).orElse(null);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                body.close();
+            } catch (final IOException ignored) {}
+        }
+    }
+
+    /**
+     * A builder for creating {@link HttpClientTransport} instances.
+     */
+    public static final class Builder implements Buildable<HttpClientTransport> {
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private Duration readTimeout = DEFAULT_READ_TIMEOUT;
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+        private Builder() { }
+
+        /**
+         * Sets the time allowed for establishing a connection.
+         *
+         * @param connectTimeout the time allowed for establishing a connection
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code connectTimeout} is null or not positive
+         */
+        public Builder withConnectTimeout(final Duration connectTimeout) {
+            checkArgumentNotNull(connectTimeout, cannotBeNull("connectTimeout"));
+            checkArgument(connectTimeout.isPositive(), "Connect timeout must be positive!");
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the time allowed for the server to respond to a request and for each read of the body.
+         *
+         * @param readTimeout the time allowed for the server to respond
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code readTimeout} is null or not positive
+         */
+        public Builder withReadTimeout(final Duration readTimeout) {
+            checkArgumentNotNull(readTimeout, cannotBeNull("readTimeout"));
+            checkArgument(readTimeout.isPositive(), "Read timeout must be positive!");
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the preferred HTTP version, defaults to HTTP/2 which falls back
+         * to HTTP/1.1 for servers that do not support it.
+         *
+         * @param version the preferred HTTP version
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code version} is null
+         */
+        public Builder withVersion(final HttpClient.Version version) {
+            checkArgumentNotNull(version, cannotBeNull("version"));
+            this.version = version;
+            return this;
+        }
+
+        /**
+         * Builds a new HttpClientTransport instance with the set parameters.
+         *
+         * @return a new HttpClientTransport instance
+         */
+        @Override
+        public HttpClientTransport build() {
+            return new HttpClientTransport(HttpClient.newBuilder()
+                    .version(version)
+                    .connectTimeout(connectTimeout)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build(), readTimeout);
+        }
+    }
+}
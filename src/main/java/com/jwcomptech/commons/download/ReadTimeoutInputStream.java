@@ -0,0 +1,166 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds how long a single read of the wrapped stream may block.
+ * <p>
+ * A read that makes no progress within the timeout gets the wrapped stream
+ * closed underneath it, which wakes the blocked read, and then fails with a
+ * {@link SocketTimeoutException}. The timing is done by one shared watchdog
+ * thread that scans the open streams, so a read costs two volatile writes and
+ * no allocation. The watchdog runs only while timed streams are open.
+ * @since 1.0.0-alpha
+ */
+final class ReadTimeoutInputStream extends FilterInputStream {
+    private static final long WATCHDOG_INTERVAL_MILLIS = 250;
+    private static final Set<ReadTimeoutInputStream> OPEN = ConcurrentHashMap.newKeySet();
+    private static final Object WATCHDOG_LOCK = new Object();
+    private static boolean watchdogRunning;
+
+    private final long timeoutNanos;
+    /** The {@link System#nanoTime()} the current read started at, 0 while not reading. */
+    private volatile long readStarted;
+    private volatile boolean timedOut;
+
+    /**
+     * Creates a new stream and registers it with the watchdog.
+     * @param in the stream to read from
+     * @param timeout the maximum time a single read may block
+     */
+    ReadTimeoutInputStream(final @NotNull InputStream in, final @NotNull Duration timeout) {
+        super(in);
+        this.timeoutNanos = timeout.toNanos();
+        OPEN.add(this);
+        startWatchdog();
+    }
+
+    @Override
+    public int read() throws IOException {
+        beginRead();
+        try {
+            return checkTimeout(in.read());
+        } catch (final IOException e) {
+            throw timedOut ? timeout(e) : e;
+        } finally {
+            readStarted = 0;
+        }
+    }
+
+    @Override
+    public int read(final byte @NotNull [] b, final int off, final int len) throws IOException {
+        beginRead();
+        try {
+            return checkTimeout(in.read(b, off, len));
+        } catch (final IOException e) {
+            throw timedOut ? timeout(e) : e;
+        } finally {
+            readStarted = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        OPEN.remove(this);
+        in.close();
+    }
+
+    private void beginRead() throws IOException {
+        if (timedOut) throw timeout(null);
+        // 0 marks an idle stream, so never store it as a start time.
+        readStarted = System.nanoTime() | 1L;
+    }
+
+    /** A stream closed by the watchdog reports end of stream, which must not pass as a complete body. */
+    private int checkTimeout(final int result) throws IOException {
+        if (timedOut) throw timeout(null);
+        return result;
+    }
+
+    private SocketTimeoutException timeout(final IOException cause) {
+        final SocketTimeoutException e = new SocketTimeoutException(
+                "Read timed out after " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms!");
+        if (cause != null) e.initCause(cause);
+        return e;
+    }
+
+    /**
+     * Aborts the current read if it has been blocked for longer than the timeout.
+     * @param now the current {@link System#nanoTime()}
+     */
+    private void expireIfStalled(final long now) {
+        final long started = readStarted;
+        if (started == 0 || now - started < timeoutNanos) return;
+
+        timedOut = true;
+        OPEN.remove(this);
+        try {
+            in.close();
+        } catch (final IOException ignored) {}
+    }
+
+    private static void startWatchdog() {
+        synchronized (WATCHDOG_LOCK) {
+            if (watchdogRunning) return;
+            watchdogRunning = true;
+        }
+        Thread.ofPlatform().daemon().name("download-read-watchdog").start(ReadTimeoutInputStream::watch);
+    }
+
+    private static void watch() {
+        while (true) {
+            try {
+                Thread.sleep(WATCHDOG_INTERVAL_MILLIS);
+            } catch (final InterruptedException e) {
+                synchronized (WATCHDOG_LOCK) {
+                    watchdogRunning = false;
+                }
+                return;
+            }
+
+            synchronized (WATCHDOG_LOCK) {
+                // Registration adds to OPEN before checking the flag, so no stream is left unwatched.
+                if (OPEN.isEmpty()) {
+                    watchdogRunning = false;
+                    return;
+                }
+            }
+
+            final long now = System.nanoTime();
+            for (final ReadTimeoutInputStream stream : OPEN) {
+                stream.expireIfStalled(now);
+            }
+        }
+    }
+}
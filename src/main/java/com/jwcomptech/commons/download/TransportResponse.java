@@ -0,0 +1,79 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The response to a request sent by a {@link DownloadTransport}.
+ * <p>
+ * Closing the response releases the underlying connection, if the body was read to the end
+ * the connection is returned to the pool of the transport to be reused.
+ * @since 1.0.0-alpha
+ */
+public interface TransportResponse extends Closeable {
+    /**
+     * Returns the HTTP status code.
+     * @return the HTTP status code
+     */
+    int getStatusCode();
+
+    /**
+     * Returns the first value of the specified header.
+     * @param name the case-insensitive header name
+     * @return the header value or null if the header is missing
+     */
+    @Nullable String getHeader(String name);
+
+    /**
+     * Returns the body of the response, for error responses this is the error body.
+     * @return the body of the response
+     * @throws IOException if the body cannot be opened
+     */
+    InputStream getBody() throws IOException;
+
+    /**
+     * Returns the value of the {@code Content-Length} header.
+     * @return the length of the body or -1 if unknown
+     */
+    default long getContentLength() {
+        final String length = getHeader("Content-Length");
+        if (length == null) return -1;
+
+        try {
+            return Long.parseLong(length.trim());
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Closes the body and releases the connection.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,118 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A {@link DownloadTransport} backed by {@link HttpURLConnection}.
+ * <p>
+ * Connections are kept alive by the JDK's keep-alive cache once a body has been read to the
+ * end, but requests are never multiplexed. As with {@link HttpClientTransport}, the read
+ * timeout applies to every read of the body.
+ * @since 1.0.0-alpha
+ */
+public final class URLConnectionTransport implements DownloadTransport {
+    private final int connectTimeout;
+    private final int readTimeout;
+
+    /**
+     * Creates a new transport using the default timeouts.
+     */
+    public URLConnectionTransport() {
+        this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT);
+    }
+
+    /**
+     * Creates a new transport using the specified timeouts.
+     * @param connectTimeout the time allowed for establishing a connection
+     * @param readTimeout the time allowed for each read from the server
+     * @throws IllegalArgumentException if either timeout is null or not positive
+     */
+    public URLConnectionTransport(final Duration connectTimeout, final Duration readTimeout) {
+        checkArgumentNotNull(connectTimeout, cannotBeNull("connectTimeout"));
+        checkArgumentNotNull(readTimeout, cannotBeNull("readTimeout"));
+        checkArgument(connectTimeout.isPositive(), "Connect timeout must be positive!");
+        checkArgument(readTimeout.isPositive(), "Read timeout must be positive!");
+        this.connectTimeout = (int) Math.min(connectTimeout.toMillis(), Integer.MAX_VALUE);
+        this.readTimeout = (int) Math.min(readTimeout.toMillis(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public TransportResponse send(final URL url, final Map<String, String> headers) throws IOException {
+        checkArgumentNotNull(url, cannotBeNull("url"));
+        checkArgumentNotNull(headers, cannotBeNull("headers"));
+
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(connectTimeout);
+        connection.setReadTimeout(readTimeout);
+        headers.forEach(connection::setRequestProperty);
+        connection.connect();
+
+        return new Response(connection, connection.getResponseCode());
+    }
+
+    private record Response(HttpURLConnection connection, int statusCode) implements TransportResponse {
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public @Nullable String getHeader(final String name) {
+            return connection.getHeaderField(name);
+        }
+
+        @Override
+        public long getContentLength() {
+            return connection.getContentLengthLong();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (statusCode < HttpURLConnection.HTTP_BAD_REQUEST) return connection.getInputStream();
+
+            final InputStream error = connection.getErrorStream();
+            return error != null ? error : InputStream.nullInputStream();
+        }
+
+        @Override
+        public void close() {
+            // Closing the body rather than disconnecting lets the connection be reused.
+            try {
+                getBody().close();
+            } catch (final IOException ignored) {}
+        }
+    }
+}
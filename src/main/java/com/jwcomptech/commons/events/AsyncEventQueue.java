@@ -0,0 +1,219 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.logging.JWLogger;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded queue of fired events of a single event name, drained in order by a virtual
+ * thread that is only alive while the queue is not empty.
+ * @since 1.0.0-alpha
+ */
+final class AsyncEventQueue {
+    private static final JWLogger logger = JWLogger.of(AsyncEventQueue.class);
+
+    private final String eventName;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    // Array backed ring buffer, never grown past the capacity.
+    // Holds pooled events to dispatch, runnables or batch deliveries.
+    private final ArrayDeque<Object> queue;
+    private final EventPool pool;
+    private final Lock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final LongAdder dropped = new LongAdder();
+    private Thread drainer;
+    private volatile EventInstrumentation instrumentation;
+
+    AsyncEventQueue(final String eventName,
+                    final Event template,
+                    final int capacity,
+                    final OverflowPolicy policy) {
+        this.eventName = eventName;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.queue = new ArrayDeque<>(capacity);
+        // One extra for the event being handled while the queue is full.
+        pool = new EventPool(template, capacity + 1);
+    }
+
+    /**
+     * Returns a pooled copy of the registered event to fill in and {@link #offer(Event)}.
+     * @return a pooled copy of the registered event
+     */
+    Event acquire() {
+        return pool.acquire();
+    }
+
+    /**
+     * Queues the specified pooled event, applying the overflow policy if the queue is full.
+     * The event is returned to the pool once it has been handled or dropped.
+     * @param event the event to dispatch on the drainer thread
+     * @return false if the event was dropped
+     */
+    boolean offer(final Event event) {
+        return enqueue(event);
+    }
+
+    /**
+     * Queues the specified dispatch, applying the overflow policy if the queue is full.
+     * @param dispatch the dispatch to run on the drainer thread
+     * @return false if the dispatch was dropped
+     */
+    boolean offer(final Runnable dispatch) {
+        return enqueue(dispatch);
+    }
+
+    /**
+     * Queues the specified dispatch, applying the overflow policy if the queue is full.
+     * If the dispatch is dropped, now or later by {@link OverflowPolicy#DROP_OLDEST},
+     * the discard hook is run instead so it can release what the dispatch holds.
+     * @param dispatch the dispatch to run on the drainer thread
+     * @param onDiscard run instead of the dispatch if it is dropped
+     * @return false if the dispatch was dropped
+     */
+    boolean offer(final Runnable dispatch, final Runnable onDiscard) {
+        return enqueue(new Delivery(dispatch, onDiscard));
+    }
+
+    private boolean enqueue(final Object item) {
+        boolean startDrainer = false;
+
+        lock.lock();
+        try {
+            // A handler firing its own event must not wait for itself.
+            while (queue.size() >= capacity && Thread.currentThread() != drainer) {
+                switch (policy) {
+                    case BLOCK -> {
+                        try {
+                            notFull.await();
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            discard(item);
+                            return false;
+                        }
+                    }
+                    case DROP_OLDEST -> discard(queue.pollFirst());
+                    case DROP_NEWEST -> {
+                        discard(item);
+                        return false;
+                    }
+                }
+            }
+
+            queue.addLast(item);
+
+            final EventInstrumentation instrumentation = this.instrumentation;
+            if (instrumentation != null) instrumentation.queued(eventName, queue.size());
+
+            if (drainer == null) {
+                drainer = Thread.ofVirtual().name("EventManager-" + eventName).unstarted(this::drain);
+                startDrainer = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (startDrainer) drainer.start();
+        return true;
+    }
+
+    private void discard(final Object item) {
+        if (item instanceof final Event event) pool.release(event);
+        else if (item instanceof final Delivery delivery) delivery.onDiscard().run();
+        dropped.increment();
+    }
+
+    private void drain() {
+        while (true) {
+            final Object item;
+
+            lock.lock();
+            try {
+                item = queue.pollFirst();
+                if (item == null) {
+                    drainer = null;
+                    return;
+                }
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                if (item instanceof final Event event) {
+                    try {
+                        event.dispatch();
+                    } finally {
+                        pool.release(event);
+                    }
+                } else if (item instanceof final Delivery delivery) {
+                    delivery.dispatch().run();
+                } else {
+                    ((Runnable) item).run();
+                }
+            } catch (final RuntimeException e) {
+                // One failing handler must not stop the events queued behind it.
+                logger.error("Event handler for \"{}\" failed!", eventName, e);
+            }
+        }
+    }
+
+    /**
+     * Sets the instrumentation that records the depth of this queue.
+     * @param instrumentation the instrumentation to use, or null to turn instrumentation off
+     */
+    void setInstrumentation(final EventInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * Returns the number of queued events.
+     * @return the number of queued events
+     */
+    int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the queue was full.
+     * @return the number of dropped events
+     */
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /** A queued dispatch with a hook releasing what it holds if it is dropped. */
+    private record Delivery(Runnable dispatch, Runnable onDiscard) { }
+}
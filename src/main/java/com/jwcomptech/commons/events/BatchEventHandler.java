@@ -0,0 +1,43 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.EventListener;
+import java.util.List;
+
+/**
+ * Handler for batches of events of a specific class / type.
+ * @param <T> the event class this handler can handle
+ * @see EventManager#enableBatching(String, java.time.Duration, int)
+ * @see EventManager#enableCoalescing(String, java.time.Duration, java.util.function.BiFunction)
+ * @since 1.0.0-alpha
+ */
+@FunctionalInterface
+public interface BatchEventHandler<T extends Event> extends EventListener {
+    /**
+     * Invoked once per batching window with the events fired during that window.
+     * The list and its events are reused for later batches, so they must not be kept after this method returns.
+     * @param events the events which occurred, in the order they were first fired
+     */
+    void handle(List<T> events);
+}
@@ -22,7 +22,9 @@ package com.jwcomptech.commons.events;
  * #L%
  */
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -48,6 +50,8 @@ public class Event implements Cloneable, Serializable {
     /** Common supertype for all event types. */
     public static final EventType<Event> ANY = EventType.ROOT;
 
+    static final Object[] NO_ARGS = {};
+
     /** The object on which the Event initially occurred. */
     private transient Object source;
 
@@ -67,7 +71,16 @@ public class Event implements Cloneable, Serializable {
     private boolean consumed;
 
     /** Event arguments to make available to the EventHandler. */
-    private final List<Object> args = new ArrayList<>();
+    @Setter(AccessLevel.NONE)
+    private List<Object> args = new ArrayList<>();
+
+    /** Primitive argument to make available to the EventHandler without boxing. */
+    @Setter(AccessLevel.NONE)
+    private long longArg;
+
+    /** Primitive argument to make available to the EventHandler without boxing. */
+    @Setter(AccessLevel.NONE)
+    private double doubleArg;
 
     /**
      * Construct a new {@code Event} with the specified event target.
@@ -184,14 +197,29 @@ public class Event implements Cloneable, Serializable {
     @Contract(pure = true)
     public final @NotNull @UnmodifiableView List<Object> getArgs() { return Collections.unmodifiableList(args); }
 
+    /**
+     * Returns the primitive long argument, set by {@link #fireLongEvent(Object, long)}.
+     * @return the long argument, 0 if the event was not fired with one
+     */
+    public final long getLongArg() { return longArg; }
+
+    /**
+     * Returns the primitive double argument, set by {@link #fireDoubleEvent(Object, double)}.
+     * @return the double argument, 0 if the event was not fired with one
+     */
+    public final double getDoubleArg() { return doubleArg; }
+
     /**
      * Creates and returns a copy of this {@code Event}.
+     * The copy gets its own args list so firing either event does not affect the other.
      * @return a new instance of {@code Event} with all values copied from this {@code Event}.
      */
     @Override
     public final Object clone() {
         try {
-            return super.clone();
+            final var newEvent = (Event) super.clone();
+            newEvent.args = new ArrayList<>(args);
+            return newEvent;
         } catch (final CloneNotSupportedException e) {
             // we implement Cloneable, this shouldn't happen
             throw new IllegalStateException("Can't clone Event");
@@ -199,13 +227,40 @@ public class Event implements Cloneable, Serializable {
     }
 
     /**
-     * Fires the event with the specified source.
+     * Replaces the source, args and primitive args of this event before it is dispatched by the {@link EventManager}.
      * @param source the event source which sent the event
+     * @param args the parameters to pass to the EventHandler
+     * @param longArg the primitive long argument
+     * @param doubleArg the primitive double argument
      */
-    public final void fireEvent(final Object source) {
+    final void prepare(final Object source, final Object[] args, final long longArg, final double doubleArg) {
         this.source = source;
-        if(!consumed) target.fire(this, eventType);
+        this.args.clear();
+        Collections.addAll(this.args, args);
+        this.longArg = longArg;
+        this.doubleArg = doubleArg;
+    }
+
+    /** Clears this event so a pooled copy can be reused. */
+    final void reset() {
+        source = null;
+        consumed = false;
         args.clear();
+        longArg = 0;
+        doubleArg = 0;
+    }
+
+    /** Passes this event to the handlers of its target unless it has been consumed. */
+    final void dispatch() {
+        if(!consumed) target.fire(this, eventType);
+    }
+
+    /**
+     * Fires the event with the specified source.
+     * @param source the event source which sent the event
+     */
+    public final void fireEvent(final Object source) {
+        fire(source, NO_ARGS, 0, 0);
     }
 
     /**
@@ -214,9 +269,42 @@ public class Event implements Cloneable, Serializable {
      * @param args a list of parameters to pass to the EventHandler
      */
     public final void fireEvent(final Object source, final Object... args) {
+        fire(source, args, 0, 0);
+    }
+
+    /**
+     * Fires the event with the specified source and a primitive long argument, without boxing.
+     * @param source the event source which sent the event
+     * @param value the value returned by {@link #getLongArg()} while the event is handled
+     */
+    public final void fireLongEvent(final Object source, final long value) {
+        fire(source, NO_ARGS, value, 0);
+    }
+
+    /**
+     * Fires the event with the specified source and a primitive double argument, without boxing.
+     * @param source the event source which sent the event
+     * @param value the value returned by {@link #getDoubleArg()} while the event is handled
+     */
+    public final void fireDoubleEvent(final Object source, final double value) {
+        fire(source, NO_ARGS, 0, value);
+    }
+
+    /**
+     * Fires this event in place, adding the specified args to the ones it already has.
+     * @param source the event source which sent the event
+     * @param args the parameters to pass to the EventHandler
+     * @param longArg the primitive long argument
+     * @param doubleArg the primitive double argument
+     */
+    final void fire(final Object source, final Object[] args, final long longArg, final double doubleArg) {
         this.source = source;
-        this.args.addAll(Arrays.asList(args));
-        if(!consumed) target.fire(this, eventType);
+        Collections.addAll(this.args, args);
+        this.longArg = longArg;
+        this.doubleArg = doubleArg;
+        dispatch();
         this.args.clear();
+        this.longArg = 0;
+        this.doubleArg = 0;
     }
 }
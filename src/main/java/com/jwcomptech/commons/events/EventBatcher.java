@@ -0,0 +1,189 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Collects the events of a single event name fired within a window and hands them
+ * to a consumer as one batch, optionally keeping only the latest event per key.
+ * <p>
+ * The events of a batch are pooled copies of the registered event. The consumer must call
+ * {@link #release(List)} once the batch has been delivered, after which the events and
+ * the list itself are reused for later batches.
+ * @since 1.0.0-alpha
+ */
+final class EventBatcher {
+    // Most idle event copies kept per batcher, coalescing batchers have no batch size limit.
+    private static final int MAX_POOLED_EVENTS = 256;
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BiFunction<Object, Object[], ?> keyFunction;
+    private final BiConsumer<EventBatcher, List<Event>> consumer;
+    private final EventPool pool;
+    private final Lock lock = new ReentrantLock();
+    // Held while taking and delivering a batch so batches are delivered in order.
+    private final Lock flushLock = new ReentrantLock();
+    private final Map<Object, Event> latestByKey = new HashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    private List<Event> pending = new ArrayList<>();
+    // A released batch list, swapped in as the next pending list.
+    private List<Event> spare;
+    private boolean scheduled;
+
+    /** Ends the windows of every batcher on one long-lived thread, created on first use. */
+    private static final class Timer {
+        static final ScheduledExecutorService SCHEDULER =
+                new ScheduledThreadPoolExecutor(1, Thread.ofVirtual().name("EventBatcher").factory());
+    }
+
+    /**
+     * Creates a new batcher.
+     * @param template the registered event that fired events are copied from
+     * @param window how long events are collected before a batch is delivered
+     * @param maxBatchSize the number of events that delivers a batch before the window ends
+     * @param keyFunction the coalescing key of a fired event, null to keep every event
+     * @param consumer receives this batcher and every batch
+     */
+    EventBatcher(final Event template,
+                 final Duration window,
+                 final int maxBatchSize,
+                 final BiFunction<Object, Object[], ?> keyFunction,
+                 final BiConsumer<EventBatcher, List<Event>> consumer) {
+        windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.keyFunction = keyFunction;
+        this.consumer = consumer;
+        pool = new EventPool(template, Math.min(maxBatchSize, MAX_POOLED_EVENTS));
+    }
+
+    /**
+     * Adds a fired event to the current batch.
+     * @param source the event source which sent the event
+     * @param args the parameters to pass to the handlers
+     * @param longArg the primitive long argument
+     * @param doubleArg the primitive double argument
+     */
+    void add(final Object source, final Object[] args, final long longArg, final double doubleArg) {
+        final boolean full;
+
+        lock.lock();
+        try {
+            // A null key keeps the event without coalescing it.
+            final Object key = keyFunction == null ? null : keyFunction.apply(source, args);
+            final Event latest = key == null ? null : latestByKey.get(key);
+            if (latest == null) {
+                final Event event = pool.acquire();
+                event.prepare(source, args, longArg, doubleArg);
+                pending.add(event);
+                if (key != null) latestByKey.put(key, event);
+            } else {
+                // Overwrite the queued event in place instead of allocating a new one.
+                latest.prepare(source, args, longArg, doubleArg);
+                coalesced.increment();
+            }
+
+            full = pending.size() >= maxBatchSize;
+            if (!full && !scheduled) {
+                scheduled = true;
+                Timer.SCHEDULER.schedule(this::endWindow, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full) flush();
+    }
+
+    private void endWindow() {
+        lock.lock();
+        try {
+            scheduled = false;
+        } finally {
+            lock.unlock();
+        }
+        flush();
+    }
+
+    /** Delivers the current batch, if any, on the calling thread. */
+    void flush() {
+        flushLock.lock();
+        try {
+            final List<Event> batch;
+
+            lock.lock();
+            try {
+                if (pending.isEmpty()) return;
+                batch = pending;
+                pending = spare != null ? spare : new ArrayList<>(batch.size());
+                spare = null;
+                latestByKey.clear();
+            } finally {
+                lock.unlock();
+            }
+
+            consumer.accept(this, batch);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the events of a delivered batch to the pool and keeps the list for a later batch.
+     * @param batch the batch that was handed to the consumer
+     */
+    void release(final List<Event> batch) {
+        for (final Event event : batch) {
+            pool.release(event);
+        }
+        batch.clear();
+
+        lock.lock();
+        try {
+            if (spare == null) spare = batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of fired events that replaced an event with the same key.
+     * @return the number of coalesced events
+     */
+    long getCoalescedCount() {
+        return coalesced.sum();
+    }
+}
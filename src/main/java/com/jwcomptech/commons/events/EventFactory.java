@@ -0,0 +1,43 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.List;
+
+/**
+ * Creates events for the {@link EventManager} without reflection,
+ * typically a constructor reference such as {@code ActionEvent::new}.
+ * @param <T> the event class this factory creates
+ * @since 1.0.0-alpha
+ */
+@FunctionalInterface
+public interface EventFactory<T extends Event> {
+    /**
+     * Creates a new event.
+     * @param target the event target to associate with the event
+     * @param eventType the event type
+     * @param args arguments to make available to the EventHandler
+     * @return the new event
+     */
+    T create(EventTarget<? extends T> target, EventType<? extends T> eventType, List<Object> args);
+}
@@ -0,0 +1,146 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.logging.JWLogger;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * Records how events are dispatched: the fire count and handler latencies of each event type,
+ * the deepest each asynchronous queue got and a warning for every handler call slower than a
+ * threshold. Instrumentation is off unless an instance is set on an {@link EventTarget} or the
+ * {@link EventManager}, in which case dispatch only pays for a null check.
+ * @since 1.0.0-alpha
+ */
+public final class EventInstrumentation {
+    private static final JWLogger logger = JWLogger.of(EventInstrumentation.class);
+
+    /** The default slow handler threshold, one frame at 60 frames per second. */
+    public static final Duration DEFAULT_SLOW_HANDLER_THRESHOLD = Duration.ofMillis(16);
+
+    private final long slowHandlerNanos;
+    private final Map<EventType<? extends Event>, EventTypeStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> maxQueueDepths = new ConcurrentHashMap<>();
+
+    /** Creates a new instrumentation with the {@link #DEFAULT_SLOW_HANDLER_THRESHOLD}. */
+    public EventInstrumentation() {
+        this(DEFAULT_SLOW_HANDLER_THRESHOLD);
+    }
+
+    /**
+     * Creates a new instrumentation.
+     * @param slowHandlerThreshold handler calls taking longer than this are logged as warnings
+     * @throws IllegalArgumentException if slowHandlerThreshold is null or not positive
+     */
+    public EventInstrumentation(final Duration slowHandlerThreshold) {
+        checkArgumentNotNull(slowHandlerThreshold, cannotBeNull("slowHandlerThreshold"));
+        checkArgument(slowHandlerThreshold.isPositive(), "Slow handler threshold must be positive!");
+        slowHandlerNanos = slowHandlerThreshold.toNanos();
+    }
+
+    /**
+     * Returns the statistics of the specified event type.
+     * @param eventType the event type
+     * @return the statistics, created empty if the type has not been fired yet
+     */
+    public @NotNull EventTypeStats getStats(final EventType<? extends Event> eventType) {
+        return stats.computeIfAbsent(eventType, EventTypeStats::new);
+    }
+
+    /**
+     * Returns the statistics of every event type fired so far.
+     * @return the statistics keyed by event type
+     */
+    public @NotNull @UnmodifiableView Map<EventType<? extends Event>, EventTypeStats> getAllStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Returns the deepest the asynchronous queue of the specified event name got.
+     * @param eventName the event name
+     * @return the maximum queue depth, 0 if the event is not dispatched asynchronously
+     */
+    public int getMaxQueueDepth(final String eventName) {
+        final AtomicInteger depth = maxQueueDepths.get(eventName);
+        return depth == null ? 0 : depth.get();
+    }
+
+    /** Clears everything recorded so far. */
+    public void reset() {
+        stats.values().forEach(EventTypeStats::reset);
+        maxQueueDepths.clear();
+    }
+
+    /**
+     * Times a handler call and records it against the specified event type.
+     * @param eventType the event type the handler is registered for
+     * @param handler the handler
+     * @param startNanos when the call started
+     */
+    void handled(final EventType<? extends Event> eventType, final EventHandler<?> handler, final long startNanos) {
+        final long elapsed = System.nanoTime() - startNanos;
+        final boolean slow = elapsed > slowHandlerNanos;
+        final String name = nameOf(handler);
+
+        getStats(eventType).handled(name, elapsed, slow);
+        if (slow) {
+            logger.warn("Slow event handler {} for {} took {} ms",
+                    name, eventType.getName(), elapsed / 1_000_000.0);
+        }
+    }
+
+    void fired(final EventType<? extends Event> eventType) {
+        getStats(eventType).fired();
+    }
+
+    void queued(final String eventName, final int depth) {
+        final AtomicInteger max = maxQueueDepths.computeIfAbsent(eventName, name -> new AtomicInteger());
+        if (depth > max.get()) max.accumulateAndGet(depth, Math::max);
+    }
+
+    private static String nameOf(final EventHandler<?> handler) {
+        return handler instanceof final SubscribedHandler<?> subscribed
+                ? subscribed.describe()
+                : handler.getClass().getName();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("slowHandlerThreshold", Duration.ofNanos(slowHandlerNanos))
+                .append("stats", stats.values())
+                .toString();
+    }
+}
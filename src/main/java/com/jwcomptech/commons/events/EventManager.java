@@ -29,12 +29,22 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 
 /**
  * Allows global event handler registration and forwards received
@@ -43,7 +53,16 @@ import java.util.Map;
  */
 @SuppressWarnings("unused")
 public final class EventManager {
-    private final Map<String, Event> events = new HashMap<>();
+    private final Map<String, Event> events = new ConcurrentHashMap<>();
+    private final Map<String, AsyncEventQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, EventBatcher> batchers = new ConcurrentHashMap<>();
+    private final Map<String, List<BatchEventHandler<Event>>> batchHandlers = new ConcurrentHashMap<>();
+    private volatile EventInstrumentation instrumentation;
+
+    private static final MethodType EVENT_CONSTRUCTOR
+            = MethodType.methodType(void.class, EventTarget.class, EventType.class, List.class);
+    private static final MethodType EVENT_FACTORY
+            = MethodType.methodType(Event.class, EventTarget.class, EventType.class, List.class);
 
     private EventManager() { }
 
@@ -85,12 +104,81 @@ public final class EventManager {
                                                          final EventType<? extends T> eventType,
                                                          final List<Object> args)
             throws IllegalAccessException, InvocationTargetException, InstantiationException, NoSuchMethodException {
-        if (eventName == null || eventName.trim().isEmpty()) {
-            throw new IllegalArgumentException("Event name cannot be null!");
-        }
         if (classRef == null) {
             throw new IllegalArgumentException("Event class ref cannot be null!");
         }
+        checkRegistration(eventName, target, eventType, args);
+
+        final MethodHandle constructor = MethodHandles.publicLookup()
+                .findConstructor(classRef, EVENT_CONSTRUCTOR)
+                .asType(EVENT_FACTORY);
+
+        final T event;
+        try {
+            event = classRef.cast((Event) constructor.invokeExact(target, eventType, args));
+        } catch (final Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+
+        if (instrumentation != null) event.getTarget().setInstrumentation(instrumentation);
+        events.put(eventName, event);
+
+        return event;
+    }
+
+    /**
+     * Creates a new event with the specified factory, e.g. {@code ActionEvent::new}, and registers it
+     * under the specified name.
+     * @param eventName the name to register the event under
+     * @param factory creates the event
+     * @param eventType the event type
+     * @param <T> the event class
+     * @return the registered event
+     * @throws IllegalArgumentException if any parameter is null or the event name is empty
+     */
+    @Contract("null, _, _ -> fail")
+    public <T extends Event> @NotNull T registerNewEvent(final String eventName,
+                                                         final EventFactory<T> factory,
+                                                         final EventType<? extends T> eventType) {
+        return registerNewEvent(eventName, factory, new EventTarget<>(), eventType, new ArrayList<>());
+    }
+
+    /**
+     * Creates a new event with the specified factory, e.g. {@code ActionEvent::new}, and registers it
+     * under the specified name.
+     * @param eventName the name to register the event under
+     * @param factory creates the event
+     * @param target the event target to associate with the event
+     * @param eventType the event type
+     * @param args arguments to make available to the EventHandler
+     * @param <T> the event class
+     * @return the registered event
+     * @throws IllegalArgumentException if any parameter is null or the event name is empty
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public <T extends Event> @NotNull T registerNewEvent(final String eventName,
+                                                         final EventFactory<T> factory,
+                                                         final EventTarget<? extends T> target,
+                                                         final EventType<? extends T> eventType,
+                                                         final List<Object> args) {
+        checkArgumentNotNull(factory, cannotBeNull("factory"));
+        checkRegistration(eventName, target, eventType, args);
+
+        final T event = factory.create(target, eventType, args);
+
+        if (instrumentation != null) event.getTarget().setInstrumentation(instrumentation);
+        events.put(eventName, event);
+
+        return event;
+    }
+
+    private static void checkRegistration(final String eventName,
+                                          final EventTarget<?> target,
+                                          final EventType<?> eventType,
+                                          final List<Object> args) {
+        if (eventName == null || eventName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Event name cannot be null!");
+        }
         if (target == null) {
             throw new IllegalArgumentException("Event target cannot be null!");
         }
@@ -100,14 +188,6 @@ public final class EventManager {
         if(args == null) {
             throw new IllegalArgumentException("Event Args cannot be null!");
         }
-
-        final Constructor<T> constructor = classRef.getConstructor(EventTarget.class, EventType.class, List.class);
-
-        final T event = constructor.newInstance(target, eventType, args);
-
-        events.put(eventName, event);
-
-        return event;
     }
 
     @SuppressWarnings("unchecked")
@@ -120,7 +200,7 @@ public final class EventManager {
      */
     public void fireEvent(final String eventName,
                           final Object source) {
-        getEvent(eventName).fireEvent(source);
+        fire(eventName, source, Event.NO_ARGS, 0, 0);
     }
 
     /**
@@ -132,9 +212,261 @@ public final class EventManager {
     public void fireEvent(final String eventName,
                           final Object source,
                           final Object... args) {
-        getEvent(eventName).fireEvent(source, args);
+        fire(eventName, source, args, 0, 0);
+    }
+
+    /**
+     * Fires the specified event with the specified source and a primitive long argument,
+     * available through {@link Event#getLongArg()}. Unlike {@link #fireEvent(String, Object, Object...)}
+     * this neither boxes the value nor allocates an args array.
+     * @param eventName the event to fire
+     * @param source the event source which sent the event
+     * @param value the value to pass to the EventHandler
+     */
+    public void fireLongEvent(final String eventName,
+                              final Object source,
+                              final long value) {
+        fire(eventName, source, Event.NO_ARGS, value, 0);
+    }
+
+    /**
+     * Fires the specified event with the specified source and a primitive double argument,
+     * available through {@link Event#getDoubleArg()}. Unlike {@link #fireEvent(String, Object, Object...)}
+     * this neither boxes the value nor allocates an args array.
+     * @param eventName the event to fire
+     * @param source the event source which sent the event
+     * @param value the value to pass to the EventHandler
+     */
+    public void fireDoubleEvent(final String eventName,
+                                final Object source,
+                                final double value) {
+        fire(eventName, source, Event.NO_ARGS, 0, value);
     }
 
+    private void fire(final String eventName,
+                      final Object source,
+                      final Object[] args,
+                      final long longArg,
+                      final double doubleArg) {
+        final EventBatcher batcher = batchers.get(eventName);
+        if (batcher != null) {
+            batcher.add(source, args, longArg, doubleArg);
+            return;
+        }
+
+        final AsyncEventQueue queue = queues.get(eventName);
+        if (queue == null) {
+            getEvent(eventName).fire(source, args, longArg, doubleArg);
+        } else {
+            // The args are copied into the pooled event, the caller may reuse the array after we return.
+            final Event event = queue.acquire();
+            event.prepare(source, args, longArg, doubleArg);
+            queue.offer(event);
+        }
+    }
+
+    /**
+     * Dispatches the specified event on its own virtual thread from now on instead of on the
+     * firing thread. Events of the same name are handled one at a time in the order they were
+     * fired; events of different names are handled independently.
+     * @param eventName the event to dispatch asynchronously
+     * @param capacity the maximum number of fired events waiting to be handled
+     * @param policy what to do when an event is fired while the queue is full
+     * @throws IllegalArgumentException if the event is not registered, capacity is less than 1 or policy is null
+     */
+    public void enableAsyncDispatch(final String eventName,
+                                    final int capacity,
+                                    final OverflowPolicy policy) {
+        checkArgument(events.containsKey(eventName), "Event \"" + eventName + "\" is not registered!");
+        checkArgument(capacity > 0, "Capacity must be greater than 0!");
+        checkArgumentNotNull(policy, cannotBeNull("policy"));
+        final var queue = new AsyncEventQueue(eventName, getEvent(eventName), capacity, policy);
+        queue.setInstrumentation(instrumentation);
+        queues.put(eventName, queue);
+    }
+
+    /**
+     * Dispatches the specified event on the firing thread again.
+     * Events that are already queued are still handled.
+     * @param eventName the event to dispatch synchronously
+     */
+    public void disableAsyncDispatch(final String eventName) {
+        queues.remove(eventName);
+    }
+
+    /**
+     * Checks if the specified event is dispatched asynchronously.
+     * @param eventName the event to check
+     * @return true if the event is dispatched asynchronously
+     */
+    public boolean isAsync(final String eventName) {
+        return queues.containsKey(eventName);
+    }
+
+    /**
+     * Returns the number of fired events of the specified name that are waiting to be handled.
+     * @param eventName the event to check
+     * @return the number of queued events, 0 if the event is not dispatched asynchronously
+     */
+    public int getQueuedCount(final String eventName) {
+        final AsyncEventQueue queue = queues.get(eventName);
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Returns the number of fired events of the specified name that were dropped by the overflow policy.
+     * @param eventName the event to check
+     * @return the number of dropped events, 0 if the event is not dispatched asynchronously
+     */
+    public long getDroppedCount(final String eventName) {
+        final AsyncEventQueue queue = queues.get(eventName);
+        return queue == null ? 0 : queue.getDroppedCount();
+    }
+
+    /**
+     * Collects the specified event for the given window and delivers everything fired within it
+     * as one batch, first to the batch event handlers and then to the regular event handlers.
+     * Batches are delivered from a timer thread, or from the firing thread when a batch fills up
+     * before the window ends. If asynchronous dispatch is enabled the batch goes through its queue.
+     * @param eventName the event to batch
+     * @param window how long fired events are collected before they are delivered
+     * @param maxBatchSize the number of events that delivers a batch before the window ends
+     * @throws IllegalArgumentException if the event is not registered, window is null or not positive
+     * or maxBatchSize is less than 1
+     */
+    public void enableBatching(final String eventName,
+                               final Duration window,
+                               final int maxBatchSize) {
+        checkArgument(maxBatchSize > 0, "Max batch size must be greater than 0!");
+        enableBatching(eventName, window, maxBatchSize, null);
+    }
+
+    /**
+     * Collects the specified event for the given window, keeping only the latest fired event per key,
+     * and delivers the remaining events as one batch like {@link #enableBatching(String, Duration, int)}.
+     * Suited to events such as progress updates where only the most recent value matters.
+     * @param eventName the event to coalesce
+     * @param window how long fired events are collected before they are delivered
+     * @param keyFunction returns the key of a fired event from its source and args,
+     *                    events with a null key are never coalesced
+     * @throws IllegalArgumentException if the event is not registered, window is null or not positive
+     * or keyFunction is null
+     */
+    public void enableCoalescing(final String eventName,
+                                 final Duration window,
+                                 final BiFunction<Object, Object[], ?> keyFunction) {
+        checkArgumentNotNull(keyFunction, cannotBeNull("keyFunction"));
+        enableBatching(eventName, window, Integer.MAX_VALUE, keyFunction);
+    }
+
+    private void enableBatching(final String eventName,
+                                final Duration window,
+                                final int maxBatchSize,
+                                final BiFunction<Object, Object[], ?> keyFunction) {
+        checkArgument(events.containsKey(eventName), "Event \"" + eventName + "\" is not registered!");
+        checkArgumentNotNull(window, cannotBeNull("window"));
+        checkArgument(window.isPositive(), "Window must be positive!");
+        final EventBatcher previous = batchers.put(eventName, new EventBatcher(getEvent(eventName),
+                window, maxBatchSize, keyFunction, (batcher, batch) -> deliverBatch(eventName, batcher, batch)));
+        if (previous != null) previous.flush();
+    }
+
+    /**
+     * Stops batching the specified event and delivers the events collected so far.
+     * @param eventName the event to stop batching
+     */
+    public void disableBatching(final String eventName) {
+        final EventBatcher batcher = batchers.remove(eventName);
+        if (batcher != null) batcher.flush();
+    }
+
+    /**
+     * Checks if the specified event is batched or coalesced.
+     * @param eventName the event to check
+     * @return true if the event is batched or coalesced
+     */
+    public boolean isBatched(final String eventName) {
+        return batchers.containsKey(eventName);
+    }
+
+    /**
+     * Returns the number of fired events of the specified name that replaced an earlier event with the same key.
+     * @param eventName the event to check
+     * @return the number of coalesced events, 0 if the event is not coalesced
+     */
+    public long getCoalescedCount(final String eventName) {
+        final EventBatcher batcher = batchers.get(eventName);
+        return batcher == null ? 0 : batcher.getCoalescedCount();
+    }
+
+    /**
+     * Registers a handler that receives each batch of the specified event.
+     * Batch event handlers are only called while the event is batched or coalesced.
+     * @param eventName the event to handle
+     * @param handler the handler to register
+     * @param <T> the event class
+     * @throws IllegalArgumentException if handler is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Event> void addBatchEventHandler(final String eventName,
+                                                       final BatchEventHandler<T> handler) {
+        checkArgumentNotNull(handler, cannotBeNull("handler"));
+        batchHandlers.computeIfAbsent(eventName, name -> new CopyOnWriteArrayList<>())
+                .add((BatchEventHandler<Event>) handler);
+    }
+
+    /**
+     * Unregisters the specified batch event handler.
+     * @param eventName the event the handler was registered for
+     * @param handler the handler to unregister
+     */
+    public void removeBatchEventHandler(final String eventName,
+                                        final BatchEventHandler<? extends Event> handler) {
+        final List<BatchEventHandler<Event>> handlers = batchHandlers.get(eventName);
+        if (handlers != null) handlers.remove(handler);
+    }
+
+    private void deliverBatch(final String eventName, final EventBatcher batcher, final List<Event> batch) {
+        final Runnable delivery = () -> {
+            try {
+                final List<Event> view = Collections.unmodifiableList(batch);
+                for (final BatchEventHandler<Event> handler : batchHandlers.getOrDefault(eventName, List.of())) {
+                    handler.handle(view);
+                }
+                for (final Event event : batch) {
+                    event.dispatch();
+                }
+            } finally {
+                batcher.release(batch);
+            }
+        };
+
+        final AsyncEventQueue queue = queues.get(eventName);
+        if (queue == null) {
+            delivery.run();
+        } else {
+            // A dropped delivery never runs, the queue releases the batch instead.
+            queue.offer(delivery, () -> batcher.release(batch));
+        }
+    }
+
+    /**
+     * Sets the instrumentation that records the dispatch statistics of every registered event,
+     * including events registered later, and the depth of every asynchronous queue.
+     * @param instrumentation the instrumentation to use, or null to turn instrumentation off
+     */
+    public void setInstrumentation(final EventInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+        events.values().forEach(event -> event.getTarget().setInstrumentation(instrumentation));
+        queues.values().forEach(queue -> queue.setInstrumentation(instrumentation));
+    }
+
+    /**
+     * Returns the instrumentation that records the dispatch statistics of every registered event.
+     * @return the instrumentation, or null if instrumentation is off
+     */
+    public EventInstrumentation getInstrumentation() { return instrumentation; }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) return true;
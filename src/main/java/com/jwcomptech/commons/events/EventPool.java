@@ -0,0 +1,82 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded pool of reusable copies of a registered event, so events that are handed
+ * to another thread do not need a new copy every time they are fired.
+ * @since 1.0.0-alpha
+ */
+final class EventPool {
+    private final Event template;
+    private final int maxSize;
+    private final ArrayDeque<Event> free;
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Creates a new pool.
+     * @param template the registered event that new copies are cloned from
+     * @param maxSize the maximum number of idle copies kept
+     */
+    EventPool(final Event template, final int maxSize) {
+        this.template = template;
+        this.maxSize = maxSize;
+        free = new ArrayDeque<>(maxSize);
+    }
+
+    /**
+     * Returns an idle copy of the template, or a new one if the pool is empty.
+     * @return a copy of the template
+     */
+    Event acquire() {
+        final Event event;
+
+        lock.lock();
+        try {
+            event = free.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+
+        return event == null ? (Event) template.clone() : event;
+    }
+
+    /**
+     * Clears the specified copy and returns it to the pool.
+     * @param event the copy to return
+     */
+    void release(final Event event) {
+        event.reset();
+
+        lock.lock();
+        try {
+            if (free.size() < maxSize) free.addFirst(event);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
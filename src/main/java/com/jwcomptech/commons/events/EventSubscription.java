@@ -0,0 +1,78 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A handle to a handler subscribed to an {@link EventTarget}, closing it unsubscribes the handler.
+ * Suited to try-with-resources or to being closed when the owning controller or service is disposed.
+ * @see EventTarget#subscribe(EventType, EventHandler)
+ * @since 1.0.0-alpha
+ */
+public final class EventSubscription implements AutoCloseable {
+    private final EventTarget<?> target;
+    private final EventType<? extends Event> eventType;
+    private final SubscribedHandler<?> handler;
+
+    EventSubscription(final EventTarget<?> target,
+                      final EventType<? extends Event> eventType,
+                      final SubscribedHandler<?> handler) {
+        this.target = target;
+        this.eventType = eventType;
+        this.handler = handler;
+    }
+
+    /**
+     * Returns the event type the handler is subscribed to.
+     * @return the event type
+     */
+    public EventType<? extends Event> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Checks if the handler still receives events. A subscription ends when it is closed,
+     * its time to live passes, its once-only handler has been called or its weakly or
+     * softly held handler has been garbage collected.
+     * @return true if the handler still receives events
+     */
+    public boolean isActive() {
+        return handler.isAlive();
+    }
+
+    /** Unsubscribes the handler, closing an already ended subscription does nothing. */
+    @Override
+    public void close() {
+        handler.close();
+        target.remove(eventType, handler);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("eventType", eventType)
+                .append("active", isActive())
+                .toString();
+    }
+}
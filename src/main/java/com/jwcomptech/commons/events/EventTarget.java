@@ -25,56 +25,345 @@ package com.jwcomptech.commons.events;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 
 /**
  * Allows object event handler registration and forwards received
  * events to the appropriate registered event handlers.
+ * <p>
+ * Any number of handlers can be registered per event type. Handlers are stored in
+ * copy-on-write arrays, so firing never locks or allocates and handlers can be added
+ * or removed from any thread while events are being fired. A fired event is passed to
+ * the handlers of its type and then to the handlers of each of its super types, most
+ * specific first, until a handler consumes it.
+ * <p>
+ * Handlers added with {@link #addEventHandler(EventType, EventHandler)} are held until removed.
+ * Handlers added with one of the {@code subscribe} methods can instead be held weakly or softly,
+ * called only once or expire after a time to live. These return an {@link EventSubscription} to
+ * unsubscribe them, and ended subscriptions are removed the next time their event type is fired.
  * @param <T> the event type to use for the target
  * @since 1.0.0-alpha
  */
 @SuppressWarnings({"unused", "ClassWithoutConstructor"})
 public class EventTarget<T extends Event> {
-    private final Map<EventType<? extends Event>, EventHandler<T>> eventHandlers = new HashMap<>();
+    private static final EventHandler<?>[] NO_HANDLERS = new EventHandler<?>[0];
+
+    private final Map<EventType<? extends Event>, EventHandler<?>[]> eventHandlers = new ConcurrentHashMap<>();
+
+    private volatile EventInstrumentation instrumentation;
 
     /**
-     * Sets the specified singleton handler. There can only be one such handler specified at a time.
+     * Sets the instrumentation that records the dispatch statistics of this target.
+     * @param instrumentation the instrumentation to use, or null to turn instrumentation off
+     */
+    public final void setInstrumentation(final EventInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * Returns the instrumentation that records the dispatch statistics of this target.
+     * @return the instrumentation, or null if instrumentation is off
+     */
+    public final EventInstrumentation getInstrumentation() { return instrumentation; }
+
+    /**
+     * Adds the specified handler for the specified event type, handlers of the
+     * same type are called in the order they were added.
      * @param eventType the event type to associate with the given eventHandler
-     * @param eventHandler the handler to register, or null to unregister
+     * @param eventHandler the handler to register, or null to unregister all handlers of the type
      */
     public final void addEventHandler(final EventType<? extends Event> eventType,
-                                      final EventHandler<T> eventHandler) { eventHandlers.put(eventType, eventHandler); }
+                                      final EventHandler<T> eventHandler) {
+        if (eventHandler == null) {
+            eventHandlers.remove(eventType);
+            return;
+        }
+
+        eventHandlers.compute(eventType, (type, handlers) -> {
+            if (handlers == null) return new EventHandler<?>[] {eventHandler};
+
+            final EventHandler<?>[] added = Arrays.copyOf(handlers, handlers.length + 1);
+            added[handlers.length] = eventHandler;
+            return added;
+        });
+    }
 
     /**
-     * Removes the singleton handler assigned to the specified Event Type.
-     * @param eventType the event type to associate with the given eventHandler
+     * Removes all handlers assigned to the specified Event Type.
+     * @param eventType the event type to remove the handlers of
      */
     public final void removeEventHandler(final EventType<? extends T> eventType) { eventHandlers.remove(eventType); }
 
     /**
-     * Returns the singleton handler assigned to the specified Event Type.
+     * Removes the specified handler from the specified Event Type.
+     * @param eventType the event type the handler was added for
+     * @param eventHandler the handler to remove
+     * @return true if the handler was registered
+     */
+    public final boolean removeEventHandler(final EventType<? extends Event> eventType,
+                                            final EventHandler<T> eventHandler) {
+        return remove(eventType, eventHandler);
+    }
+
+    /**
+     * Removes the specified handler from the specified Event Type.
+     * @param eventType the event type the handler was added for
+     * @param eventHandler the handler to remove
+     * @return true if the handler was registered
+     */
+    final boolean remove(final EventType<? extends Event> eventType,
+                         final EventHandler<?> eventHandler) {
+        final boolean[] removed = new boolean[1];
+
+        eventHandlers.computeIfPresent(eventType, (type, handlers) -> {
+            for (int i = 0; i < handlers.length; i++) {
+                if (handlers[i] == eventHandler) {
+                    removed[0] = true;
+                    if (handlers.length == 1) return null;
+
+                    final EventHandler<?>[] remaining = new EventHandler<?>[handlers.length - 1];
+                    System.arraycopy(handlers, 0, remaining, 0, i);
+                    System.arraycopy(handlers, i + 1, remaining, i, handlers.length - i - 1);
+                    return remaining;
+                }
+            }
+            return handlers;
+        });
+
+        return removed[0];
+    }
+
+    /**
+     * Subscribes the specified handler to the specified event type until the returned subscription is closed.
+     * @param eventType the event type to subscribe to
+     * @param eventHandler the handler to subscribe
+     * @return the subscription
+     * @throws IllegalArgumentException if eventType or eventHandler is null
+     */
+    public final @NotNull EventSubscription subscribe(final EventType<? extends Event> eventType,
+                                                      final EventHandler<T> eventHandler) {
+        return subscribe(eventType, eventHandler, ReferenceMode.STRONG, null);
+    }
+
+    /**
+     * Subscribes the specified handler to the specified event type, held by the specified reference mode.
+     * <p>
+     * A weakly or softly held handler must be referenced by its owner, e.g. stored in a field of the
+     * controller it belongs to, otherwise a lambda may be collected right away. To hold the owner
+     * weakly instead use {@link #subscribe(EventType, Object, BiConsumer)}.
+     * @param eventType the event type to subscribe to
+     * @param eventHandler the handler to subscribe
+     * @param mode how to hold the handler
+     * @return the subscription
+     * @throws IllegalArgumentException if eventType, eventHandler or mode is null
+     */
+    public final @NotNull EventSubscription subscribe(final EventType<? extends Event> eventType,
+                                                      final EventHandler<T> eventHandler,
+                                                      final ReferenceMode mode) {
+        return subscribe(eventType, eventHandler, mode, null);
+    }
+
+    /**
+     * Subscribes the specified handler to the specified event type, held by the specified reference mode,
+     * for the specified time to live.
+     * @param eventType the event type to subscribe to
+     * @param eventHandler the handler to subscribe
+     * @param mode how to hold the handler
+     * @param ttl how long the subscription lasts, null for no limit
+     * @return the subscription
+     * @throws IllegalArgumentException if eventType, eventHandler or mode is null or ttl is not positive
+     */
+    public final @NotNull EventSubscription subscribe(final EventType<? extends Event> eventType,
+                                                      final EventHandler<T> eventHandler,
+                                                      final ReferenceMode mode,
+                                                      final Duration ttl) {
+        checkArgumentNotNull(eventHandler, cannotBeNull("eventHandler"));
+        checkSubscription(eventType, mode, ttl);
+        return subscribe(eventType, SubscribedHandler.of(eventHandler, mode, false, ttl));
+    }
+
+    /**
+     * Subscribes the specified handler to the next event of the specified event type only.
+     * @param eventType the event type to subscribe to
+     * @param eventHandler the handler to subscribe
+     * @return the subscription
+     * @throws IllegalArgumentException if eventType or eventHandler is null
+     */
+    public final @NotNull EventSubscription subscribeOnce(final EventType<? extends Event> eventType,
+                                                          final EventHandler<T> eventHandler) {
+        checkArgumentNotNull(eventHandler, cannotBeNull("eventHandler"));
+        checkSubscription(eventType, ReferenceMode.STRONG, null);
+        return subscribe(eventType, SubscribedHandler.of(eventHandler, ReferenceMode.STRONG, true, null));
+    }
+
+    /**
+     * Subscribes the specified handler to the specified event type while the specified owner is
+     * reachable. The owner is held weakly and passed to the handler with each event, so the handler
+     * should not capture it, e.g. {@code target.subscribe(type, this, Controller::onEvent)}.
+     * @param eventType the event type to subscribe to
+     * @param owner the object the handler belongs to
+     * @param eventHandler the handler to subscribe
+     * @param <O> the owner type
+     * @return the subscription
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    @SuppressWarnings("unchecked")
+    public final <O> @NotNull EventSubscription subscribe(final EventType<? extends Event> eventType,
+                                                          final O owner,
+                                                          final BiConsumer<? super O, T> eventHandler) {
+        checkArgumentNotNull(owner, cannotBeNull("owner"));
+        checkArgumentNotNull(eventHandler, cannotBeNull("eventHandler"));
+        checkSubscription(eventType, ReferenceMode.WEAK, null);
+        return subscribe(eventType, new SubscribedHandler<>(owner,
+                (o, event) -> eventHandler.accept((O) o, event), ReferenceMode.WEAK, false, null));
+    }
+
+    private @NotNull EventSubscription subscribe(final EventType<? extends Event> eventType,
+                                                 final SubscribedHandler<T> handler) {
+        addEventHandler(eventType, handler);
+        return new EventSubscription(this, eventType, handler);
+    }
+
+    private static void checkSubscription(final EventType<? extends Event> eventType,
+                                          final ReferenceMode mode,
+                                          final Duration ttl) {
+        checkArgumentNotNull(eventType, cannotBeNull("eventType"));
+        checkArgumentNotNull(mode, cannotBeNull("mode"));
+        checkArgument(ttl == null || ttl.isPositive(), "TTL must be positive!");
+    }
+
+    /**
+     * Removes every subscription that has been closed, has expired or whose handler has been
+     * garbage collected, for targets whose events are rarely fired.
+     */
+    public final void purgeSubscriptions() {
+        eventHandlers.forEach((type, handlers) -> {
+            for (final EventHandler<?> handler : handlers) {
+                if (handler instanceof final SubscribedHandler<?> subscribed && !subscribed.isAlive()) {
+                    remove(type, handler);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the first handler assigned to the specified Event Type.
      * @param eventType the event type
-     * @return the singleton handler assigned to the specified Event Type
+     * @return the first handler assigned to the specified Event Type or null if there is none
      */
+    @SuppressWarnings("unchecked")
     public final EventHandler<T> getEventHandler(final EventType<? extends T> eventType) {
-        return eventHandlers.get(eventType); }
+        final EventHandler<?>[] handlers = eventHandlers.get(eventType);
+        return handlers == null ? null : (EventHandler<T>) handlers[0];
+    }
+
+    /**
+     * Returns all handlers assigned to the specified Event Type, not including
+     * the handlers of its super types.
+     * @param eventType the event type
+     * @return the handlers in the order they are called
+     */
+    @SuppressWarnings("unchecked")
+    public final @NotNull @Unmodifiable List<EventHandler<T>> getEventHandlers(final EventType<? extends Event> eventType) {
+        final EventHandler<?>[] handlers = eventHandlers.getOrDefault(eventType, NO_HANDLERS);
+        return List.of((EventHandler<T>[]) handlers);
+    }
+
+    /**
+     * Checks if any handler is assigned to the specified Event Type or one of its super types.
+     * @param eventType the event type
+     * @return true if firing an event of the specified type would call a handler
+     */
+    public final boolean hasEventHandlers(final EventType<? extends Event> eventType) {
+        if (eventHandlers.isEmpty()) return false;
+
+        for (final EventType<?> type : eventType.hierarchy()) {
+            if (eventHandlers.containsKey(type)) return true;
+        }
+        return false;
+    }
 
     /**
-     * Fires the handle method in all registered EventHandlers.
+     * Fires the handle method in all EventHandlers registered for the event type
+     * and its super types, stopping once the event is consumed.
      * @param event the event
      * @param eventType the event type
      */
     @SuppressWarnings("unchecked")
     public final void fire(final Event event, final EventType<? extends Event> eventType) {
-        for (final var entry : eventHandlers.entrySet()) {
-            if(entry.getKey().equals(eventType)) {
-                entry.getValue().handle((T) event);
+        final EventInstrumentation instrumentation = this.instrumentation;
+        if (instrumentation != null) {
+            fireInstrumented(event, eventType, instrumentation);
+            return;
+        }
+        if (eventHandlers.isEmpty()) return;
+
+        for (final EventType<?> type : eventType.hierarchy()) {
+            final EventHandler<?>[] handlers = eventHandlers.get(type);
+            if (handlers == null) continue;
+
+            for (final EventHandler<?> handler : handlers) {
+                if (handler instanceof final SubscribedHandler<?> subscribed) {
+                    if (!((SubscribedHandler<T>) subscribed).deliver((T) event)) remove(type, handler);
+                } else {
+                    ((EventHandler<T>) handler).handle((T) event);
+                }
+                if (event.isConsumed()) return;
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #fire(Event, EventType)} but times every handler call,
+     * kept separate so the regular path stays free of timing calls.
+     */
+    @SuppressWarnings("unchecked")
+    private void fireInstrumented(final Event event,
+                                  final EventType<? extends Event> eventType,
+                                  final EventInstrumentation instrumentation) {
+        instrumentation.fired(eventType);
+        if (eventHandlers.isEmpty()) return;
+
+        for (final EventType<?> type : eventType.hierarchy()) {
+            final EventHandler<?>[] handlers = eventHandlers.get(type);
+            if (handlers == null) continue;
+
+            for (final EventHandler<?> handler : handlers) {
+                final long start = System.nanoTime();
+                if (handler instanceof final SubscribedHandler<?> subscribed) {
+                    if (!((SubscribedHandler<T>) subscribed).deliver((T) event)) remove(type, handler);
+                } else {
+                    ((EventHandler<T>) handler).handle((T) event);
+                }
+                instrumentation.handled(eventType, handler, start);
+                if (event.isConsumed()) return;
             }
         }
     }
 
+    /**
+     * Returns a comparable copy of the registered handlers.
+     * @return the handlers of every event type
+     */
+    private @NotNull Map<EventType<? extends Event>, List<EventHandler<?>>> snapshot() {
+        final Map<EventType<? extends Event>, List<EventHandler<?>>> snapshot = new LinkedHashMap<>();
+        eventHandlers.forEach((type, handlers) -> snapshot.put(type, List.of(handlers)));
+        return snapshot;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) return true;
@@ -82,21 +371,21 @@ public class EventTarget<T extends Event> {
         if (!(obj instanceof final EventTarget<?> eventTarget)) return false;
 
         return new EqualsBuilder()
-                .append(eventHandlers, eventTarget.eventHandlers)
+                .append(snapshot(), eventTarget.snapshot())
                 .isEquals();
     }
 
     @Override
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
-                .append(eventHandlers)
+                .append(snapshot())
                 .toHashCode();
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .append("eventHandlers", eventHandlers)
+                .append("eventHandlers", snapshot())
                 .toString();
     }
 }
@@ -22,13 +22,12 @@ package com.jwcomptech.commons.events;
  * #L%
  */
 
-import lombok.Data;
+import lombok.Getter;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
 
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
 /**
  * This class represents a specific event type associated with an {@link Event}.
@@ -38,12 +37,14 @@ import java.util.Set;
  * registration where a single event handler can be registered to a
  * super event type and will be receiving its subtype events as well.
  * Note that you cannot construct two different EventType objects with the same
- * name and parent.
+ * name and parent, so event types are compared by identity.
+ * <p>
+ * Every event type keeps its chain of super types as a precomputed array,
+ * so dispatching an event walks the hierarchy without following references.
  * @param <T> the event class to which this type applies
  * @since 1.0.0-alpha
  */
 @SuppressWarnings("unused")
-@Data
 public final class EventType<T extends Event> {
     /**
      * The root event type. All other event types are either direct or
@@ -55,11 +56,16 @@ public final class EventType<T extends Event> {
     @SuppressWarnings("FieldNotUsedInToString")
     private Set<EventType<? extends T>> subTypes;
 
+    /** This type followed by all of its super types, ending with {@link #ROOT}. */
+    @SuppressWarnings("FieldNotUsedInToString")
+    private final EventType<?>[] hierarchy;
+
     /**
      * -- GETTER --
      *  Gets the super type of this event type. The returned value is
      *  {@code null} only for the {@code EventType.ROOT}.
      */
+    @Getter
     @SuppressWarnings("FieldNotUsedInToString")
     private final EventType<? super T> superType;
 
@@ -67,6 +73,7 @@ public final class EventType<T extends Event> {
      * -- GETTER --
      *  Gets the name of this event type.
      */
+    @Getter
     private final String name;
 
     /**
@@ -99,6 +106,7 @@ public final class EventType<T extends Event> {
         if (superType == null) throw new IllegalArgumentException("Event super type must not be null!");
         this.superType = superType;
         this.name = name;
+        this.hierarchy = hierarchyOf(this, superType);
         superType.createSubType(this);
     }
 
@@ -112,15 +120,64 @@ public final class EventType<T extends Event> {
               final EventType<? super T> superType) {
         this.superType = superType;
         this.name = name;
+        this.hierarchy = hierarchyOf(this, superType);
         if (superType != null) {
-            if (superType.subTypes != null) {
-                superType.subTypes
-                        .removeIf(t -> Objects.equals(name, t.name));
+            synchronized (superType) {
+                if (superType.subTypes != null) {
+                    superType.subTypes
+                            .removeIf(t -> Objects.equals(name, t.name));
+                }
+                superType.createSubType(this);
             }
-            superType.createSubType(this);
         }
     }
 
+    private static EventType<?>[] hierarchyOf(final EventType<?> type, final EventType<?> superType) {
+        if (superType == null) return new EventType<?>[] {type};
+
+        final EventType<?>[] hierarchy = new EventType<?>[superType.hierarchy.length + 1];
+        hierarchy[0] = type;
+        System.arraycopy(superType.hierarchy, 0, hierarchy, 1, superType.hierarchy.length);
+        return hierarchy;
+    }
+
+    /**
+     * Returns the direct subtypes of this event type.
+     * @return the direct subtypes of this event type
+     */
+    public synchronized @NotNull @UnmodifiableView Set<EventType<? extends T>> getSubTypes() {
+        return subTypes == null ? Set.of() : Collections.unmodifiableSet(subTypes);
+    }
+
+    /**
+     * Returns this event type followed by all of its super types, ending with {@link #ROOT}.
+     * @return the hierarchy of this event type, most specific first
+     */
+    @Contract(pure = true)
+    public @NotNull @UnmodifiableView List<EventType<?>> getHierarchy() {
+        return Collections.unmodifiableList(Arrays.asList(hierarchy));
+    }
+
+    /**
+     * Returns the precomputed hierarchy without copying, callers must not modify it.
+     * @return this event type followed by all of its super types
+     */
+    EventType<?>[] hierarchy() {
+        return hierarchy;
+    }
+
+    /**
+     * Checks if this event type is the specified type or one of its direct or indirect subtypes.
+     * @param type the type to check against
+     * @return true if this event type is the specified type or one of its subtypes
+     */
+    public boolean isSubTypeOf(final EventType<?> type) {
+        for (final EventType<?> ancestor : hierarchy) {
+            if (ancestor == type) return true;
+        }
+        return false;
+    }
+
     /**
      * Returns a string representation of this {@code EventType} object.
      * @return a string representation of this {@code EventType} object.
@@ -131,14 +188,29 @@ public final class EventType<T extends Event> {
     @Contract("_ -> new")
     public @NotNull EventType<T> createSubType(final String name) { return new EventType<>(this, name); }
 
-    private void createSubType(final EventType<? extends T> subType) {
+    private synchronized void createSubType(final EventType<? extends T> subType) {
         if (subType == null) throw new IllegalArgumentException("Event super type must not be null!");
         if (subTypes == null) subTypes = new HashSet<>();
-        subTypes.parallelStream().filter(t -> (Objects.equals(t.name, subType.name)))
-                .forEach(t -> {
-                    throw new IllegalArgumentException("EventType \"" + subType + '"'
-                            + "with parent \"" + subType.superType + "\" already exists");
-                });
+        for (final EventType<? extends T> existing : subTypes) {
+            if (Objects.equals(existing.name, subType.name)) {
+                throw new IllegalArgumentException("EventType \"" + subType + '"'
+                        + "with parent \"" + subType.superType + "\" already exists");
+            }
+        }
         subTypes.add(subType);
     }
+
+    /**
+     * Event types are unique per name and super type, so they are equal only to themselves.
+     * Comparing the hierarchy instead would recurse through the super and sub types.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
 }
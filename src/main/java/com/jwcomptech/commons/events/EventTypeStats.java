@@ -0,0 +1,122 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The dispatch statistics of a single {@link EventType} recorded by an {@link EventInstrumentation}.
+ * @since 1.0.0-alpha
+ */
+public final class EventTypeStats {
+    private final EventType<? extends Event> eventType;
+    private final LongAdder fireCount = new LongAdder();
+    private final LongAdder slowHandlerCount = new LongAdder();
+    private final LatencyHistogram handlerLatency = new LatencyHistogram();
+    private final Map<String, LatencyHistogram> handlerProfiles = new ConcurrentHashMap<>();
+
+    EventTypeStats(final EventType<? extends Event> eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * Returns the event type these statistics belong to.
+     * @return the event type
+     */
+    public EventType<? extends Event> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Returns the number of times an event of this type was fired.
+     * @return the fire count
+     */
+    public long getFireCount() {
+        return fireCount.sum();
+    }
+
+    /**
+     * Returns the number of handler calls that took longer than the slow handler threshold.
+     * @return the slow handler count
+     */
+    public long getSlowHandlerCount() {
+        return slowHandlerCount.sum();
+    }
+
+    /**
+     * Returns the latencies of all handler calls for this type.
+     * @return the handler latency histogram
+     */
+    public LatencyHistogram getHandlerLatency() {
+        return handlerLatency;
+    }
+
+    /**
+     * Returns the latencies of the handler calls for this type per handler class,
+     * e.g. to find the one handler that makes an event slow.
+     * @return the handler latency histograms keyed by handler class name
+     */
+    public @NotNull @UnmodifiableView Map<String, LatencyHistogram> getHandlerProfiles() {
+        return Collections.unmodifiableMap(handlerProfiles);
+    }
+
+    void fired() {
+        fireCount.increment();
+    }
+
+    /**
+     * Records a handler call.
+     * @param handler the name of the handler
+     * @param nanos how long the call took
+     * @param slow whether the call was slower than the threshold
+     */
+    void handled(final String handler, final long nanos, final boolean slow) {
+        handlerLatency.record(nanos);
+        handlerProfiles.computeIfAbsent(handler, name -> new LatencyHistogram()).record(nanos);
+        if (slow) slowHandlerCount.increment();
+    }
+
+    void reset() {
+        fireCount.reset();
+        slowHandlerCount.reset();
+        handlerLatency.reset();
+        handlerProfiles.clear();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("eventType", eventType)
+                .append("fireCount", getFireCount())
+                .append("slowHandlerCount", getSlowHandlerCount())
+                .append("handlerLatency", handlerLatency)
+                .toString();
+    }
+}
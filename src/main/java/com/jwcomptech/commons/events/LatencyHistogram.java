@@ -0,0 +1,141 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds with log-linear buckets, in the style of
+ * HdrHistogram. Values below 16ns are counted exactly and every power of two above that is split
+ * into 16 buckets, so any recorded value is reported within about 6% of its real value while the
+ * whole range of a long fits in under a thousand counters.
+ * @since 1.0.0-alpha
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the specified latency.
+     * @param nanos the latency in nanoseconds, negative values are recorded as 0
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(nanos, 0);
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        total.add(value);
+        if (value > max.get()) max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     * @return the mean latency, zero if nothing was recorded
+     */
+    public Duration getMean() {
+        final long n = count.sum();
+        return n == 0 ? Duration.ZERO : Duration.ofNanos(total.sum() / n);
+    }
+
+    /**
+     * Returns the highest recorded latency.
+     * @return the highest latency, zero if nothing was recorded
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(max.get());
+    }
+
+    /**
+     * Returns the latency that the specified percentage of recorded latencies are at or below.
+     * @param percentile the percentile, from 0 to 100
+     * @return the upper bound of the bucket holding the percentile, zero if nothing was recorded
+     */
+    public Duration getPercentile(final double percentile) {
+        final long n = count.sum();
+        if (n == 0) return Duration.ZERO;
+
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return Duration.ofNanos(Math.min(upperBoundOf(i), max.get()));
+        }
+        return getMax();
+    }
+
+    /** Clears all recorded latencies. */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS) return index;
+
+        final int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        final long subBucket = SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return (subBucket << shift) + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("count", getCount())
+                .append("mean", getMean())
+                .append("p50", getPercentile(50))
+                .append("p99", getPercentile(99))
+                .append("max", getMax())
+                .toString();
+    }
+}
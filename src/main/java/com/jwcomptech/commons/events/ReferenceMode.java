@@ -0,0 +1,47 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.enums.BaseEnum;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Determines how strongly an {@link EventTarget} holds on to a subscribed handler.
+ * @see EventTarget#subscribe(EventType, EventHandler, ReferenceMode)
+ * @since 1.0.0-alpha
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public enum ReferenceMode implements BaseEnum<String> {
+    /** The handler is kept until the subscription is closed. */
+    STRONG("Strong"),
+    /** The handler is dropped once nothing else references it. */
+    WEAK("Weak"),
+    /** The handler is dropped once nothing else references it and memory runs low. */
+    SOFT("Soft");
+
+    private final String value;
+}
@@ -0,0 +1,146 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * The entry an {@link EventTarget} stores for a subscription, holding the handler,
+ * or the object that owns it, by the chosen {@link ReferenceMode} and tracking
+ * whether the subscription has expired.
+ * @param <T> the event class the handler can handle
+ * @since 1.0.0-alpha
+ */
+final class SubscribedHandler<T extends Event> implements EventHandler<T> {
+    @SuppressWarnings("unchecked")
+    private static final BiConsumer<Object, Event> HANDLER_INVOKER
+            = (handler, event) -> ((EventHandler<Event>) handler).handle(event);
+
+    private final Object strongReferent;
+    private final Reference<Object> reference;
+    private final BiConsumer<Object, T> invoker;
+    private final boolean once;
+    private final boolean expires;
+    private final long deadline;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Creates a new entry.
+     * @param referent the handler, or the object that owns it
+     * @param invoker passes an event to the referent
+     * @param mode how to hold the referent
+     * @param once whether the subscription ends after the first event
+     * @param ttl how long the subscription lasts, null for no limit
+     */
+    SubscribedHandler(final Object referent,
+                      final BiConsumer<Object, T> invoker,
+                      final ReferenceMode mode,
+                      final boolean once,
+                      final Duration ttl) {
+        strongReferent = mode == ReferenceMode.STRONG ? referent : null;
+        reference = switch (mode) {
+            case STRONG -> null;
+            case WEAK -> new WeakReference<>(referent);
+            case SOFT -> new SoftReference<>(referent);
+        };
+        this.invoker = invoker;
+        this.once = once;
+        expires = ttl != null;
+        deadline = expires ? System.nanoTime() + ttl.toNanos() : 0;
+    }
+
+    /**
+     * Creates a new entry for a handler.
+     * @param handler the handler
+     * @param mode how to hold the handler
+     * @param once whether the subscription ends after the first event
+     * @param ttl how long the subscription lasts, null for no limit
+     * @param <T> the event class the handler can handle
+     * @return the new entry
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T extends Event> SubscribedHandler<T> of(final EventHandler<T> handler,
+                                                     final ReferenceMode mode,
+                                                     final boolean once,
+                                                     final Duration ttl) {
+        return new SubscribedHandler<>(handler, (BiConsumer) HANDLER_INVOKER, mode, once, ttl);
+    }
+
+    @Override
+    public void handle(final T event) {
+        deliver(event);
+    }
+
+    /**
+     * Passes the event to the handler if the subscription is still alive.
+     * @param event the event which occurred
+     * @return false if the subscription has ended and the entry can be removed
+     */
+    boolean deliver(final T event) {
+        final Object referent = referent();
+        if (referent == null || isExpired()) {
+            closed.set(true);
+            return false;
+        }
+        if (once && !closed.compareAndSet(false, true)) return false;
+
+        invoker.accept(referent, event);
+        return !once;
+    }
+
+    /**
+     * Checks if the subscription can still receive events.
+     * @return true if the subscription is not closed, expired or collected
+     */
+    boolean isAlive() {
+        return !closed.get() && !isExpired() && referent() != null;
+    }
+
+    /** Ends the subscription. */
+    void close() {
+        closed.set(true);
+    }
+
+    /**
+     * Returns the class name of the handler, or of its owner, for instrumentation.
+     * @return the class name, or a placeholder once the referent has been collected
+     */
+    String describe() {
+        final Object referent = reference == null ? strongReferent : reference.get();
+        return referent == null ? "<collected>" : referent.getClass().getName();
+    }
+
+    private Object referent() {
+        if (closed.get()) return null;
+        return reference == null ? strongReferent : reference.get();
+    }
+
+    private boolean isExpired() {
+        return expires && System.nanoTime() - deadline >= 0;
+    }
+}
@@ -0,0 +1,53 @@
+package com.jwcomptech.commons.functions;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.enums.BaseEnum;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Determines which entry a bounded {@link MemoizationCache} evicts when it is full.
+ * @since 1.0.0-alpha
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public enum EvictionPolicy implements BaseEnum<String> {
+    /** Evicts the least recently used entry. */
+    LRU("Least Recently Used"),
+    /**
+     * Evicts the least frequently used of the least recently used entries,
+     * approximating LFU without keeping the entries sorted by frequency.
+     */
+    LFU("Least Frequently Used"),
+    /**
+     * Evicts the least recently used entry, but only admits a new entry if its key has been
+     * requested more often than the key it would evict. Keeps frequently used entries from
+     * being flushed by one-off lookups.
+     */
+    TINY_LFU("TinyLFU");
+
+    private final String value;
+}
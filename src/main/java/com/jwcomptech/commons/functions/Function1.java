@@ -30,15 +30,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkState;
 
 /**
  * Represents a function with one argument.
@@ -213,32 +211,54 @@ public interface Function1<T1, R> extends Serializable, Function<T1, R> {
      * Returns a memoizing version of this function, which computes the return value for given arguments only one time.
      * On subsequent calls given the same arguments the memoized value is returned.
      * <p>
-     * Please note that memoizing functions do not permit {@code null} as single argument or return value.
+     * The values are kept in an unbounded {@link MemoizationCache}, use {@link #memoized(MemoizationConfig)}
+     * to limit its size or expire values. If this function is already memoized, it is returned as is.
      *
      * @return a memoizing function equivalent to this.
      */
     default Function1<T1, R> memoized() {
-        if (isMemoized()) {
-            return this;
-        } else {
-            final Map<T1, R> cache = new HashMap<>();
-            final Lock lock = new ReentrantLock();
-            //noinspection OverlyLongLambda
-            return (Function1<T1, R> & Memoized) (t1) -> {
-                lock.lock();
-                try {
-                    if (cache.containsKey(t1)) {
-                        return cache.get(t1);
-                    } else {
-                        final R value = apply(t1);
-                        cache.put(t1, value);
-                        return value;
-                    }
-                } finally {
-                    lock.unlock();
-                }
-            };
-        }
+        return isMemoized() ? this : memoized(MemoizationConfig.UNBOUNDED);
+    }
+
+    /**
+     * Returns a memoizing version of this function backed by a {@link MemoizationCache} with the specified settings.
+     * The cache can be called from many threads at once, a value missing from it is computed by the first
+     * thread that asks for it while other threads asking for the same arguments wait for that result.
+     *
+     * @param config the cache settings
+     * @return a memoizing function equivalent to this.
+     * @throws IllegalArgumentException if {@code config} is null
+     * @throws IllegalStateException if this function is already memoized, as its cache settings cannot be changed
+     */
+    default Function1<T1, R> memoized(final MemoizationConfig config) {
+        checkState(!isMemoized(), "Function is already memoized!");
+        final MemoizationCache<T1, R> cache = new MemoizationCache<>(config);
+        return (Function1<T1, R> & Memoized) t1 -> cache.get(t1, this);
+    }
+
+    /**
+     * Returns an asynchronous memoizing version of this function, which computes the return value for given
+     * arguments only one time on a virtual thread. Callers asking for the same arguments while the value is being
+     * computed get a future of that same computation.
+     *
+     * @return a function returning futures of the memoized values, completed exceptionally if this function throws
+     */
+    default Function1<T1, CompletableFuture<R>> memoizedAsync() {
+        return memoizedAsync(MemoizationConfig.UNBOUNDED);
+    }
+
+    /**
+     * Returns an asynchronous memoizing version of this function backed by a {@link MemoizationCache} with the
+     * specified settings. Values are computed on the configured executor and entries older than the configured
+     * refresh time are reloaded in the background while the current value keeps being returned.
+     *
+     * @param config the cache settings
+     * @return a function returning futures of the memoized values, completed exceptionally if this function throws
+     * @throws IllegalArgumentException if {@code config} is null
+     */
+    default Function1<T1, CompletableFuture<R>> memoizedAsync(final MemoizationConfig config) {
+        final MemoizationCache<T1, R> cache = new MemoizationCache<>(config);
+        return (Function1<T1, CompletableFuture<R>> & Memoized) t1 -> cache.getAsync(t1, this::apply);
     }
 
     /**
@@ -31,15 +31,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkState;
 
 /**
  * Represents a function with two arguments.
@@ -220,33 +218,56 @@ public interface Function2<T1, T2, R> extends Serializable, BiFunction<T1, T2, R
      * Returns a memoizing version of this function, which computes the return value for given arguments only one time.
      * On subsequent calls given the same arguments the memoized value is returned.
      * <p>
-     * Please note that memoizing functions do not permit {@code null} as single argument or return value.
+     * The values are kept in an unbounded {@link MemoizationCache}, use {@link #memoized(MemoizationConfig)}
+     * to limit its size or expire values. If this function is already memoized, it is returned as is.
      *
      * @return a memoizing function equivalent to this.
      */
     default Function2<T1, T2, R> memoized() {
-        if (isMemoized()) {
-            return this;
-        } else {
-            final Map<Tuple2<T1, T2>, R> cache = new HashMap<>();
-            final Lock lock = new ReentrantLock();
-            //noinspection OverlyLongLambda
-            return (Function2<T1, T2, R> & Memoized) (t1, t2) -> {
-                final Tuple2<T1, T2> key = Tuple.of(t1, t2);
-                lock.lock();
-                try {
-                    if (cache.containsKey(key)) {
-                        return cache.get(key);
-                    } else {
-                        final R value = tupled().apply(key);
-                        cache.put(key, value);
-                        return value;
-                    }
-                } finally {
-                    lock.unlock();
-                }
-            };
-        }
+        return isMemoized() ? this : memoized(MemoizationConfig.UNBOUNDED);
+    }
+
+    /**
+     * Returns a memoizing version of this function backed by a {@link MemoizationCache} with the specified settings.
+     * The cache can be called from many threads at once, a value missing from it is computed by the first
+     * thread that asks for it while other threads asking for the same arguments wait for that result.
+     *
+     * @param config the cache settings
+     * @return a memoizing function equivalent to this.
+     * @throws IllegalArgumentException if {@code config} is null
+     * @throws IllegalStateException if this function is already memoized, as its cache settings cannot be changed
+     */
+    default Function2<T1, T2, R> memoized(final MemoizationConfig config) {
+        checkState(!isMemoized(), "Function is already memoized!");
+        final MemoizationCache<Tuple2<T1, T2>, R> cache = new MemoizationCache<>(config);
+        final Function1<Tuple2<T1, T2>, R> tupled = tupled();
+        return (Function2<T1, T2, R> & Memoized) (t1, t2) -> cache.get(Tuple.of(t1, t2), tupled);
+    }
+
+    /**
+     * Returns an asynchronous memoizing version of this function, which computes the return value for given
+     * arguments only one time on a virtual thread. Callers asking for the same arguments while the value is being
+     * computed get a future of that same computation.
+     *
+     * @return a function returning futures of the memoized values, completed exceptionally if this function throws
+     */
+    default Function2<T1, T2, CompletableFuture<R>> memoizedAsync() {
+        return memoizedAsync(MemoizationConfig.UNBOUNDED);
+    }
+
+    /**
+     * Returns an asynchronous memoizing version of this function backed by a {@link MemoizationCache} with the
+     * specified settings. Values are computed on the configured executor and entries older than the configured
+     * refresh time are reloaded in the background while the current value keeps being returned.
+     *
+     * @param config the cache settings
+     * @return a function returning futures of the memoized values, completed exceptionally if this function throws
+     * @throws IllegalArgumentException if {@code config} is null
+     */
+    default Function2<T1, T2, CompletableFuture<R>> memoizedAsync(final MemoizationConfig config) {
+        final MemoizationCache<Tuple2<T1, T2>, R> cache = new MemoizationCache<>(config);
+        final Function1<Tuple2<T1, T2>, R> tupled = tupled();
+        return (Function2<T1, T2, CompletableFuture<R>> & Memoized) (t1, t2) -> cache.getAsync(Tuple.of(t1, t2), tupled::apply);
     }
 
     /**
@@ -52,17 +52,24 @@ import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.util.Objects;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 
 /**
@@ -94,18 +101,27 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable {
 
     @Serial
     private static final long serialVersionUID = 4567338503128116754L;
-    @SuppressWarnings("FieldNotUsedInToString")
-    private final Lock lock = new ReentrantLock();
+    private static final VarHandle STATE;
+    private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().start(task);
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Lazy.class, "state", Object.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
-    // read http://javarevisited.blogspot.de/2014/05/double-checked-locking-on-singleton-in-java.html
+    // The supplier while pending, an Evaluation while the supplier runs and null once evaluated.
+    // Null is also what a deserialized instance gets, which is always evaluated.
     @SuppressWarnings("FieldNotUsedInToString")
-    private transient volatile Supplier<? extends T> supplier;
+    private transient volatile Object state;
 
-    private T value; // will behave as a volatile in reality, because a supplier volatile read will update all fields (see https://www.cs.umd.edu/~pugh/java/memoryModel/jsr-133-faq.html#volatile)
+    private T value; // will behave as a volatile in reality, because it is written before and read after the volatile state (see https://www.cs.umd.edu/~pugh/java/memoryModel/jsr-133-faq.html#volatile)
 
     // should not be called directly
     private Lazy(final Supplier<? extends T> supplier) {
-        this.supplier = supplier;
+        state = supplier;
     }
 
     /**
@@ -155,6 +171,135 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable {
         return Lazy.of(() -> Vector.ofAll(values).map(lazy -> lazy.get()));
     }
 
+    /**
+     * Reduces many {@code Lazy} values into a single {@code Lazy} like {@link #sequence(Iterable)}, but
+     * evaluates the values concurrently on virtual threads when the result is evaluated.
+     *
+     * @param <T>    Type of the lazy values.
+     * @param values An iterable of lazy values.
+     * @return A lazy sequence of values, in the order of the given values.
+     * @throws IllegalArgumentException if values is null
+     */
+    public static <T> @NotNull Lazy<Seq<T>> parallelSequence(final Iterable<? extends Lazy<? extends T>> values) {
+        return parallelSequence(values, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Reduces many {@code Lazy} values into a single {@code Lazy} like {@link #sequence(Iterable)}, but
+     * evaluates the values concurrently on the given executor when the result is evaluated.
+     *
+     * @param <T>      Type of the lazy values.
+     * @param values   An iterable of lazy values.
+     * @param executor The executor evaluating the values.
+     * @return A lazy sequence of values, in the order of the given values.
+     * @throws IllegalArgumentException if values or executor is null
+     */
+    public static <T> @NotNull Lazy<Seq<T>> parallelSequence(final Iterable<? extends Lazy<? extends T>> values,
+                                                             final Executor executor) {
+        checkArgumentNotNull(values, cannotBeNull("values"));
+        checkArgumentNotNull(executor, cannotBeNull("executor"));
+        return Lazy.of(() -> {
+            final Vector<CompletableFuture<? extends T>> futures = Vector.ofAll(values).map(lazy -> lazy.getAsync(executor));
+            return futures.map(future -> Lazy.<T>join(future));
+        });
+    }
+
+    /**
+     * Combines two {@code Lazy} values into one, evaluating both concurrently on a virtual thread
+     * when the result is evaluated.
+     *
+     * @param <A>      Type of the first lazy value.
+     * @param <B>      Type of the second lazy value.
+     * @param <R>      Type of the combined value.
+     * @param first    The first lazy value.
+     * @param second   The second lazy value.
+     * @param combiner Combines both values.
+     * @return A lazy combined value.
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public static <A, B, R> @NotNull Lazy<R> zip(final Lazy<? extends A> first,
+                                                 final Lazy<? extends B> second,
+                                                 final BiFunction<? super A, ? super B, ? extends R> combiner) {
+        return zip(first, second, combiner, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Combines two {@code Lazy} values into one, evaluating the second on the given executor while
+     * the first is evaluated on the calling thread when the result is evaluated.
+     *
+     * @param <A>      Type of the first lazy value.
+     * @param <B>      Type of the second lazy value.
+     * @param <R>      Type of the combined value.
+     * @param first    The first lazy value.
+     * @param second   The second lazy value.
+     * @param combiner Combines both values.
+     * @param executor The executor evaluating the second value.
+     * @return A lazy combined value.
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public static <A, B, R> @NotNull Lazy<R> zip(final Lazy<? extends A> first,
+                                                 final Lazy<? extends B> second,
+                                                 final BiFunction<? super A, ? super B, ? extends R> combiner,
+                                                 final Executor executor) {
+        checkArgumentNotNull(first, cannotBeNull("first"));
+        checkArgumentNotNull(second, cannotBeNull("second"));
+        checkArgumentNotNull(combiner, cannotBeNull("combiner"));
+        checkArgumentNotNull(executor, cannotBeNull("executor"));
+        return Lazy.of(() -> {
+            final CompletableFuture<? extends B> secondValue = second.getAsync(executor);
+            return combiner.apply(first.get(), join(secondValue));
+        });
+    }
+
+    /**
+     * Evaluates the given {@code Lazy} values concurrently on virtual threads and returns a future of
+     * whichever value is evaluated first. An already evaluated value wins right away.
+     *
+     * @param <T>    Type of the lazy values.
+     * @param values An iterable of lazy values.
+     * @return A future of the first value, failing only if every value fails.
+     * @throws IllegalArgumentException if values is null or empty
+     */
+    public static <T> @NotNull CompletableFuture<T> race(final Iterable<? extends Lazy<? extends T>> values) {
+        return race(values, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Evaluates the given {@code Lazy} values concurrently on the given executor and returns a future of
+     * whichever value is evaluated first. An already evaluated value wins right away. The other values
+     * keep evaluating and are memoized as usual.
+     *
+     * @param <T>      Type of the lazy values.
+     * @param values   An iterable of lazy values.
+     * @param executor The executor evaluating the values.
+     * @return A future of the first value, failing only if every value fails.
+     * @throws IllegalArgumentException if values or executor is null or values is empty
+     */
+    public static <T> @NotNull CompletableFuture<T> race(final Iterable<? extends Lazy<? extends T>> values,
+                                                         final Executor executor) {
+        checkArgumentNotNull(values, cannotBeNull("values"));
+        checkArgumentNotNull(executor, cannotBeNull("executor"));
+        final Vector<Lazy<? extends T>> lazies = Vector.ofAll(values);
+        checkArgument(!lazies.isEmpty(), "Values cannot be empty!");
+
+        for (final Lazy<? extends T> lazy : lazies) {
+            if (lazy.isEvaluated()) return CompletableFuture.completedFuture(lazy.get());
+        }
+
+        final CompletableFuture<T> winner = new CompletableFuture<>();
+        final AtomicInteger remaining = new AtomicInteger(lazies.size());
+        for (final Lazy<? extends T> lazy : lazies) {
+            lazy.getAsync(executor).whenComplete((value, error) -> {
+                if (error == null) {
+                    winner.complete(value);
+                } else if (remaining.decrementAndGet() == 0) {
+                    winner.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                }
+            });
+        }
+        return winner;
+    }
+
     /**
      * Creates a real _lazy value_ of type {@code T}, backed by a {@linkplain Proxy} which delegates
      * to a {@code Lazy} instance.
@@ -191,21 +336,69 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable {
     @Override
     public T get() {
         //noinspection VariableNotUsedInsideIf
-        return (supplier == null) ? value : computeValue();
+        return (state == null) ? value : computeValue();
     }
-    
+
+    @SuppressWarnings("unchecked")
     private T computeValue() {
-        lock.lock();
-        try {
-            final Supplier<? extends T> supplier = this.supplier;
-            if (supplier != null) {
+        while (true) {
+            final Object current = state;
+            if (current == null) return value;
+
+            if (current instanceof final Evaluation<?> evaluation) {
+                // A supplier asking for its own value calls itself again instead of waiting on itself.
+                if (evaluation.owner == Thread.currentThread()) return (T) evaluation.supplier.get();
+                evaluation.await();
+                continue;
+            }
+
+            final Supplier<? extends T> supplier = (Supplier<? extends T>) current;
+            final Evaluation<T> evaluation = new Evaluation<>(supplier);
+            if (!STATE.compareAndSet(this, current, evaluation)) continue;
+
+            try {
                 value = supplier.get();
-                this.supplier = null;
+            } catch (final Throwable e) {
+                // Back to pending so the next call tries again.
+                state = supplier;
+                evaluation.release();
+                throw e;
             }
-        } finally {
-            lock.unlock();
+            state = null;
+            evaluation.release();
+            return value;
+        }
+    }
+
+    /**
+     * Evaluates this lazy value on a virtual thread.
+     *
+     * @return a future of the lazy evaluated value, already completed if the value is evaluated
+     */
+    public @NotNull CompletableFuture<T> getAsync() {
+        return getAsync(VIRTUAL_THREADS);
+    }
+
+    /**
+     * Evaluates this lazy value on the given executor.
+     *
+     * @param executor the executor evaluating the value
+     * @return a future of the lazy evaluated value, already completed if the value is evaluated
+     * @throws IllegalArgumentException if executor is null
+     */
+    public @NotNull CompletableFuture<T> getAsync(final Executor executor) {
+        checkArgumentNotNull(executor, cannotBeNull("executor"));
+        return isEvaluated() ? CompletableFuture.completedFuture(get()) : CompletableFuture.supplyAsync(this, executor);
+    }
+
+    private static <T> T join(final CompletableFuture<? extends T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) throw cause;
+            if (e.getCause() instanceof final Error cause) throw cause;
+            throw e;
         }
-        return value;
     }
 
     /**
@@ -232,7 +425,7 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable {
      * @throws UnsupportedOperationException if this value is undefined
      */
     public boolean isEvaluated() {
-        return supplier == null;
+        return state == null;
     }
 
     /**
@@ -312,4 +505,59 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable {
         get(); // evaluates the lazy value if it isn't evaluated yet!
         stream.defaultWriteObject();
     }
+
+    /**
+     * The state of a {@code Lazy} while its supplier runs, other threads asking for the
+     * value park until it is released.
+     *
+     * @param <T> the class type of the value
+     */
+    private static final class Evaluation<T> {
+        private static final VarHandle WAITERS;
+
+        static {
+            try {
+                WAITERS = MethodHandles.lookup().findVarHandle(Evaluation.class, "waiters", Waiter.class);
+            } catch (final ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Supplier<? extends T> supplier;
+        private final Thread owner = Thread.currentThread();
+        private volatile boolean done;
+        private volatile Waiter waiters;
+
+        private Evaluation(final Supplier<? extends T> supplier) {
+            this.supplier = supplier;
+        }
+
+        private void await() {
+            final Waiter waiter = new Waiter(Thread.currentThread());
+            do {
+                waiter.next = waiters;
+            } while (!WAITERS.compareAndSet(this, waiter.next, waiter));
+
+            while (!done) {
+                LockSupport.park(this);
+            }
+        }
+
+        private void release() {
+            done = true;
+            for (Waiter waiter = waiters; waiter != null; waiter = waiter.next) {
+                LockSupport.unpark(waiter.thread);
+            }
+        }
+    }
+
+    /** A thread parked on an {@link Evaluation}. */
+    private static final class Waiter {
+        private final Thread thread;
+        private Waiter next;
+
+        private Waiter(final Thread thread) {
+            this.thread = thread;
+        }
+    }
 }
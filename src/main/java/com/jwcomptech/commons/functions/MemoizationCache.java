@@ -0,0 +1,580 @@
+package com.jwcomptech.commons.functions;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.functions.checked.CheckedFunction1;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A concurrent cache of computed values backing the {@code memoized} functions.
+ * <p>
+ * Keys are spread over independently locked segments, so threads looking up different keys rarely
+ * wait on each other, and locks are never held while a value is computed. The first thread to ask
+ * for a missing key computes it while any other thread asking for the same key waits for that result
+ * instead of computing it again. A failed computation is not cached and is rethrown to every waiting
+ * thread. Null keys and values are supported.
+ * <p>
+ * {@link #getAsync(Object, CheckedFunction1)} returns a future instead of waiting and computes missing
+ * values on the configured executor. With a refresh time set, an entry older than it is reloaded in
+ * the background on its next lookup while lookups keep returning the current value.
+ * <p>
+ * Only the settings are serialized, a deserialized cache starts out empty. An executor that is not
+ * serializable is replaced with {@link MemoizationConfig#VIRTUAL_THREAD_EXECUTOR}.
+ * @param <K> the key type
+ * @param <V> the value type
+ * @since 1.0.0-alpha
+ */
+public final class MemoizationCache<K, V> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4406270839618236291L;
+
+    // Above this many entries per segment a bounded cache gets another segment.
+    private static final int MIN_SEGMENT_SIZE = 16;
+    private static final int LFU_SAMPLE_SIZE = 8;
+
+    private final transient MemoizationConfig config;
+    private final transient Segment<V>[] segments;
+    private final transient int segmentMask;
+    private final transient long ttlNanos;
+    private final transient long refreshNanos;
+    private final transient LongAdder hits = new LongAdder();
+    private final transient LongAdder misses = new LongAdder();
+    private final transient LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     * @param config the cache settings
+     * @throws IllegalArgumentException if config is null
+     */
+    @SuppressWarnings("unchecked")
+    public MemoizationCache(final MemoizationConfig config) {
+        checkArgumentNotNull(config, cannotBeNull("config"));
+        this.config = config;
+        ttlNanos = config.getExpireAfterWrite() == null ? 0 : config.getExpireAfterWrite().toNanos();
+        refreshNanos = config.getRefreshAfterWrite() == null ? 0 : config.getRefreshAfterWrite().toNanos();
+
+        int count = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+        if (config.isBounded()) {
+            count = (int) Math.min(count, Math.max(1, Long.highestOneBit(config.getMaxSize() / MIN_SEGMENT_SIZE)));
+        }
+        final long capacity = config.isBounded() ? (config.getMaxSize() + count - 1) / count : 0;
+
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(capacity);
+        }
+        segmentMask = count - 1;
+    }
+
+    /**
+     * Returns the cached value of the specified key, computing it with the loader if it is missing.
+     * @param key the key
+     * @param loader computes the value of a missing key
+     * @return the value
+     */
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        try {
+            return getChecked(key, loader::apply);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            // The loader cannot throw checked exceptions.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the cached value of the specified key, computing it with the loader if it is missing.
+     * @param key the key
+     * @param loader computes the value of a missing key
+     * @return the value
+     * @throws Throwable if the loader failed
+     */
+    public V getChecked(final K key, final CheckedFunction1<? super K, ? extends V> loader) throws Throwable {
+        final int hash = spread(key == null ? 0 : key.hashCode());
+        final Segment<V> segment = segments[hash & segmentMask];
+        final Node<V> node = nodeFor(segment, key, hash);
+
+        if (node.claim()) {
+            misses.increment();
+            load(segment, key, node, loader);
+        } else {
+            hits.increment();
+            refreshIfStale(segment, key, node, loader);
+        }
+        return node.await();
+    }
+
+    /**
+     * Returns a future of the cached value of the specified key. If the key is missing its value is
+     * computed on the configured executor, and callers asking for it before that completes get a future
+     * of the same computation.
+     * @param key the key
+     * @param loader computes the value of a missing key
+     * @return a future of the value, completed exceptionally if the loader failed
+     */
+    public CompletableFuture<V> getAsync(final K key, final CheckedFunction1<? super K, ? extends V> loader) {
+        final int hash = spread(key == null ? 0 : key.hashCode());
+        final Segment<V> segment = segments[hash & segmentMask];
+        final Node<V> node = nodeFor(segment, key, hash);
+
+        if (node.claim()) {
+            misses.increment();
+            try {
+                config.getExecutor().execute(() -> load(segment, key, node, loader));
+            } catch (final RejectedExecutionException e) {
+                fail(segment, key, node, e);
+            }
+        } else {
+            hits.increment();
+            refreshIfStale(segment, key, node, loader);
+        }
+        // A copy, so callers cancelling or completing their future do not affect other callers.
+        return node.future.copy();
+    }
+
+    /**
+     * Returns the node of the specified key, inserting a new unclaimed node if the key is missing or expired.
+     */
+    private Node<V> nodeFor(final Segment<V> segment, final K key, final int hash) {
+        segment.lock.lock();
+        try {
+            final Node<V> existing = segment.lookup(key, hash, ttlNanos);
+            if (existing != null) return existing;
+
+            final Node<V> node = new Node<>();
+            segment.insert(key, hash, node, config.getEvictionPolicy(), evictions);
+            return node;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private void load(final Segment<V> segment,
+                      final K key,
+                      final Node<V> node,
+                      final CheckedFunction1<? super K, ? extends V> loader) {
+        final V value;
+        try {
+            value = loader.apply(key);
+        } catch (final Throwable e) {
+            fail(segment, key, node, e);
+            return;
+        }
+        node.writtenAt = System.nanoTime();
+        node.future.complete(value);
+
+        if (node.rejected) {
+            segment.lock.lock();
+            try {
+                segment.map.remove(key, node);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    private void fail(final Segment<V> segment, final K key, final Node<V> node, final Throwable e) {
+        // Failures are not cached, the next lookup tries again.
+        segment.lock.lock();
+        try {
+            segment.map.remove(key, node);
+        } finally {
+            segment.lock.unlock();
+        }
+        node.future.completeExceptionally(e);
+    }
+
+    /**
+     * Reloads the value of the specified node in the background once it is older than the refresh time,
+     * replacing the node when the reload succeeds and keeping it when the reload fails.
+     */
+    private void refreshIfStale(final Segment<V> segment,
+                                final K key,
+                                final Node<V> node,
+                                final CheckedFunction1<? super K, ? extends V> loader) {
+        if (refreshNanos == 0 || !node.isStale(refreshNanos) || !node.claimRefresh()) return;
+
+        final Runnable refresh = () -> {
+            final Node<V> fresh = new Node<>();
+            fresh.claim();
+            try {
+                final V value = loader.apply(key);
+                fresh.writtenAt = System.nanoTime();
+                fresh.future.complete(value);
+            } catch (final Throwable e) {
+                node.refreshing = false;
+                return;
+            }
+
+            segment.lock.lock();
+            try {
+                if (segment.map.get(key) == node) segment.map.put(key, fresh);
+            } finally {
+                segment.lock.unlock();
+            }
+        };
+
+        try {
+            config.getExecutor().execute(refresh);
+        } catch (final RejectedExecutionException e) {
+            node.refreshing = false;
+        }
+    }
+
+    /**
+     * Removes the cached value of the specified key.
+     * @param key the key
+     */
+    public void invalidate(final K key) {
+        final Segment<V> segment = segments[spread(key == null ? 0 : key.hashCode()) & segmentMask];
+        segment.lock.lock();
+        try {
+            segment.map.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /** Removes every cached value. */
+    public void clear() {
+        for (final Segment<V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached values, including values still being computed.
+     * @return the number of cached values
+     */
+    public long size() {
+        long size = 0;
+        for (final Segment<V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the settings of this cache.
+     * @return the cache settings
+     */
+    public MemoizationConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached value.
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to compute the value.
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of values removed to stay within the maximum size.
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("config", config)
+                .append("size", size())
+                .append("hits", getHitCount())
+                .append("misses", getMissCount())
+                .append("evictions", getEvictionCount())
+                .toString();
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializationProxy(config);
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy required!");
+    }
+
+    /**
+     * The serialized form of a cache, its settings without its contents.
+     */
+    private static final class SerializationProxy implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -2185390412749530512L;
+
+        private final long maxSize;
+        private final EvictionPolicy evictionPolicy;
+        private final Duration expireAfterWrite;
+        private final Duration refreshAfterWrite;
+        private final Executor executor;
+
+        private SerializationProxy(final MemoizationConfig config) {
+            maxSize = config.getMaxSize();
+            evictionPolicy = config.getEvictionPolicy();
+            expireAfterWrite = config.getExpireAfterWrite();
+            refreshAfterWrite = config.getRefreshAfterWrite();
+            executor = config.getExecutor() instanceof Serializable ? config.getExecutor() : null;
+        }
+
+        @Serial
+        private Object readResolve() {
+            final MemoizationConfig.Builder builder = MemoizationConfig.builder()
+                    .withMaxSize(maxSize)
+                    .withEvictionPolicy(evictionPolicy);
+            if (expireAfterWrite != null) builder.withExpireAfterWrite(expireAfterWrite);
+            if (refreshAfterWrite != null) builder.withRefreshAfterWrite(refreshAfterWrite);
+            if (executor != null) builder.withExecutor(executor);
+            return new MemoizationCache<>(builder.build());
+        }
+    }
+
+    /**
+     * A cached value, or the value currently being computed.
+     * @param <V> the value type
+     */
+    private static final class Node<V> {
+        private static final VarHandle CLAIMED;
+        private static final VarHandle REFRESHING;
+
+        static {
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.lookup();
+                CLAIMED = lookup.findVarHandle(Node.class, "claimed", boolean.class);
+                REFRESHING = lookup.findVarHandle(Node.class, "refreshing", boolean.class);
+            } catch (final ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        // Guarded by the segment lock.
+        private int frequency;
+        // Set when the node was not admitted to a full segment, before the node is claimed.
+        private boolean rejected;
+        private volatile long writtenAt;
+        private volatile boolean claimed;
+        private volatile boolean refreshing;
+
+        /**
+         * Claims the loading of this node, only the first caller gets to load it.
+         * @return true if the caller should load the value
+         */
+        private boolean claim() {
+            return !claimed && CLAIMED.compareAndSet(this, false, true);
+        }
+
+        private boolean claimRefresh() {
+            return !refreshing && REFRESHING.compareAndSet(this, false, true);
+        }
+
+        private boolean isLoaded() {
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+
+        private boolean isExpired(final long ttlNanos) {
+            return ttlNanos > 0 && isLoaded() && System.nanoTime() - writtenAt >= ttlNanos;
+        }
+
+        private boolean isStale(final long refreshNanos) {
+            return isLoaded() && System.nanoTime() - writtenAt >= refreshNanos;
+        }
+
+        private V await() throws Throwable {
+            try {
+                return future.join();
+            } catch (final CompletionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * A part of the cache with its own lock, entries kept in access order.
+     * @param <V> the value type
+     */
+    private static final class Segment<V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Object, Node<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        private final long capacity;
+        private final FrequencySketch sketch;
+
+        private Segment(final long capacity) {
+            this.capacity = capacity;
+            sketch = capacity > 0 ? new FrequencySketch(capacity) : null;
+        }
+
+        private Node<V> lookup(final Object key, final int hash, final long ttlNanos) {
+            if (sketch != null) sketch.increment(hash);
+
+            final Node<V> node = map.get(key);
+            if (node == null) return null;
+            if (node.isExpired(ttlNanos)) {
+                map.remove(key);
+                return null;
+            }
+            node.frequency++;
+            return node;
+        }
+
+        private void insert(final Object key,
+                            final int hash,
+                            final Node<V> node,
+                            final EvictionPolicy policy,
+                            final LongAdder evictions) {
+            map.put(key, node);
+            if (capacity == 0 || map.size() <= capacity) return;
+
+            final Iterator<Map.Entry<Object, Node<V>>> eldest = map.entrySet().iterator();
+            switch (policy) {
+                case LRU -> eldest.next();
+                case LFU -> {
+                    // Evict the least frequently used of the few least recently used entries.
+                    Map.Entry<Object, Node<V>> victim = eldest.next();
+                    for (int i = 1; i < LFU_SAMPLE_SIZE && eldest.hasNext(); i++) {
+                        final Map.Entry<Object, Node<V>> candidate = eldest.next();
+                        if (candidate.getValue() != node
+                                && candidate.getValue().frequency < victim.getValue().frequency) {
+                            victim = candidate;
+                        }
+                    }
+                    map.remove(victim.getKey());
+                    evictions.increment();
+                    return;
+                }
+                case TINY_LFU -> {
+                    final Map.Entry<Object, Node<V>> victim = eldest.next();
+                    final Object victimKey = victim.getKey();
+                    final int victimHash = spread(victimKey == null ? 0 : victimKey.hashCode());
+                    if (sketch.frequency(hash) <= sketch.frequency(victimHash)) {
+                        // Not admitted, the node is only kept until its value is computed
+                        // so that concurrent lookups of the key still wait for that one computation.
+                        node.rejected = true;
+                        evictions.increment();
+                        return;
+                    }
+                }
+            }
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters estimating how often each key was requested,
+     * halved periodically so old popularity fades.
+     */
+    private static final class FrequencySketch {
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97CB3127, 0xB3A3C3E5, 0xCA4F6D8B, 0x8DFC35A7};
+
+        private final byte[] table;
+        private final int mask;
+        private final long resetAt;
+        private long additions;
+
+        private FrequencySketch(final long capacity) {
+            final int size = Integer.highestOneBit((int) Math.min(Math.max(capacity * 4, 64), 1 << 24) - 1) << 1;
+            table = new byte[size];
+            mask = size - 1;
+            resetAt = capacity * 10;
+        }
+
+        private void increment(final int hash) {
+            boolean added = false;
+            for (final int seed : SEEDS) {
+                final int index = indexOf(hash, seed);
+                if (table[index] < MAX_COUNT) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= resetAt) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int frequency(final int hash) {
+            int frequency = MAX_COUNT;
+            for (final int seed : SEEDS) {
+                frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(final int hash, final int seed) {
+            final int mixed = (hash ^ seed) * 0x9E3779B9;
+            return (mixed ^ (mixed >>> 15)) & mask;
+        }
+    }
+}
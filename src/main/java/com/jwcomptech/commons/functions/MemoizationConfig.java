@@ -0,0 +1,171 @@
+package com.jwcomptech.commons.functions;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.interfaces.Buildable;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * The settings of a {@link MemoizationCache}.
+ * @since 1.0.0-alpha
+ */
+@Value
+public class MemoizationConfig {
+    /** Runs every task on a new virtual thread, suited to loaders that block on I/O. */
+    public static final Executor VIRTUAL_THREAD_EXECUTOR = task -> Thread.ofVirtual().start(task);
+
+    /** A cache that never evicts or expires entries. */
+    public static final MemoizationConfig UNBOUNDED = builder().build();
+
+    /** The maximum number of entries, 0 for no limit. */
+    long maxSize;
+    /** Which entry to evict once the maximum size is reached. */
+    EvictionPolicy evictionPolicy;
+    /** How long an entry is kept after it was loaded, null to keep it until evicted. */
+    Duration expireAfterWrite;
+    /** How long after it was loaded an entry is reloaded in the background on its next lookup, null to never reload. */
+    Duration refreshAfterWrite;
+    /** Runs asynchronous loads and background reloads. */
+    Executor executor;
+
+    /**
+     * Checks if the cache evicts entries once it reaches a maximum size.
+     * @return true if the cache has a maximum size
+     */
+    public boolean isBounded() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Returns a new builder for a {@link MemoizationConfig}.
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A builder for a {@link MemoizationConfig}.
+     * @since 1.0.0-alpha
+     */
+    public static final class Builder implements Buildable<MemoizationConfig> {
+        private long maxSize;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+        private Duration expireAfterWrite;
+        private Duration refreshAfterWrite;
+        private Executor executor = VIRTUAL_THREAD_EXECUTOR;
+
+        private Builder() { }
+
+        /**
+         * Sets the maximum number of entries, defaults to no limit.
+         *
+         * @param maxSize the maximum number of entries, 0 for no limit
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code maxSize} is negative
+         */
+        public Builder withMaxSize(final long maxSize) {
+            checkArgument(maxSize >= 0, "Max size cannot be negative!");
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets which entry to evict once the maximum size is reached, defaults to {@link EvictionPolicy#LRU}.
+         *
+         * @param evictionPolicy the eviction policy
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code evictionPolicy} is null
+         */
+        public Builder withEvictionPolicy(final EvictionPolicy evictionPolicy) {
+            checkArgumentNotNull(evictionPolicy, cannotBeNull("evictionPolicy"));
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        /**
+         * Sets how long an entry is kept after it was loaded, defaults to until evicted.
+         *
+         * @param expireAfterWrite the time to live of an entry
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code expireAfterWrite} is null or not positive
+         */
+        public Builder withExpireAfterWrite(final Duration expireAfterWrite) {
+            checkArgumentNotNull(expireAfterWrite, cannotBeNull("expireAfterWrite"));
+            checkArgument(expireAfterWrite.isPositive(), "Expire after write must be positive!");
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Sets how long after it was loaded an entry is reloaded in the background on its next lookup,
+         * defaults to never. Until the reload completes lookups keep returning the current value, so
+         * entries that are in use are replaced before they expire instead of making a caller wait.
+         *
+         * @param refreshAfterWrite the age at which an entry is reloaded
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code refreshAfterWrite} is null or not positive
+         */
+        public Builder withRefreshAfterWrite(final Duration refreshAfterWrite) {
+            checkArgumentNotNull(refreshAfterWrite, cannotBeNull("refreshAfterWrite"));
+            checkArgument(refreshAfterWrite.isPositive(), "Refresh after write must be positive!");
+            this.refreshAfterWrite = refreshAfterWrite;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs asynchronous loads and background reloads,
+         * defaults to {@link #VIRTUAL_THREAD_EXECUTOR}.
+         *
+         * @param executor the executor
+         * @return this instance to for method chaining
+         * @throws IllegalArgumentException if {@code executor} is null
+         */
+        public Builder withExecutor(final Executor executor) {
+            checkArgumentNotNull(executor, cannotBeNull("executor"));
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds a new MemoizationConfig instance with the set parameters.
+         *
+         * @return a new MemoizationConfig instance
+         * @throws IllegalArgumentException if the refresh time is not shorter than the expire time
+         */
+        @Override
+        public MemoizationConfig build() {
+            checkArgument(refreshAfterWrite == null || expireAfterWrite == null
+                            || refreshAfterWrite.compareTo(expireAfterWrite) < 0,
+                    "Refresh after write must be shorter than expire after write!");
+            return new MemoizationConfig(maxSize, evictionPolicy, expireAfterWrite, refreshAfterWrite, executor);
+        }
+    }
+}
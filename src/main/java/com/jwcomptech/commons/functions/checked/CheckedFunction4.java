@@ -24,6 +24,8 @@ package com.jwcomptech.commons.functions.checked;
 
 import com.jwcomptech.commons.functions.Function1;
 import com.jwcomptech.commons.functions.Function4;
+import com.jwcomptech.commons.functions.MemoizationCache;
+import com.jwcomptech.commons.functions.MemoizationConfig;
 import com.jwcomptech.commons.functions.Memoized;
 import com.jwcomptech.commons.tuples.Tuple;
 import com.jwcomptech.commons.tuples.Tuple4;
@@ -34,15 +36,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkState;
 
 /**
  * Represents a function with 4 arguments.
@@ -263,33 +263,56 @@ public interface CheckedFunction4<T1, T2, T3, T4, R> extends Serializable {
      * Returns a memoizing version of this function, which computes the return value for given arguments only one time.
      * On subsequent calls given the same arguments the memoized value is returned.
      * <p>
-     * Please note that memoizing functions do not permit {@code null} as single argument or return value.
+     * The values are kept in an unbounded {@link MemoizationCache}, use {@link #memoized(MemoizationConfig)}
+     * to limit its size or expire values. If this function is already memoized, it is returned as is.
      *
      * @return a memoizing function equivalent to this.
      */
     default CheckedFunction4<T1, T2, T3, T4, R> memoized() {
-        if (isMemoized()) {
-            return this;
-        } else {
-            final Map<Tuple4<T1, T2, T3, T4>, R> cache = new HashMap<>();
-            final Lock lock = new ReentrantLock();
-            //noinspection OverlyLongLambda
-            return (CheckedFunction4<T1, T2, T3, T4, R> & Memoized) (t1, t2, t3, t4) -> {
-                final Tuple4<T1, T2, T3, T4> key = Tuple.of(t1, t2, t3, t4);
-                lock.lock();
-                try {
-                    if (cache.containsKey(key)) {
-                        return cache.get(key);
-                    } else {
-                        final R value = tupled().apply(key);
-                        cache.put(key, value);
-                        return value;
-                    }
-                } finally {
-                    lock.unlock();
-                }
-            };
-        }
+        return isMemoized() ? this : memoized(MemoizationConfig.UNBOUNDED);
+    }
+
+    /**
+     * Returns a memoizing version of this function backed by a {@link MemoizationCache} with the specified settings.
+     * The cache can be called from many threads at once, a value missing from it is computed by the first
+     * thread that asks for it while other threads asking for the same arguments wait for that result.
+     *
+     * @param config the cache settings
+     * @return a memoizing function equivalent to this.
+     * @throws IllegalArgumentException if {@code config} is null
+     * @throws IllegalStateException if this function is already memoized, as its cache settings cannot be changed
+     */
+    default CheckedFunction4<T1, T2, T3, T4, R> memoized(final MemoizationConfig config) {
+        checkState(!isMemoized(), "Function is already memoized!");
+        final MemoizationCache<Tuple4<T1, T2, T3, T4>, R> cache = new MemoizationCache<>(config);
+        final CheckedFunction1<Tuple4<T1, T2, T3, T4>, R> tupled = tupled();
+        return (CheckedFunction4<T1, T2, T3, T4, R> & Memoized) (t1, t2, t3, t4) -> cache.getChecked(Tuple.of(t1, t2, t3, t4), tupled);
+    }
+
+    /**
+     * Returns an asynchronous memoizing version of this function, which computes the return value for given
+     * arguments only one time on a virtual thread. Callers asking for the same arguments while the value is being
+     * computed get a future of that same computation.
+     *
+     * @return a function returning futures of the memoized values, completed exceptionally if this function throws
+     */
+    default Function4<T1, T2, T3, T4, CompletableFuture<R>> memoizedAsync() {
+        return memoizedAsync(MemoizationConfig.UNBOUNDED);
+    }
+
+    /**
+     * Returns an asynchronous memoizing version of this function backed by a {@link MemoizationCache} with the
+     * specified settings. Values are computed on the configured executor and entries older than the configured
+     * refresh time are reloaded in the background while the current value keeps being returned.
+     *
+     * @param config the cache settings
+     * @return a function returning futures of the memoized values, completed exceptionally if this function throws
+     * @throws IllegalArgumentException if {@code config} is null
+     */
+    default Function4<T1, T2, T3, T4, CompletableFuture<R>> memoizedAsync(final MemoizationConfig config) {
+        final MemoizationCache<Tuple4<T1, T2, T3, T4>, R> cache = new MemoizationCache<>(config);
+        final CheckedFunction1<Tuple4<T1, T2, T3, T4>, R> tupled = tupled();
+        return (Function4<T1, T2, T3, T4, CompletableFuture<R>> & Memoized) (t1, t2, t3, t4) -> cache.getAsync(Tuple.of(t1, t2, t3, t4), tupled);
     }
 
     /**
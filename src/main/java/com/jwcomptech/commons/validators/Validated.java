@@ -22,8 +22,11 @@ package com.jwcomptech.commons.validators;
  * #L%
  */
 
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -35,10 +38,17 @@ import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNu
 
 /**
  * A base object to easily add validations to any class.
+ * <p>
+ * The conditions and failure message are kept in a side object that is only
+ * allocated once a validation is added or the lists are requested, so the many
+ * instances that never use validation only carry two flags and a null reference.
  * @since 1.0.0-alpha
  */
 @SuppressWarnings({"unused", "UnusedReturnValue"})
-@Data
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
 public abstract class Validated implements Serializable {
     /**
      * The result of all validations.
@@ -49,26 +59,13 @@ public abstract class Validated implements Serializable {
      */
     private boolean validated;
     /**
-     * The list of true validations
-     * -- GETTER --
-     *  Returns the list of true validations.
-     *
-     */
-    @Getter
-    private final List<Condition> trueValidations;
-    /**
-     * The list of false validations
-     * -- GETTER --
-     *  Returns the list of false validations.
-     *
+     * The conditions and failure message, null until first needed.
      */
-    @Getter
-    private final List<Condition> falseValidations;
-
-    /**
-     * The failure message of the first failed validation.
-     */
-    private String validationFailureMessage;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Validations validations;
 
     /**
      * Creates a new empty instance.
@@ -76,8 +73,6 @@ public abstract class Validated implements Serializable {
     public Validated() {
         valid = false;
         validated = false;
-        trueValidations = new ArrayList<>();
-        falseValidations = new ArrayList<>();
     }
 
     /**
@@ -99,19 +94,19 @@ public abstract class Validated implements Serializable {
         if(!validated) {
             boolean failure = false;
 
-            for (final Condition condition : trueValidations) {
+            for (final Condition condition : trueValidationsOrEmpty()) {
                 if (condition.evaluate().hasEvaluatedFalse()) {
                     failure = true;
-                    validationFailureMessage = condition.getFailureMessage();
+                    setValidationFailureMessage(condition.getFailureMessage());
                     break;
                 }
             }
 
             if (!failure) {
-                for (final Condition condition : falseValidations) {
+                for (final Condition condition : falseValidationsOrEmpty()) {
                     if (condition.evaluate().hasEvaluatedTrue()) {
                         failure = true;
-                        validationFailureMessage = condition.getFailureMessage();
+                        setValidationFailureMessage(condition.getFailureMessage());
                         break;
                     }
                 }
@@ -119,7 +114,7 @@ public abstract class Validated implements Serializable {
 
             if (!failure) {
                 valid = true;
-                validationFailureMessage = null;
+                setValidationFailureMessage(null);
             }
 
             validated = true;
@@ -146,7 +141,7 @@ public abstract class Validated implements Serializable {
      * @return the failure message of the first failed validation
      */
     public Optional<String> getFirstValFailMessage() {
-        return Optional.ofNullable(validationFailureMessage);
+        return Optional.ofNullable(getValidationFailureMessage());
     }
 
     /**
@@ -182,7 +177,7 @@ public abstract class Validated implements Serializable {
      */
     public Optional<String> reevaluateAllAndGetFailMessage() {
         reevaluateAllVals();
-        return valid ? Optional.ofNullable(validationFailureMessage) : Optional.empty();
+        return valid ? Optional.ofNullable(getValidationFailureMessage()) : Optional.empty();
     }
 
     /**
@@ -205,7 +200,7 @@ public abstract class Validated implements Serializable {
      * @return this instance
      */
     public Validated addToTrueVals(final Condition... conditions) {
-        this.trueValidations.addAll(List.of(conditions));
+        validations().trueValidations.addAll(List.of(conditions));
         return this;
     }
 
@@ -216,7 +211,7 @@ public abstract class Validated implements Serializable {
      * @return this instance
      */
     public Validated addToFalseVals(final Condition... conditions) {
-        this.falseValidations.addAll(List.of(conditions));
+        validations().falseValidations.addAll(List.of(conditions));
         return this;
     }
 
@@ -230,4 +225,75 @@ public abstract class Validated implements Serializable {
 
         return this;
     }
+
+    /**
+     * Returns the list of true validations.
+     *
+     * @return the list of true validations
+     */
+    public List<Condition> getTrueValidations() {
+        return validations().trueValidations;
+    }
+
+    /**
+     * Returns the list of false validations.
+     *
+     * @return the list of false validations
+     */
+    public List<Condition> getFalseValidations() {
+        return validations().falseValidations;
+    }
+
+    /**
+     * Returns the failure message of the first failed validation.
+     *
+     * @return the failure message of the first failed validation or null
+     */
+    @EqualsAndHashCode.Include
+    @ToString.Include(name = "validationFailureMessage")
+    public String getValidationFailureMessage() {
+        return validations == null ? null : validations.failureMessage;
+    }
+
+    /**
+     * Sets the failure message of the first failed validation.
+     *
+     * @param validationFailureMessage the message to set
+     */
+    public void setValidationFailureMessage(final String validationFailureMessage) {
+        if (validationFailureMessage != null || validations != null) {
+            validations().failureMessage = validationFailureMessage;
+        }
+    }
+
+    @EqualsAndHashCode.Include
+    @ToString.Include(name = "trueValidations")
+    private List<Condition> trueValidationsOrEmpty() {
+        return validations == null ? List.of() : validations.trueValidations;
+    }
+
+    @EqualsAndHashCode.Include
+    @ToString.Include(name = "falseValidations")
+    private List<Condition> falseValidationsOrEmpty() {
+        return validations == null ? List.of() : validations.falseValidations;
+    }
+
+    private Validations validations() {
+        if (validations == null) {
+            validations = new Validations();
+        }
+        return validations;
+    }
+
+    /**
+     * The validation state that most instances never need.
+     */
+    private static final class Validations implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -1577462372412338512L;
+
+        private final List<Condition> trueValidations = new ArrayList<>();
+        private final List<Condition> falseValidations = new ArrayList<>();
+        private String failureMessage;
+    }
 }
@@ -26,9 +26,15 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleSupplier;
 
 import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
 import static com.jwcomptech.commons.consts.Literals.cannotBeNullOrEmpty;
+import static com.jwcomptech.commons.values.ListenerArrays.withListener;
+import static com.jwcomptech.commons.values.ListenerArrays.withoutListener;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNullOrEmpty;
 
@@ -38,7 +44,8 @@ import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNu
  * @since 1.0.0-alpha
  */
 @SuppressWarnings("ClassWithTooManyMethods")
-public final class DoubleValue extends NumberValue<Double, DoubleValue> {
+public final class DoubleValue extends NumberValue<Double, DoubleValue>
+        implements DoubleSupplier {
     /**
      * Required for serialization support.
      *
@@ -47,32 +54,50 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
     @Serial
     private static final long serialVersionUID = 5626868775336965253L;
 
+    private static final DoubleValueListener[] NO_VALUE_LISTENERS = {};
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(DoubleValue.class, "value", double.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private double value;
+    private final boolean atomic;
+    private transient volatile DoubleValueListener[] valueListeners;
+
+    private DoubleValue(final double defaultValue, final boolean atomic) {
+        this.value = defaultValue;
+        this.atomic = atomic;
+    }
+
     private DoubleValue() {
-        super(0.0);
-        super.setListenersTarget(this);
+        this(0.0, false);
     }
 
     private DoubleValue(final int defaultValue) {
-        super((double) defaultValue);
-        super.setListenersTarget(this);
+        this((double) defaultValue, false);
     }
 
     private DoubleValue(final double defaultValue) {
-        super(defaultValue);
-        super.setListenersTarget(this);
+        this(defaultValue, false);
     }
 
 
     private DoubleValue(final @NotNull Number defaultValue) {
-        super(defaultValue.doubleValue());
         checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
-        super.setListenersTarget(this);
+        this.value = defaultValue.doubleValue();
+        this.atomic = false;
     }
 
     private DoubleValue(final String defaultValue) {
-        super(Double.parseDouble(defaultValue));
         checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
-        super.setListenersTarget(this);
+        this.value = Double.parseDouble(defaultValue);
+        this.atomic = false;
     }
 
     /**
@@ -126,89 +151,141 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
         return new DoubleValue(defaultValue);
     }
 
+    /**
+     * Creates a new thread safe DoubleValue instance with the default value of 0.0.
+     * <p>
+     * Every update of an atomic instance is a single compare-and-set of the underlying
+     * double, so concurrent {@code getAndAdd}, {@code incrementAndGet} and similar calls
+     * never lose an update, and reads always see the latest value. Listeners are notified
+     * once per successful update, on the updating thread, with the exact old and new values.
+     * @return a new thread safe DoubleValue instance
+     */
+    @Contract(" -> new")
+    public static @NotNull DoubleValue atomic() {
+        return new DoubleValue(0.0, true);
+    }
+
+    /**
+     * Creates a new thread safe DoubleValue instance with the specified default value.
+     * See {@link #atomic()} for the guarantees of an atomic instance.
+     * @param defaultValue the value to set
+     * @return a new thread safe DoubleValue instance
+     */
+    @Contract("_ -> new")
+    public static @NotNull DoubleValue atomic(final double defaultValue) {
+        return new DoubleValue(defaultValue, true);
+    }
+
+    /**
+     * Check if this instance is safe to update from multiple threads.
+     * @return true if this instance was created with {@code atomic}
+     */
+    public boolean isAtomic() {
+        return atomic;
+    }
+
     /**
      * Increments the value.
      * @return this instance
-     * @throws ArithmeticException if the result overflows a double
      */
     @Override
     public DoubleValue increment() {
-        final Double last = value;
-        value = value + 1.0;
-        listeners.firePropertyChange("value", last, value);
+        incrementAndGetDouble();
         return this;
     }
 
     /**
-     * Increments this instance's value by 1.0; this method returns the value associated with the instance
-     * immediately prior to the increment operation. This method is not thread safe.
+     * Increments this instance's value by 1; this method returns the value associated with the instance
+     * immediately after the increment operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance before it was incremented
-     * @throws ArithmeticException if the result overflows a double
+     * @return the value associated with the instance after it is incremented
      */
     @Override
     public Double incrementAndGet() {
-        final Double last = value;
-        value = value + 1.0;
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return incrementAndGetDouble();
     }
 
     /**
-     * Increments this instance's value by 1.0; this method returns the value associated with the instance
-     * immediately after the increment operation. This method is not thread safe.
+     * Increments this instance's value by 1; this method returns the value associated with the instance
+     * immediately prior to the increment operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance after it is incremented
-     * @throws ArithmeticException if the result overflows a double
+     * @return the value associated with the instance before it was incremented
      */
     @Override
     public Double getAndIncrement() {
-        final Double last = value;
-        value = value + 1.0;
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndIncrementDouble();
+    }
+
+    /**
+     * Primitive form of {@link #incrementAndGet()} that does not box the result.
+     *
+     * @return the value associated with the instance after it is incremented
+     */
+    public double incrementAndGetDouble() {
+        return updateAndGet(Double::sum, 1.0);
+    }
+
+    /**
+     * Primitive form of {@link #getAndIncrement()} that does not box the result.
+     *
+     * @return the value associated with the instance before it was incremented
+     */
+    public double getAndIncrementDouble() {
+        return getAndUpdate(Double::sum, 1.0);
     }
 
     /**
      * Decrements the value.
      * @return this instance
-     * @throws ArithmeticException if the result overflows a double
      */
     @Override
     public DoubleValue decrement() {
-        final Double last = value;
-        value = value - 1.0;
-        listeners.firePropertyChange("value", last, value);
+        decrementAndGetDouble();
         return this;
     }
 
     /**
-     * Decrements this instance's value by 1.0; this method returns the value associated with the instance
-     * immediately prior to the decrement operation. This method is not thread safe.
+     * Decrements this instance's value by 1; this method returns the value associated with the instance
+     * immediately after the decrement operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance before it was decremented
-     * @throws ArithmeticException if the result overflows a double
+     * @return the value associated with the instance after it is decremented
      */
     @Override
     public Double decrementAndGet() {
-        final Double last = value;
-        value = value - 1.0;
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return decrementAndGetDouble();
     }
 
     /**
-     * Decrements this instance's value by 1.0; this method returns the value associated with the instance
-     * immediately after the decrement operation. This method is not thread safe.
+     * Decrements this instance's value by 1; this method returns the value associated with the instance
+     * immediately prior to the decrement operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance after it is decremented
-     * @throws ArithmeticException if the result overflows a double
+     * @return the value associated with the instance before it was decremented
      */
     @Override
     public Double getAndDecrement() {
-        final Double last = value;
-        value = value - 1.0;
-        return last;
+        return getAndDecrementDouble();
+    }
+
+    /**
+     * Primitive form of {@link #decrementAndGet()} that does not box the result.
+     *
+     * @return the value associated with the instance after it is decremented
+     */
+    public double decrementAndGetDouble() {
+        return updateAndGet((left, right) -> left - right, 1.0);
+    }
+
+    /**
+     * Primitive form of {@link #getAndDecrement()} that does not box the result.
+     *
+     * @return the value associated with the instance before it was decremented
+     */
+    public double getAndDecrementDouble() {
+        return getAndUpdate((left, right) -> left - right, 1.0);
     }
 
     /**
@@ -216,119 +293,170 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      *
      * @param operand the value to add, not null
      * @throws IllegalArgumentException if the object is null
-     * @throws ArithmeticException if the result overflows a double
      * @return this instance
      */
     @Override
     public DoubleValue add(final @NotNull Number operand) {
-        final Double last = value;
-        value = value + operand.doubleValue();
-        listeners.firePropertyChange("value", last, value);
+        return add(operand.doubleValue());
+    }
+
+    /**
+     * Adds a value to the value of this instance.
+     *
+     * @param operand the value to add
+     * @return this instance
+     */
+    public DoubleValue add(final double operand) {
+        addAndGetDouble(operand);
         return this;
     }
 
     /**
      * Increments this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the addition operation. This method is not thread safe.
+     * immediately after the addition operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
-     * @throws ArithmeticException if the result overflows a double
      * @return the value associated with this instance after adding the operand
      */
     @Override
     public Double addAndGet(final @NotNull Number operand) {
-        final Double last = value;
-        value = value + operand.doubleValue();
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return addAndGetDouble(operand.doubleValue());
     }
 
     /**
      * Increments this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the addition operation. This method is not thread safe.
+     * immediately prior to the addition operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
-     * @throws ArithmeticException if the result overflows a double
      * @return the value associated with this instance immediately before adding the operand
      */
     @Override
     public Double getAndAdd(final @NotNull Number operand) {
-        final Double last = value;
-        value = value + operand.intValue();
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndAddDouble(operand.doubleValue());
+    }
+
+    /**
+     * Primitive form of {@link #addAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to add
+     * @return the value associated with this instance after adding the operand
+     */
+    public double addAndGetDouble(final double operand) {
+        return updateAndGet(Double::sum, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndAdd(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to add
+     * @return the value associated with this instance immediately before adding the operand
+     */
+    public double getAndAddDouble(final double operand) {
+        return getAndUpdate(Double::sum, operand);
     }
 
     /**
      * Subtracts a value from the value of this instance.
      *
-     * @param operand  the value to subtract, not null
+     * @param operand the value to subtract, not null
      * @throws IllegalArgumentException if the object is null
-     * @throws ArithmeticException if the result overflows a double
      * @return this instance
      */
     @Override
     public DoubleValue subtract(final @NotNull Number operand) {
-        final Double last = value;
-        value = value - operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        return subtract(operand.doubleValue());
+    }
+
+    /**
+     * Subtracts a value from the value of this instance.
+     *
+     * @param operand the value to subtract
+     * @return this instance
+     */
+    public DoubleValue subtract(final double operand) {
+        subtractAndGetDouble(operand);
         return this;
     }
 
     /**
      * Decrements this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the subtraction operation. This method is not thread safe.
+     * immediately after the subtraction operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
-     * @throws ArithmeticException if the result overflows a double
      * @return the value associated with this instance after subtracting the operand
      */
     @Override
     public Double subtractAndGet(final @NotNull Number operand) {
-        final Double last = value;
-        value = value - operand.intValue();
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return subtractAndGetDouble(operand.doubleValue());
     }
 
     /**
      * Decrements this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the subtraction operation. This method is not thread safe.
+     * immediately prior to the subtraction operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
-     * @throws ArithmeticException if the result overflows a double
      * @return the value associated with this instance immediately before subtracting the operand
      */
     @Override
     public Double getAndSubtract(final @NotNull Number operand) {
-        final Double last = value;
-        value = value - operand.intValue();
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndSubtractDouble(operand.doubleValue());
     }
 
     /**
-     * Multiplies a value from the value of this instance.
+     * Primitive form of {@link #subtractAndGet(Number)} that does not box the operand or the result.
      *
-     * @param operand  the value to multiply, not null
+     * @param operand the quantity to subtract
+     * @return the value associated with this instance after subtracting the operand
+     */
+    public double subtractAndGetDouble(final double operand) {
+        return updateAndGet((left, right) -> left - right, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndSubtract(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to subtract
+     * @return the value associated with this instance immediately before subtracting the operand
+     */
+    public double getAndSubtractDouble(final double operand) {
+        return getAndUpdate((left, right) -> left - right, operand);
+    }
+
+    /**
+     * Multiplies a value by the value of this instance.
+     *
+     * @param operand the value to multiply, not null
      * @throws IllegalArgumentException if the object is null
      * @return this instance
      */
     @Override
     public DoubleValue multiply(final @NotNull Number operand) {
-        final Double last = value;
-        value = value * operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        return multiply(operand.doubleValue());
+    }
+
+    /**
+     * Multiplies a value by the value of this instance.
+     *
+     * @param operand the value to multiply
+     * @return this instance
+     */
+    public DoubleValue multiply(final double operand) {
+        multiplyAndGetDouble(operand);
         return this;
     }
 
     /**
      * Multiplies this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the multiplication operation. This method is not thread safe.
+     * immediately after the multiplication operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to multiply, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -336,15 +464,13 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double multiplyAndGet(final @NotNull Number operand) {
-        final Double last = value;
-        value = value * operand.intValue();
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return multiplyAndGetDouble(operand.doubleValue());
     }
 
     /**
      * Multiplies this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the multiplication operation. This method is not thread safe.
+     * immediately prior to the multiplication operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to multiply, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -352,30 +478,56 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double getAndMultiply(final @NotNull Number operand) {
-        final Double last = value;
-        value = value * operand.intValue();
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndMultiplyDouble(operand.doubleValue());
     }
 
     /**
-     * Divides a value from the value of this instance.
+     * Primitive form of {@link #multiplyAndGet(Number)} that does not box the operand or the result.
      *
-     * @param operand  the value to divide, not null
+     * @param operand the quantity to multiply
+     * @return the value associated with this instance after multiplying the operand
+     */
+    public double multiplyAndGetDouble(final double operand) {
+        return updateAndGet((left, right) -> left * right, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndMultiply(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to multiply
+     * @return the value associated with this instance immediately before multiplying the operand
+     */
+    public double getAndMultiplyDouble(final double operand) {
+        return getAndUpdate((left, right) -> left * right, operand);
+    }
+
+    /**
+     * Divides the value of this instance by a value.
+     *
+     * @param operand the value to divide, not null
      * @throws IllegalArgumentException if the object is null
      * @return this instance
      */
     @Override
     public DoubleValue divide(final @NotNull Number operand) {
-        final Double last = value;
-        value = value / operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        return divide(operand.doubleValue());
+    }
+
+    /**
+     * Divides the value of this instance by a value.
+     *
+     * @param operand the value to divide
+     * @return this instance
+     */
+    public DoubleValue divide(final double operand) {
+        divideAndGetDouble(operand);
         return this;
     }
 
     /**
      * Divides this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the division operation. This method is not thread safe.
+     * immediately after the division operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to divide, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -383,15 +535,13 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double divideAndGet(final @NotNull Number operand) {
-        final Double last = value;
-        value = value / operand.intValue();
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return divideAndGetDouble(operand.doubleValue());
     }
 
     /**
      * Divides this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the division operation. This method is not thread safe.
+     * immediately prior to the division operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to divide, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -399,10 +549,27 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double getAndDivide(final @NotNull Number operand) {
-        final Double last = value;
-        value = value / operand.intValue();
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndDivideDouble(operand.doubleValue());
+    }
+
+    /**
+     * Primitive form of {@link #divideAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to divide
+     * @return the value associated with this instance after dividing the operand
+     */
+    public double divideAndGetDouble(final double operand) {
+        return updateAndGet((left, right) -> left / right, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndDivide(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to divide
+     * @return the value associated with this instance immediately before dividing the operand
+     */
+    public double getAndDivideDouble(final double operand) {
+        return getAndUpdate((left, right) -> left / right, operand);
     }
 
     /**
@@ -410,7 +577,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isPositive() {
-        return Integer.signum(value.intValue()) > 0;
+        return getAsDouble() > 0.0;
     }
 
     /**
@@ -418,7 +585,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isNegative() {
-        return Integer.signum(value.intValue()) < 0;
+        return getAsDouble() < 0.0;
     }
 
     /**
@@ -426,7 +593,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isZero() {
-        return value == 0.0;
+        return getAsDouble() == 0.0;
     }
 
     /**
@@ -434,7 +601,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isEqualTo(final @NotNull Number number) {
-        return value.equals(number.doubleValue());
+        return Double.compare(getAsDouble(), number.doubleValue()) == 0;
     }
 
     /**
@@ -442,7 +609,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isNotEqualTo(final @NotNull Number number) {
-        return !value.equals(number.doubleValue());
+        return Double.compare(getAsDouble(), number.doubleValue()) != 0;
     }
 
     /**
@@ -450,7 +617,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isLessThanOrEqualTo(final @NotNull Number number) {
-        return value <= number.doubleValue();
+        return getAsDouble() <= number.doubleValue();
     }
 
     /**
@@ -458,7 +625,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isGreaterThanOrEqualTo(final @NotNull Number number) {
-        return value >= number.doubleValue();
+        return getAsDouble() >= number.doubleValue();
     }
 
     /**
@@ -466,7 +633,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isLessThan(final @NotNull Number number) {
-        return value < number.doubleValue();
+        return getAsDouble() < number.doubleValue();
     }
 
     /**
@@ -474,18 +641,17 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isGreaterThan(final @NotNull Number number) {
-        return value > number.doubleValue();
+        return getAsDouble() > number.doubleValue();
     }
 
     @Override
     public int compareTo(final @NotNull DoubleValue other) {
-        //noinspection AccessingNonPublicFieldOfAnotherObject
-        return Double.compare(value, other.value);
+        return Double.compare(getAsDouble(), other.getAsDouble());
     }
 
     @Override
     public int compareTo(@NotNull final Double other) {
-        return Double.compare(value, other);
+        return Double.compare(getAsDouble(), other);
     }
 
     @Override
@@ -499,7 +665,16 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double get() {
-        return value;
+        return getAsDouble();
+    }
+
+    /**
+     * Returns the value without boxing it.
+     * @return the stored value
+     */
+    @Override
+    public double getAsDouble() {
+        return atomic ? (double) VALUE.getVolatile(this) : value;
     }
 
     /**
@@ -511,8 +686,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
     @Override
     public DoubleValue set(final Double value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        this.value = value;
-        return this;
+        return set(value.doubleValue());
     }
 
     /**
@@ -524,17 +698,171 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
     @Override
     public DoubleValue set(final Number value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        this.value = value.doubleValue();
+        return set(value.doubleValue());
+    }
+
+    /**
+     * Sets the value without boxing it.
+     * @param value the value to store
+     * @return this instance
+     */
+    public DoubleValue set(final double value) {
+        final double last;
+        if (atomic) {
+            last = (double) VALUE.getAndSet(this, value);
+        } else {
+            last = this.value;
+            this.value = value;
+        }
+        changed(last, value);
         return this;
     }
 
+    /**
+     * Adds a listener that receives the old and new values as primitives
+     * whenever the value changes. Unlike a {@link java.beans.PropertyChangeListener}
+     * no event object is created and neither value is boxed.
+     *
+     * @param listener the listener to add, not null
+     * @return this instance
+     * @throws IllegalArgumentException if {@code listener} is null
+     */
+    public synchronized DoubleValue addValueListener(final DoubleValueListener listener) {
+        checkArgumentNotNull(listener, cannotBeNull("listener"));
+        valueListeners = withListener(valueListeners, listener, NO_VALUE_LISTENERS);
+        return this;
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addValueListener(DoubleValueListener)}.
+     * If {@code listener} was never added, no action is taken.
+     *
+     * @param listener the listener to remove
+     * @return this instance
+     */
+    public synchronized DoubleValue removeValueListener(final DoubleValueListener listener) {
+        valueListeners = withoutListener(valueListeners, listener);
+        return this;
+    }
+
+    @Override
+    protected boolean hasValueListeners() {
+        return valueListeners != null;
+    }
+
+    /**
+     * Applies {@code function} to the current value and {@code operand}, using a
+     * compare-and-set loop if this instance is atomic, and notifies the listeners.
+     * @return the updated value
+     */
+    private double updateAndGet(final DoubleBinaryOperator function, final double operand) {
+        double last;
+        double next;
+        if (atomic) {
+            do {
+                last = (double) VALUE.getVolatile(this);
+                next = function.applyAsDouble(last, operand);
+            } while (!VALUE.compareAndSet(this, last, next));
+        } else {
+            last = value;
+            next = function.applyAsDouble(last, operand);
+            value = next;
+        }
+        changed(last, next);
+        return next;
+    }
+
+    /**
+     * Applies {@code function} to the current value and {@code operand}, using a
+     * compare-and-set loop if this instance is atomic, and notifies the listeners.
+     * @return the previous value
+     */
+    private double getAndUpdate(final DoubleBinaryOperator function, final double operand) {
+        double last;
+        double next;
+        if (atomic) {
+            do {
+                last = (double) VALUE.getVolatile(this);
+                next = function.applyAsDouble(last, operand);
+            } while (!VALUE.compareAndSet(this, last, next));
+        } else {
+            last = value;
+            next = function.applyAsDouble(last, operand);
+            value = next;
+        }
+        changed(last, next);
+        return last;
+    }
+
+    @Override
+    protected void updateEnded(final Double oldValue) {
+        changed(oldValue, getAsDouble());
+    }
+
+    /**
+     * Notifies the listeners of a change from {@code last} to {@code next}.
+     * The property change listeners are only invoked, and the values only boxed,
+     * if any have been registered.
+     */
+    private void changed(final double last, final double next) {
+        if (Double.compare(last, next) == 0 || isUpdating()) {
+            return;
+        }
+        if (hasPropertyChangeListeners()) {
+            listeners.firePropertyChange("value", last, next);
+        }
+        final DoubleValueListener[] current = valueListeners;
+        if (current != null) {
+            for (final DoubleValueListener listener : current) {
+                listener.valueChanged(last, next);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+        return (int) getAsDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+        return (long) getAsDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+        return (float) getAsDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return getAsDouble();
+    }
+
     @Override
     public boolean equals(final Object obj) {
-        return obj instanceof DoubleValue && value.equals(((DoubleValue) obj).doubleValue());
+        return obj instanceof DoubleValue && Double.compare(getAsDouble(), ((DoubleValue) obj).getAsDouble()) == 0;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Double.hashCode(getAsDouble());
+    }
+
+    @Override
+    public String toString() {
+        return Double.toString(getAsDouble());
     }
 }
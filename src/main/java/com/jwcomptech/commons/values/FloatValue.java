@@ -29,6 +29,8 @@ import java.io.Serial;
 
 import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
 import static com.jwcomptech.commons.consts.Literals.cannotBeNullOrEmpty;
+import static com.jwcomptech.commons.values.ListenerArrays.withListener;
+import static com.jwcomptech.commons.values.ListenerArrays.withoutListener;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNullOrEmpty;
 
@@ -47,31 +49,31 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     @Serial
     private static final long serialVersionUID = -6475675786857950255L;
 
+    private static final FloatValueListener[] NO_VALUE_LISTENERS = {};
+
+    private float value;
+    private transient FloatValueListener[] valueListeners;
+
     private FloatValue() {
-        super(0.0F);
-        super.setListenersTarget(this);
+        this.value = 0.0F;
     }
 
     private FloatValue(final int defaultValue) {
-        super((float) defaultValue);
-        super.setListenersTarget(this);
+        this.value = (float) defaultValue;
     }
 
     private FloatValue(final float defaultValue) {
-        super(defaultValue);
-        super.setListenersTarget(this);
+        this.value = defaultValue;
     }
 
     private FloatValue(final @NotNull Number defaultValue) {
-        super(defaultValue.floatValue());
         checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
-        super.setListenersTarget(this);
+        this.value = defaultValue.floatValue();
     }
 
     private FloatValue(final String defaultValue) {
-        super(Float.parseFloat(defaultValue));
         checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
-        super.setListenersTarget(this);
+        this.value = Float.parseFloat(defaultValue);
     }
 
     /**
@@ -128,85 +130,112 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     /**
      * Increments the value.
      * @return this instance
-     * @throws ArithmeticException if the result overflows a float
      */
     @Override
     public FloatValue increment() {
-        final Float last = value;
-        value = value + 1.0F;
-        listeners.firePropertyChange("value", last, value);
+        incrementAndGetFloat();
         return this;
     }
 
     /**
-     * Increments this instance's value by 1.0; this method returns the value associated with the instance
-     * immediately prior to the increment operation. This method is not thread safe.
+     * Increments this instance's value by 1; this method returns the value associated with the instance
+     * immediately after the increment operation. This method is not thread safe.
      *
-     * @return the value associated with the instance before it was incremented
-     * @throws ArithmeticException if the result overflows a float
+     * @return the value associated with the instance after it is incremented
      */
     @Override
     public Float incrementAndGet() {
-        final Float last = value;
-        value = value + 1.0F;
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return incrementAndGetFloat();
     }
 
     /**
-     * Increments this instance's value by 1.0; this method returns the value associated with the instance
-     * immediately after the increment operation. This method is not thread safe.
+     * Increments this instance's value by 1; this method returns the value associated with the instance
+     * immediately prior to the increment operation. This method is not thread safe.
      *
-     * @return the value associated with the instance after it is incremented
-     * @throws ArithmeticException if the result overflows a float
+     * @return the value associated with the instance before it was incremented
      */
     @Override
     public Float getAndIncrement() {
-        final Float last = value;
-        value = value + 1.0F;
-        listeners.firePropertyChange("value", last, value);
+        return getAndIncrementFloat();
+    }
+
+    /**
+     * Primitive form of {@link #incrementAndGet()} that does not box the result.
+     *
+     * @return the value associated with the instance after it is incremented
+     */
+    public float incrementAndGetFloat() {
+        final float last = value;
+        value = last + 1.0F;
+        changed(last);
+        return value;
+    }
+
+    /**
+     * Primitive form of {@link #getAndIncrement()} that does not box the result.
+     *
+     * @return the value associated with the instance before it was incremented
+     */
+    public float getAndIncrementFloat() {
+        final float last = value;
+        value = last + 1.0F;
+        changed(last);
         return last;
     }
 
     /**
      * Decrements the value.
      * @return this instance
-     * @throws ArithmeticException if the result overflows a float
      */
     @Override
     public FloatValue decrement() {
-        final Float last = value;
-        value = value - 1.0F;
-        listeners.firePropertyChange("value", last, value);
+        decrementAndGetFloat();
         return this;
     }
 
     /**
-     * Decrements this instance's value by 1.0; this method returns the value associated with the instance
-     * immediately prior to the decrement operation. This method is not thread safe.
+     * Decrements this instance's value by 1; this method returns the value associated with the instance
+     * immediately after the decrement operation. This method is not thread safe.
      *
-     * @return the value associated with the instance before it was decremented
-     * @throws ArithmeticException if the result overflows a float
+     * @return the value associated with the instance after it is decremented
      */
     @Override
     public Float decrementAndGet() {
-        final Float last = value;
-        value = value - 1.0F;
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return decrementAndGetFloat();
     }
 
     /**
-     * Decrements this instance's value by 1.0; this method returns the value associated with the instance
-     * immediately after the decrement operation. This method is not thread safe.
+     * Decrements this instance's value by 1; this method returns the value associated with the instance
+     * immediately prior to the decrement operation. This method is not thread safe.
      *
-     * @return the value associated with the instance after it is decremented
-     * @throws ArithmeticException if the result overflows a float
+     * @return the value associated with the instance before it was decremented
      */
     @Override
     public Float getAndDecrement() {
-        final Float last = value;
-        value = value - 1.0F;
+        return getAndDecrementFloat();
+    }
+
+    /**
+     * Primitive form of {@link #decrementAndGet()} that does not box the result.
+     *
+     * @return the value associated with the instance after it is decremented
+     */
+    public float decrementAndGetFloat() {
+        final float last = value;
+        value = last - 1.0F;
+        changed(last);
+        return value;
+    }
+
+    /**
+     * Primitive form of {@link #getAndDecrement()} that does not box the result.
+     *
+     * @return the value associated with the instance before it was decremented
+     */
+    public float getAndDecrementFloat() {
+        final float last = value;
+        value = last - 1.0F;
+        changed(last);
         return last;
     }
 
@@ -215,15 +244,21 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      *
      * @param operand the value to add, not null
      * @throws IllegalArgumentException if the object is null
-     * @throws ArithmeticException if the result overflows a float
      * @return this instance
      */
-    @Contract("_ -> this")
     @Override
     public FloatValue add(final @NotNull Number operand) {
-        final Float last = value;
-        value = value + operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        return add(operand.floatValue());
+    }
+
+    /**
+     * Adds a value to the value of this instance.
+     *
+     * @param operand the value to add
+     * @return this instance
+     */
+    public FloatValue add(final float operand) {
+        addAndGetFloat(operand);
         return this;
     }
 
@@ -233,15 +268,11 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
-     * @throws ArithmeticException if the result overflows a float
      * @return the value associated with this instance after adding the operand
      */
     @Override
     public Float addAndGet(final @NotNull Number operand) {
-        final Float last = value;
-        value = value + operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return addAndGetFloat(operand.floatValue());
     }
 
     /**
@@ -250,31 +281,59 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
-     * @throws ArithmeticException if the result overflows a float
      * @return the value associated with this instance immediately before adding the operand
      */
     @Override
     public Float getAndAdd(final @NotNull Number operand) {
-        final Float last = value;
-        value = value + operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        return getAndAddFloat(operand.floatValue());
+    }
+
+    /**
+     * Primitive form of {@link #addAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to add
+     * @return the value associated with this instance after adding the operand
+     */
+    public float addAndGetFloat(final float operand) {
+        final float last = value;
+        value = last + operand;
+        changed(last);
+        return value;
+    }
+
+    /**
+     * Primitive form of {@link #getAndAdd(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to add
+     * @return the value associated with this instance immediately before adding the operand
+     */
+    public float getAndAddFloat(final float operand) {
+        final float last = value;
+        value = last + operand;
+        changed(last);
         return last;
     }
 
     /**
      * Subtracts a value from the value of this instance.
      *
-     * @param operand  the value to subtract, not null
+     * @param operand the value to subtract, not null
      * @throws IllegalArgumentException if the object is null
-     * @throws ArithmeticException if the result overflows a float
      * @return this instance
      */
-    @Contract("_ -> this")
     @Override
     public FloatValue subtract(final @NotNull Number operand) {
-        final Float last = value;
-        value = value - operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        return subtract(operand.floatValue());
+    }
+
+    /**
+     * Subtracts a value from the value of this instance.
+     *
+     * @param operand the value to subtract
+     * @return this instance
+     */
+    public FloatValue subtract(final float operand) {
+        subtractAndGetFloat(operand);
         return this;
     }
 
@@ -284,15 +343,11 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
-     * @throws ArithmeticException if the result overflows a float
      * @return the value associated with this instance after subtracting the operand
      */
     @Override
     public Float subtractAndGet(final @NotNull Number operand) {
-        final Float last = value;
-        value = value - operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return subtractAndGetFloat(operand.floatValue());
     }
 
     /**
@@ -301,30 +356,59 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
-     * @throws ArithmeticException if the result overflows a float
      * @return the value associated with this instance immediately before subtracting the operand
      */
     @Override
     public Float getAndSubtract(final @NotNull Number operand) {
-        final Float last = value;
-        value = value - operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        return getAndSubtractFloat(operand.floatValue());
+    }
+
+    /**
+     * Primitive form of {@link #subtractAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to subtract
+     * @return the value associated with this instance after subtracting the operand
+     */
+    public float subtractAndGetFloat(final float operand) {
+        final float last = value;
+        value = last - operand;
+        changed(last);
+        return value;
+    }
+
+    /**
+     * Primitive form of {@link #getAndSubtract(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to subtract
+     * @return the value associated with this instance immediately before subtracting the operand
+     */
+    public float getAndSubtractFloat(final float operand) {
+        final float last = value;
+        value = last - operand;
+        changed(last);
         return last;
     }
 
     /**
-     * Multiplies a value from the value of this instance.
+     * Multiplies a value by the value of this instance.
      *
-     * @param operand  the value to multiply, not null
+     * @param operand the value to multiply, not null
      * @throws IllegalArgumentException if the object is null
      * @return this instance
      */
-    @Contract("_ -> this")
     @Override
     public FloatValue multiply(final @NotNull Number operand) {
-        final Float last = value;
-        value = value * operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        return multiply(operand.floatValue());
+    }
+
+    /**
+     * Multiplies a value by the value of this instance.
+     *
+     * @param operand the value to multiply
+     * @return this instance
+     */
+    public FloatValue multiply(final float operand) {
+        multiplyAndGetFloat(operand);
         return this;
     }
 
@@ -338,10 +422,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float multiplyAndGet(final @NotNull Number operand) {
-        final Float last = value;
-        value = value * operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return multiplyAndGetFloat(operand.floatValue());
     }
 
     /**
@@ -354,25 +435,55 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float getAndMultiply(final @NotNull Number operand) {
-        final Float last = value;
-        value = value * operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        return getAndMultiplyFloat(operand.floatValue());
+    }
+
+    /**
+     * Primitive form of {@link #multiplyAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to multiply
+     * @return the value associated with this instance after multiplying the operand
+     */
+    public float multiplyAndGetFloat(final float operand) {
+        final float last = value;
+        value = last * operand;
+        changed(last);
+        return value;
+    }
+
+    /**
+     * Primitive form of {@link #getAndMultiply(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to multiply
+     * @return the value associated with this instance immediately before multiplying the operand
+     */
+    public float getAndMultiplyFloat(final float operand) {
+        final float last = value;
+        value = last * operand;
+        changed(last);
         return last;
     }
 
     /**
-     * Divides a value from the value of this instance.
+     * Divides the value of this instance by a value.
      *
-     * @param operand  the value to divide, not null
+     * @param operand the value to divide, not null
      * @throws IllegalArgumentException if the object is null
      * @return this instance
      */
-    @Contract("_ -> this")
     @Override
     public FloatValue divide(final @NotNull Number operand) {
-        final Float last = value;
-        value = value / operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        return divide(operand.floatValue());
+    }
+
+    /**
+     * Divides the value of this instance by a value.
+     *
+     * @param operand the value to divide
+     * @return this instance
+     */
+    public FloatValue divide(final float operand) {
+        divideAndGetFloat(operand);
         return this;
     }
 
@@ -386,10 +497,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float divideAndGet(final @NotNull Number operand) {
-        final Float last = value;
-        value = value / operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return divideAndGetFloat(operand.floatValue());
     }
 
     /**
@@ -402,9 +510,32 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float getAndDivide(final @NotNull Number operand) {
-        final Float last = value;
-        value = value / operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        return getAndDivideFloat(operand.floatValue());
+    }
+
+    /**
+     * Primitive form of {@link #divideAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to divide
+     * @return the value associated with this instance after dividing the operand
+     */
+    public float divideAndGetFloat(final float operand) {
+        final float last = value;
+        value = last / operand;
+        changed(last);
+        return value;
+    }
+
+    /**
+     * Primitive form of {@link #getAndDivide(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to divide
+     * @return the value associated with this instance immediately before dividing the operand
+     */
+    public float getAndDivideFloat(final float operand) {
+        final float last = value;
+        value = last / operand;
+        changed(last);
         return last;
     }
 
@@ -413,7 +544,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public boolean isPositive() {
-        return Integer.signum(value.intValue()) > 0;
+        return value > 0.0F;
     }
 
     /**
@@ -421,7 +552,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public boolean isNegative() {
-        return Integer.signum(value.intValue()) < 0;
+        return value < 0.0F;
     }
 
     /**
@@ -437,7 +568,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public boolean isEqualTo(final @NotNull Number number) {
-        return value.equals(number.floatValue());
+        return Float.compare(value, number.floatValue()) == 0;
     }
 
     /**
@@ -445,7 +576,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public boolean isNotEqualTo(final @NotNull Number number) {
-        return !value.equals(number.floatValue());
+        return Float.compare(value, number.floatValue()) != 0;
     }
 
     /**
@@ -505,6 +636,14 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
         return value;
     }
 
+    /**
+     * Returns the value without boxing it.
+     * @return the stored value
+     */
+    public float getAsFloat() {
+        return value;
+    }
+
     /**
      * Sets the value.
      * @param value the value to store
@@ -514,8 +653,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     @Override
     public FloatValue set(final Float value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        this.value = value;
-        return this;
+        return set(value.floatValue());
     }
 
     /**
@@ -527,17 +665,123 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     @Override
     public FloatValue set(final Number value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        this.value = value.floatValue();
+        return set(value.floatValue());
+    }
+
+    /**
+     * Sets the value without boxing it.
+     * @param value the value to store
+     * @return this instance
+     */
+    public FloatValue set(final float value) {
+        final float last = this.value;
+        this.value = value;
+        changed(last);
+        return this;
+    }
+
+    /**
+     * Adds a listener that receives the old and new values as primitives
+     * whenever the value changes. Unlike a {@link java.beans.PropertyChangeListener}
+     * no event object is created and neither value is boxed.
+     *
+     * @param listener the listener to add, not null
+     * @return this instance
+     * @throws IllegalArgumentException if {@code listener} is null
+     */
+    public synchronized FloatValue addValueListener(final FloatValueListener listener) {
+        checkArgumentNotNull(listener, cannotBeNull("listener"));
+        valueListeners = withListener(valueListeners, listener, NO_VALUE_LISTENERS);
         return this;
     }
 
+    /**
+     * Removes a listener previously added with {@link #addValueListener(FloatValueListener)}.
+     * If {@code listener} was never added, no action is taken.
+     *
+     * @param listener the listener to remove
+     * @return this instance
+     */
+    public synchronized FloatValue removeValueListener(final FloatValueListener listener) {
+        valueListeners = withoutListener(valueListeners, listener);
+        return this;
+    }
+
+    @Override
+    protected boolean hasValueListeners() {
+        return valueListeners != null;
+    }
+
+    @Override
+    protected void updateEnded(final Float oldValue) {
+        changed(oldValue);
+    }
+
+    /**
+     * Notifies the listeners of a change from {@code last} to the current value.
+     * The property change listeners are only invoked, and the values only boxed,
+     * if any have been registered.
+     */
+    private void changed(final float last) {
+        final float next = value;
+        if (Float.compare(last, next) == 0 || isUpdating()) {
+            return;
+        }
+        if (hasPropertyChangeListeners()) {
+            listeners.firePropertyChange("value", last, next);
+        }
+        final FloatValueListener[] current = valueListeners;
+        if (current != null) {
+            for (final FloatValueListener listener : current) {
+                listener.valueChanged(last, next);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+        return (long) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
     @Override
     public boolean equals(final Object obj) {
-        return obj instanceof FloatValue && value.equals(((FloatValue) obj).floatValue());
+        return obj instanceof FloatValue && Float.compare(value, ((FloatValue) obj).value) == 0;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Float.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return Float.toString(value);
     }
 }
@@ -26,9 +26,15 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntSupplier;
 
 import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
 import static com.jwcomptech.commons.consts.Literals.cannotBeNullOrEmpty;
+import static com.jwcomptech.commons.values.ListenerArrays.withListener;
+import static com.jwcomptech.commons.values.ListenerArrays.withoutListener;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNullOrEmpty;
 
@@ -38,7 +44,8 @@ import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNu
  * @since 1.0.0-alpha
  */
 @SuppressWarnings("ClassWithTooManyMethods")
-public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
+public final class IntegerValue extends NumberValue<Integer, IntegerValue>
+        implements IntSupplier {
     /**
      * Required for serialization support.
      *
@@ -47,27 +54,46 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
     @Serial
     private static final long serialVersionUID = -4508054126789004835L;
 
+    private static final IntegerValueListener[] NO_VALUE_LISTENERS = {};
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(IntegerValue.class, "value", int.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private int value;
+    private final boolean atomic;
+    private transient volatile IntegerValueListener[] valueListeners;
+
+    private IntegerValue(final int defaultValue, final boolean atomic) {
+        this.value = defaultValue;
+        this.atomic = atomic;
+    }
+
     private IntegerValue() {
-        super(0);
-        super.setListenersTarget(this);
+        this(0, false);
     }
 
     private IntegerValue(final int defaultValue) {
-        super(defaultValue);
-        super.setListenersTarget(this);
+        this(defaultValue, false);
     }
 
 
     private IntegerValue(final @NotNull Number defaultValue) {
-        super(defaultValue.intValue());
         checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
-        super.setListenersTarget(this);
+        this.value = defaultValue.intValue();
+        this.atomic = false;
     }
 
     private IntegerValue(final String defaultValue) {
-        super(Integer.parseInt(defaultValue));
         checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
-        super.setListenersTarget(this);
+        this.value = Integer.parseInt(defaultValue);
+        this.atomic = false;
     }
 
     /** Creates a new IntegerValue instance with the default value of 0. */
@@ -105,6 +131,39 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
         return new IntegerValue(defaultValue);
     }
 
+    /**
+     * Creates a new thread safe IntegerValue instance with the default value of 0.
+     * <p>
+     * Every update of an atomic instance is a single compare-and-set of the underlying
+     * int, so concurrent {@code getAndAdd}, {@code incrementAndGet} and similar calls
+     * never lose an update, and reads always see the latest value. Listeners are notified
+     * once per successful update, on the updating thread, with the exact old and new values.
+     * @return a new thread safe IntegerValue instance
+     */
+    @Contract(" -> new")
+    public static @NotNull IntegerValue atomic() {
+        return new IntegerValue(0, true);
+    }
+
+    /**
+     * Creates a new thread safe IntegerValue instance with the specified default value.
+     * See {@link #atomic()} for the guarantees of an atomic instance.
+     * @param defaultValue the value to set
+     * @return a new thread safe IntegerValue instance
+     */
+    @Contract("_ -> new")
+    public static @NotNull IntegerValue atomic(final int defaultValue) {
+        return new IntegerValue(defaultValue, true);
+    }
+
+    /**
+     * Check if this instance is safe to update from multiple threads.
+     * @return true if this instance was created with {@code atomic}
+     */
+    public boolean isAtomic() {
+        return atomic;
+    }
+
     /**
      * Increments the value.
      * @return this instance
@@ -112,40 +171,54 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public IntegerValue increment() {
-        final Integer last = value;
-        value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        incrementAndGetInt();
         return this;
     }
 
     /**
      * Increments this instance's value by 1; this method returns the value associated with the instance
-     * immediately prior to the increment operation. This method is not thread safe.
+     * immediately after the increment operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance before it was incremented
+     * @return the value associated with the instance after it is incremented
      * @throws ArithmeticException if the result overflows an int
      */
     @Override
     public Integer incrementAndGet() {
-        final Integer last = value;
-        value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return incrementAndGetInt();
     }
 
     /**
      * Increments this instance's value by 1; this method returns the value associated with the instance
-     * immediately after the increment operation. This method is not thread safe.
+     * immediately prior to the increment operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance after it is incremented
+     * @return the value associated with the instance before it was incremented
      * @throws ArithmeticException if the result overflows an int
      */
     @Override
     public Integer getAndIncrement() {
-        final Integer last = value;
-        value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndIncrementInt();
+    }
+
+    /**
+     * Primitive form of {@link #incrementAndGet()} that does not box the result.
+     *
+     * @return the value associated with the instance after it is incremented
+     * @throws ArithmeticException if the result overflows an int
+     */
+    public int incrementAndGetInt() {
+        return updateAndGet(Math::addExact, 1);
+    }
+
+    /**
+     * Primitive form of {@link #getAndIncrement()} that does not box the result.
+     *
+     * @return the value associated with the instance before it was incremented
+     * @throws ArithmeticException if the result overflows an int
+     */
+    public int getAndIncrementInt() {
+        return getAndUpdate(Math::addExact, 1);
     }
 
     /**
@@ -155,39 +228,54 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public IntegerValue decrement() {
-        final Integer last = value;
-        value = Math.decrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        decrementAndGetInt();
         return this;
     }
 
     /**
      * Decrements this instance's value by 1; this method returns the value associated with the instance
-     * immediately prior to the decrement operation. This method is not thread safe.
+     * immediately after the decrement operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance before it was decremented
+     * @return the value associated with the instance after it is decremented
      * @throws ArithmeticException if the result overflows an int
      */
     @Override
     public Integer decrementAndGet() {
-        final Integer last = value;
-        value = Math.decrementExact(value);
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return decrementAndGetInt();
     }
 
     /**
      * Decrements this instance's value by 1; this method returns the value associated with the instance
-     * immediately after the decrement operation. This method is not thread safe.
+     * immediately prior to the decrement operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance after it is decremented
+     * @return the value associated with the instance before it was decremented
      * @throws ArithmeticException if the result overflows an int
      */
     @Override
     public Integer getAndDecrement() {
-        final Integer last = value;
-        value = Math.decrementExact(value);
-        return last;
+        return getAndDecrementInt();
+    }
+
+    /**
+     * Primitive form of {@link #decrementAndGet()} that does not box the result.
+     *
+     * @return the value associated with the instance after it is decremented
+     * @throws ArithmeticException if the result overflows an int
+     */
+    public int decrementAndGetInt() {
+        return updateAndGet(Math::subtractExact, 1);
+    }
+
+    /**
+     * Primitive form of {@link #getAndDecrement()} that does not box the result.
+     *
+     * @return the value associated with the instance before it was decremented
+     * @throws ArithmeticException if the result overflows an int
+     */
+    public int getAndDecrementInt() {
+        return getAndUpdate(Math::subtractExact, 1);
     }
 
     /**
@@ -200,15 +288,25 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public IntegerValue add(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.addExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        return add(operand.intValue());
+    }
+
+    /**
+     * Adds a value to the value of this instance.
+     *
+     * @param operand the value to add
+     * @throws ArithmeticException if the result overflows an int
+     * @return this instance
+     */
+    public IntegerValue add(final int operand) {
+        addAndGetInt(operand);
         return this;
     }
 
     /**
      * Increments this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the addition operation. This method is not thread safe.
+     * immediately after the addition operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -217,15 +315,13 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer addAndGet(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.addExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return addAndGetInt(operand.intValue());
     }
 
     /**
      * Increments this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the addition operation. This method is not thread safe.
+     * immediately prior to the addition operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -234,31 +330,60 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer getAndAdd(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.addExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndAddInt(operand.intValue());
+    }
+
+    /**
+     * Primitive form of {@link #addAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to add
+     * @throws ArithmeticException if the result overflows an int
+     * @return the value associated with this instance after adding the operand
+     */
+    public int addAndGetInt(final int operand) {
+        return updateAndGet(Math::addExact, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndAdd(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to add
+     * @throws ArithmeticException if the result overflows an int
+     * @return the value associated with this instance immediately before adding the operand
+     */
+    public int getAndAddInt(final int operand) {
+        return getAndUpdate(Math::addExact, operand);
     }
 
     /**
      * Subtracts a value from the value of this instance.
      *
-     * @param operand  the value to subtract, not null
+     * @param operand the value to subtract, not null
      * @throws IllegalArgumentException if the object is null
      * @throws ArithmeticException if the result overflows an int
      * @return this instance
      */
     @Override
     public IntegerValue subtract(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.subtractExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        return subtract(operand.intValue());
+    }
+
+    /**
+     * Subtracts a value from the value of this instance.
+     *
+     * @param operand the value to subtract
+     * @throws ArithmeticException if the result overflows an int
+     * @return this instance
+     */
+    public IntegerValue subtract(final int operand) {
+        subtractAndGetInt(operand);
         return this;
     }
 
     /**
      * Decrements this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the subtraction operation. This method is not thread safe.
+     * immediately after the subtraction operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -267,15 +392,13 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer subtractAndGet(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.subtractExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return subtractAndGetInt(operand.intValue());
     }
 
     /**
      * Decrements this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the subtraction operation. This method is not thread safe.
+     * immediately prior to the subtraction operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -284,31 +407,60 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer getAndSubtract(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.subtractExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndSubtractInt(operand.intValue());
+    }
+
+    /**
+     * Primitive form of {@link #subtractAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to subtract
+     * @throws ArithmeticException if the result overflows an int
+     * @return the value associated with this instance after subtracting the operand
+     */
+    public int subtractAndGetInt(final int operand) {
+        return updateAndGet(Math::subtractExact, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndSubtract(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to subtract
+     * @throws ArithmeticException if the result overflows an int
+     * @return the value associated with this instance immediately before subtracting the operand
+     */
+    public int getAndSubtractInt(final int operand) {
+        return getAndUpdate(Math::subtractExact, operand);
     }
 
     /**
-     * Multiples a value by the value of this instance.
+     * Multiplies a value by the value of this instance.
      *
-     * @param operand  the value to multiply, not null
+     * @param operand the value to multiply, not null
      * @throws IllegalArgumentException if the object is null
      * @throws ArithmeticException if the result overflows an int
      * @return this instance
      */
     @Override
     public IntegerValue multiply(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.multiplyExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        return multiply(operand.intValue());
+    }
+
+    /**
+     * Multiplies a value by the value of this instance.
+     *
+     * @param operand the value to multiply
+     * @throws ArithmeticException if the result overflows an int
+     * @return this instance
+     */
+    public IntegerValue multiply(final int operand) {
+        multiplyAndGetInt(operand);
         return this;
     }
 
     /**
      * Multiplies this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the multiplication operation. This method is not thread safe.
+     * immediately after the multiplication operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to multiply, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -317,15 +469,13 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer multiplyAndGet(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.multiplyExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return multiplyAndGetInt(operand.intValue());
     }
 
     /**
      * Multiplies this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the multiplication operation. This method is not thread safe.
+     * immediately prior to the multiplication operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to multiply, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -334,57 +484,106 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer getAndMultiply(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.multiplyExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndMultiplyInt(operand.intValue());
     }
 
     /**
-     * Divides a value from the value of this instance.
+     * Primitive form of {@link #multiplyAndGet(Number)} that does not box the operand or the result.
      *
-     * @param operand  the value to divide, not null
+     * @param operand the quantity to multiply
+     * @throws ArithmeticException if the result overflows an int
+     * @return the value associated with this instance after multiplying the operand
+     */
+    public int multiplyAndGetInt(final int operand) {
+        return updateAndGet(Math::multiplyExact, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndMultiply(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to multiply
+     * @throws ArithmeticException if the result overflows an int
+     * @return the value associated with this instance immediately before multiplying the operand
+     */
+    public int getAndMultiplyInt(final int operand) {
+        return getAndUpdate(Math::multiplyExact, operand);
+    }
+
+    /**
+     * Divides the value of this instance by a value.
+     *
+     * @param operand the value to divide, not null
      * @throws IllegalArgumentException if the object is null
+     * @throws ArithmeticException if {@code operand} is zero
      * @return this instance
      */
     @Override
     public IntegerValue divide(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.divideExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        return divide(operand.intValue());
+    }
+
+    /**
+     * Divides the value of this instance by a value.
+     *
+     * @param operand the value to divide
+     * @throws ArithmeticException if {@code operand} is zero
+     * @return this instance
+     */
+    public IntegerValue divide(final int operand) {
+        divideAndGetInt(operand);
         return this;
     }
 
     /**
      * Divides this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the division operation. This method is not thread safe.
+     * immediately after the division operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to divide, not null
      * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if {@code operand} is zero
      * @return the value associated with this instance after dividing the operand
      */
     @Override
     public Integer divideAndGet(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.divideExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return divideAndGetInt(operand.intValue());
     }
 
     /**
      * Divides this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the division operation. This method is not thread safe.
+     * immediately prior to the division operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to divide, not null
      * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if {@code operand} is zero
      * @return the value associated with this instance immediately before dividing the operand
      */
     @Override
     public Integer getAndDivide(final @NotNull Number operand) {
-        final Integer last = value;
-        value = Math.divideExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndDivideInt(operand.intValue());
+    }
+
+    /**
+     * Primitive form of {@link #divideAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to divide
+     * @throws ArithmeticException if {@code operand} is zero
+     * @return the value associated with this instance after dividing the operand
+     */
+    public int divideAndGetInt(final int operand) {
+        return updateAndGet(Math::divideExact, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndDivide(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to divide
+     * @throws ArithmeticException if {@code operand} is zero
+     * @return the value associated with this instance immediately before dividing the operand
+     */
+    public int getAndDivideInt(final int operand) {
+        return getAndUpdate(Math::divideExact, operand);
     }
 
     /**
@@ -392,7 +591,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public boolean isPositive() {
-        return Integer.signum(value) > 0;
+        return Integer.signum(getAsInt()) > 0;
     }
 
     /**
@@ -400,7 +599,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public boolean isNegative() {
-        return Integer.signum(value) < 0;
+        return Integer.signum(getAsInt()) < 0;
     }
 
     /**
@@ -408,7 +607,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public boolean isZero() {
-        return Integer.signum(value) == 0;
+        return Integer.signum(getAsInt()) == 0;
     }
 
     /**
@@ -416,7 +615,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public boolean isEqualTo(final @NotNull Number number) {
-        return value == number.intValue();
+        return getAsInt() == number.intValue();
     }
 
     /**
@@ -424,7 +623,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public boolean isNotEqualTo(final @NotNull Number number) {
-        return value != number.intValue();
+        return getAsInt() != number.intValue();
     }
 
     /**
@@ -432,7 +631,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public boolean isLessThanOrEqualTo(final @NotNull Number number) {
-        return value <= number.intValue();
+        return getAsInt() <= number.intValue();
     }
 
     /**
@@ -440,7 +639,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public boolean isGreaterThanOrEqualTo(final @NotNull Number number) {
-        return value >= number.intValue();
+        return getAsInt() >= number.intValue();
     }
 
     /**
@@ -448,7 +647,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public boolean isLessThan(final @NotNull Number number) {
-        return value < number.intValue();
+        return getAsInt() < number.intValue();
     }
 
     /**
@@ -456,18 +655,17 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public boolean isGreaterThan(final @NotNull Number number) {
-        return value > number.intValue();
+        return getAsInt() > number.intValue();
     }
 
     @Override
     public int compareTo(final @NotNull IntegerValue other) {
-        //noinspection AccessingNonPublicFieldOfAnotherObject
-        return Integer.compare(value, other.value);
+        return Integer.compare(getAsInt(), other.getAsInt());
     }
 
     @Override
     public int compareTo(@NotNull final Integer other) {
-        return Integer.compare(value, other);
+        return Integer.compare(getAsInt(), other);
     }
 
     @Override
@@ -481,7 +679,16 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer get() {
-        return value;
+        return getAsInt();
+    }
+
+    /**
+     * Returns the value without boxing it.
+     * @return the stored value
+     */
+    @Override
+    public int getAsInt() {
+        return atomic ? (int) VALUE.getVolatile(this) : value;
     }
 
     /**
@@ -493,8 +700,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
     @Override
     public IntegerValue set(final Integer value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        this.value = value;
-        return this;
+        return set(value.intValue());
     }
 
     /**
@@ -506,17 +712,171 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
     @Override
     public IntegerValue set(final Number value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        this.value = value.intValue();
+        return set(value.intValue());
+    }
+
+    /**
+     * Sets the value without boxing it.
+     * @param value the value to store
+     * @return this instance
+     */
+    public IntegerValue set(final int value) {
+        final int last;
+        if (atomic) {
+            last = (int) VALUE.getAndSet(this, value);
+        } else {
+            last = this.value;
+            this.value = value;
+        }
+        changed(last, value);
+        return this;
+    }
+
+    /**
+     * Adds a listener that receives the old and new values as primitives
+     * whenever the value changes. Unlike a {@link java.beans.PropertyChangeListener}
+     * no event object is created and neither value is boxed.
+     *
+     * @param listener the listener to add, not null
+     * @return this instance
+     * @throws IllegalArgumentException if {@code listener} is null
+     */
+    public synchronized IntegerValue addValueListener(final IntegerValueListener listener) {
+        checkArgumentNotNull(listener, cannotBeNull("listener"));
+        valueListeners = withListener(valueListeners, listener, NO_VALUE_LISTENERS);
+        return this;
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addValueListener(IntegerValueListener)}.
+     * If {@code listener} was never added, no action is taken.
+     *
+     * @param listener the listener to remove
+     * @return this instance
+     */
+    public synchronized IntegerValue removeValueListener(final IntegerValueListener listener) {
+        valueListeners = withoutListener(valueListeners, listener);
         return this;
     }
 
+    @Override
+    protected boolean hasValueListeners() {
+        return valueListeners != null;
+    }
+
+    /**
+     * Applies {@code function} to the current value and {@code operand}, using a
+     * compare-and-set loop if this instance is atomic, and notifies the listeners.
+     * @return the updated value
+     */
+    private int updateAndGet(final IntBinaryOperator function, final int operand) {
+        int last;
+        int next;
+        if (atomic) {
+            do {
+                last = (int) VALUE.getVolatile(this);
+                next = function.applyAsInt(last, operand);
+            } while (!VALUE.compareAndSet(this, last, next));
+        } else {
+            last = value;
+            next = function.applyAsInt(last, operand);
+            value = next;
+        }
+        changed(last, next);
+        return next;
+    }
+
+    /**
+     * Applies {@code function} to the current value and {@code operand}, using a
+     * compare-and-set loop if this instance is atomic, and notifies the listeners.
+     * @return the previous value
+     */
+    private int getAndUpdate(final IntBinaryOperator function, final int operand) {
+        int last;
+        int next;
+        if (atomic) {
+            do {
+                last = (int) VALUE.getVolatile(this);
+                next = function.applyAsInt(last, operand);
+            } while (!VALUE.compareAndSet(this, last, next));
+        } else {
+            last = value;
+            next = function.applyAsInt(last, operand);
+            value = next;
+        }
+        changed(last, next);
+        return last;
+    }
+
+    @Override
+    protected void updateEnded(final Integer oldValue) {
+        changed(oldValue, getAsInt());
+    }
+
+    /**
+     * Notifies the listeners of a change from {@code last} to {@code next}.
+     * The property change listeners are only invoked, and the values only boxed,
+     * if any have been registered.
+     */
+    private void changed(final int last, final int next) {
+        if (last == next || isUpdating()) {
+            return;
+        }
+        if (hasPropertyChangeListeners()) {
+            listeners.firePropertyChange("value", last, next);
+        }
+        final IntegerValueListener[] current = valueListeners;
+        if (current != null) {
+            for (final IntegerValueListener listener : current) {
+                listener.valueChanged(last, next);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+        return getAsInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+        return getAsInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+        return getAsInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return getAsInt();
+    }
+
     @Override
     public boolean equals(final Object obj) {
-        return obj instanceof IntegerValue && value == ((IntegerValue) obj).intValue();
+        return obj instanceof IntegerValue && getAsInt() == ((IntegerValue) obj).getAsInt();
     }
 
     @Override
     public int hashCode() {
-        return value;
+        return getAsInt();
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(getAsInt());
     }
 }
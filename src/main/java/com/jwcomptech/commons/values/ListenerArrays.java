@@ -0,0 +1,82 @@
+package com.jwcomptech.commons.values;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+import static com.jwcomptech.commons.exceptions.ExceptionUtils.throwUnsupportedExForUtilityCls;
+
+/**
+ * Copy-on-write helpers for the listener arrays of the observable values.
+ * A null array means there are no listeners, so values that are never observed
+ * don't allocate anything. Arrays are never modified in place, which lets a
+ * listener add or remove listeners while being notified.
+ *
+ * @since 1.0.0-alpha
+ */
+final class ListenerArrays {
+    /**
+     * Returns a copy of {@code current} with {@code listener} appended.
+     * @param current the current listeners, or null if there are none
+     * @param listener the listener to append
+     * @param empty an empty array of the listener type
+     * @return the new listener array
+     */
+    static <L> L @NotNull [] withListener(final L @Nullable [] current, final L listener,
+                                          final L @NotNull [] empty) {
+        final L[] base = current == null ? empty : current;
+        final L[] next = Arrays.copyOf(base, base.length + 1);
+        next[base.length] = listener;
+        return next;
+    }
+
+    /**
+     * Returns a copy of {@code current} with the first occurrence of {@code listener}
+     * removed, or null if no listeners remain.
+     * @param current the current listeners, or null if there are none
+     * @param listener the listener to remove
+     * @return the new listener array, or null if it would be empty
+     */
+    static <L> L @Nullable [] withoutListener(final L @Nullable [] current, final Object listener) {
+        if (current == null) {
+            return null;
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                if (current.length == 1) {
+                    return null;
+                }
+                final L[] next = Arrays.copyOf(current, current.length - 1);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                return next;
+            }
+        }
+        return current;
+    }
+
+    /** Prevents instantiation of this utility class. */
+    private ListenerArrays() { throwUnsupportedExForUtilityCls(); }
+}
@@ -26,9 +26,16 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongSupplier;
 
 import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
 import static com.jwcomptech.commons.consts.Literals.cannotBeNullOrEmpty;
+import static com.jwcomptech.commons.values.ListenerArrays.withListener;
+import static com.jwcomptech.commons.values.ListenerArrays.withoutListener;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNullOrEmpty;
 
@@ -38,7 +45,8 @@ import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNu
  * @since 1.0.0-alpha
  */
 @SuppressWarnings("ClassWithTooManyMethods")
-public final class LongValue extends NumberValue<Long, LongValue> {
+public final class LongValue extends NumberValue<Long, LongValue>
+        implements LongSupplier {
     /**
      * Required for serialization support.
      *
@@ -47,31 +55,58 @@ public final class LongValue extends NumberValue<Long, LongValue> {
     @Serial
     private static final long serialVersionUID = -6266537770334178L;
 
+    private static final LongValueListener[] NO_VALUE_LISTENERS = {};
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(LongValue.class, "value", long.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private long value;
+    private final boolean atomic;
+    private final LongAdder adder;
+    private transient volatile LongValueListener[] valueListeners;
+
+    private LongValue(final long defaultValue, final boolean atomic) {
+        this.value = defaultValue;
+        this.atomic = atomic;
+        this.adder = null;
+    }
+
+    private LongValue(final @NotNull LongAdder adder) {
+        this.atomic = true;
+        this.adder = adder;
+    }
+
     private LongValue() {
-        super(0L);
-        super.setListenersTarget(this);
+        this(0L, false);
     }
 
     private LongValue(final int defaultValue) {
-        super((long) defaultValue);
-        super.setListenersTarget(this);
+        this((long) defaultValue, false);
     }
 
     private LongValue(final long defaultValue) {
-        super(defaultValue);
-        super.setListenersTarget(this);
+        this(defaultValue, false);
     }
 
     private LongValue(final @NotNull Number defaultValue) {
-        super(defaultValue.longValue());
         checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
-        super.setListenersTarget(this);
+        this.value = defaultValue.longValue();
+        this.atomic = false;
+        this.adder = null;
     }
 
     private LongValue(final String defaultValue) {
-        super(Long.parseLong(defaultValue));
         checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
-        super.setListenersTarget(this);
+        this.value = Long.parseLong(defaultValue);
+        this.atomic = false;
+        this.adder = null;
     }
 
     /** Creates a new LongValue instance with the default value of 0. */
@@ -118,6 +153,77 @@ public final class LongValue extends NumberValue<Long, LongValue> {
         return new LongValue(defaultValue);
     }
 
+    /**
+     * Creates a new thread safe LongValue instance with the default value of 0.
+     * <p>
+     * Every update of an atomic instance is a single compare-and-set of the underlying
+     * long, so concurrent {@code getAndAdd}, {@code incrementAndGet} and similar calls
+     * never lose an update, and reads always see the latest value. Listeners are notified
+     * once per successful update, on the updating thread, with the exact old and new values.
+     * @return a new thread safe LongValue instance
+     */
+    @Contract(" -> new")
+    public static @NotNull LongValue atomic() {
+        return new LongValue(0L, true);
+    }
+
+    /**
+     * Creates a new thread safe LongValue instance with the specified default value.
+     * See {@link #atomic()} for the guarantees of an atomic instance.
+     * @param defaultValue the value to set
+     * @return a new thread safe LongValue instance
+     */
+    @Contract("_ -> new")
+    public static @NotNull LongValue atomic(final long defaultValue) {
+        return new LongValue(defaultValue, true);
+    }
+
+    /**
+     * Creates a new thread safe LongValue instance for counters that are updated by many
+     * threads and read far less often, with the default value of 0.
+     * <p>
+     * {@link #increment()}, {@link #decrement()}, {@link #add(long)} and {@link #subtract(long)}
+     * add into striped {@link LongAdder} cells, so concurrent writers do not contend, and
+     * reads return the current sum. These updates neither check for overflow nor notify
+     * listeners, since no consistent old value exists. {@link #set(long)} is only exact while
+     * no other thread is adding. Every other update needs the previous value and throws
+     * {@link UnsupportedOperationException}.
+     * @return a new striped LongValue instance
+     */
+    @Contract(" -> new")
+    public static @NotNull LongValue striped() {
+        return new LongValue(new LongAdder());
+    }
+
+    /**
+     * Creates a new striped LongValue instance with the specified default value.
+     * See {@link #striped()} for the behavior of a striped instance.
+     * @param defaultValue the value to set
+     * @return a new striped LongValue instance
+     */
+    @Contract("_ -> new")
+    public static @NotNull LongValue striped(final long defaultValue) {
+        final LongAdder adder = new LongAdder();
+        adder.add(defaultValue);
+        return new LongValue(adder);
+    }
+
+    /**
+     * Check if this instance is safe to update from multiple threads.
+     * @return true if this instance was created with {@code atomic} or {@code striped}
+     */
+    public boolean isAtomic() {
+        return atomic;
+    }
+
+    /**
+     * Check if this instance adds into striped cells.
+     * @return true if this instance was created with {@code striped}
+     */
+    public boolean isStriped() {
+        return adder != null;
+    }
+
     /**
      * Increments the value.
      * @return this instance
@@ -125,40 +231,62 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue increment() {
-        final Long last = value;
-        value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        if (adder != null) {
+            adder.increment();
+            return this;
+        }
+        incrementAndGetLong();
         return this;
     }
 
     /**
      * Increments this instance's value by 1; this method returns the value associated with the instance
-     * immediately prior to the increment operation. This method is not thread safe.
+     * immediately after the increment operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance before it was incremented
+     * @return the value associated with the instance after it is incremented
      * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      */
     @Override
     public Long incrementAndGet() {
-        final Long last = value;
-        value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return incrementAndGetLong();
     }
 
     /**
      * Increments this instance's value by 1; this method returns the value associated with the instance
-     * immediately after the increment operation. This method is not thread safe.
+     * immediately prior to the increment operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance after it is incremented
+     * @return the value associated with the instance before it was incremented
      * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      */
     @Override
     public Long getAndIncrement() {
-        final Long last = value;
-        value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndIncrementLong();
+    }
+
+    /**
+     * Primitive form of {@link #incrementAndGet()} that does not box the result.
+     *
+     * @return the value associated with the instance after it is incremented
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     */
+    public long incrementAndGetLong() {
+        return updateAndGet(Math::addExact, 1L);
+    }
+
+    /**
+     * Primitive form of {@link #getAndIncrement()} that does not box the result.
+     *
+     * @return the value associated with the instance before it was incremented
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     */
+    public long getAndIncrementLong() {
+        return getAndUpdate(Math::addExact, 1L);
     }
 
     /**
@@ -168,39 +296,62 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue decrement() {
-        final Long last = value;
-        value = Math.decrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        if (adder != null) {
+            adder.decrement();
+            return this;
+        }
+        decrementAndGetLong();
         return this;
     }
 
     /**
      * Decrements this instance's value by 1; this method returns the value associated with the instance
-     * immediately prior to the decrement operation. This method is not thread safe.
+     * immediately after the decrement operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance before it was decremented
+     * @return the value associated with the instance after it is decremented
      * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      */
     @Override
     public Long decrementAndGet() {
-        final Long last = value;
-        value = Math.decrementExact(value);
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return decrementAndGetLong();
     }
 
     /**
      * Decrements this instance's value by 1; this method returns the value associated with the instance
-     * immediately after the decrement operation. This method is not thread safe.
+     * immediately prior to the decrement operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
-     * @return the value associated with the instance after it is decremented
+     * @return the value associated with the instance before it was decremented
      * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      */
     @Override
     public Long getAndDecrement() {
-        final Long last = value;
-        value = Math.decrementExact(value);
-        return last;
+        return getAndDecrementLong();
+    }
+
+    /**
+     * Primitive form of {@link #decrementAndGet()} that does not box the result.
+     *
+     * @return the value associated with the instance after it is decremented
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     */
+    public long decrementAndGetLong() {
+        return updateAndGet(Math::subtractExact, 1L);
+    }
+
+    /**
+     * Primitive form of {@link #getAndDecrement()} that does not box the result.
+     *
+     * @return the value associated with the instance before it was decremented
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     */
+    public long getAndDecrementLong() {
+        return getAndUpdate(Math::subtractExact, 1L);
     }
 
     /**
@@ -212,189 +363,331 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      * @return this instance
      */
     @Override
-    public LongValue add(final Number operand) {
-        final Long last = value;
-        value = Math.addExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+    public LongValue add(final @NotNull Number operand) {
+        return add(operand.longValue());
+    }
+
+    /**
+     * Adds a value to the value of this instance.
+     *
+     * @param operand the value to add
+     * @throws ArithmeticException if the result overflows a long
+     * @return this instance
+     */
+    public LongValue add(final long operand) {
+        if (adder != null) {
+            adder.add(operand);
+            return this;
+        }
+        addAndGetLong(operand);
         return this;
     }
 
     /**
      * Increments this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the addition operation. This method is not thread safe.
+     * immediately after the addition operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
      * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return the value associated with this instance after adding the operand
      */
     @Override
     public Long addAndGet(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.addExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return addAndGetLong(operand.longValue());
     }
 
     /**
      * Increments this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the addition operation. This method is not thread safe.
+     * immediately prior to the addition operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
      * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return the value associated with this instance immediately before adding the operand
      */
     @Override
     public Long getAndAdd(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.addExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndAddLong(operand.longValue());
+    }
+
+    /**
+     * Primitive form of {@link #addAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to add
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return the value associated with this instance after adding the operand
+     */
+    public long addAndGetLong(final long operand) {
+        return updateAndGet(Math::addExact, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndAdd(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to add
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return the value associated with this instance immediately before adding the operand
+     */
+    public long getAndAddLong(final long operand) {
+        return getAndUpdate(Math::addExact, operand);
     }
 
     /**
      * Subtracts a value from the value of this instance.
      *
-     * @param operand  the value to subtract, not null
+     * @param operand the value to subtract, not null
      * @throws IllegalArgumentException if the object is null
      * @throws ArithmeticException if the result overflows a long
      * @return this instance
      */
     @Override
     public LongValue subtract(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.subtractExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        return subtract(operand.longValue());
+    }
+
+    /**
+     * Subtracts a value from the value of this instance.
+     *
+     * @param operand the value to subtract
+     * @throws ArithmeticException if the result overflows a long
+     * @return this instance
+     */
+    public LongValue subtract(final long operand) {
+        if (adder != null) {
+            adder.add(-operand);
+            return this;
+        }
+        subtractAndGetLong(operand);
         return this;
     }
 
     /**
      * Decrements this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the subtraction operation. This method is not thread safe.
+     * immediately after the subtraction operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
      * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return the value associated with this instance after subtracting the operand
      */
     @Override
     public Long subtractAndGet(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.subtractExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return subtractAndGetLong(operand.longValue());
     }
 
     /**
      * Decrements this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the subtraction operation. This method is not thread safe.
+     * immediately prior to the subtraction operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
      * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return the value associated with this instance immediately before subtracting the operand
      */
     @Override
     public Long getAndSubtract(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.subtractExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndSubtractLong(operand.longValue());
+    }
+
+    /**
+     * Primitive form of {@link #subtractAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to subtract
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return the value associated with this instance after subtracting the operand
+     */
+    public long subtractAndGetLong(final long operand) {
+        return updateAndGet(Math::subtractExact, operand);
     }
 
     /**
-     * Multiplies a value from the value of this instance.
+     * Primitive form of {@link #getAndSubtract(Number)} that does not box the operand or the result.
      *
-     * @param operand  the value to multiply, not null
+     * @param operand the quantity to subtract
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return the value associated with this instance immediately before subtracting the operand
+     */
+    public long getAndSubtractLong(final long operand) {
+        return getAndUpdate(Math::subtractExact, operand);
+    }
+
+    /**
+     * Multiplies a value by the value of this instance.
+     *
+     * @param operand the value to multiply, not null
      * @throws IllegalArgumentException if the object is null
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return this instance
      */
     @Override
     public LongValue multiply(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.multiplyExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        return multiply(operand.longValue());
+    }
+
+    /**
+     * Multiplies a value by the value of this instance.
+     *
+     * @param operand the value to multiply
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return this instance
+     */
+    public LongValue multiply(final long operand) {
+        multiplyAndGetLong(operand);
         return this;
     }
 
     /**
      * Multiplies this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the multiplication operation. This method is not thread safe.
+     * immediately after the multiplication operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to multiply, not null
      * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return the value associated with this instance after multiplying the operand
      */
     @Override
     public Long multiplyAndGet(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.multiplyExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return multiplyAndGetLong(operand.longValue());
     }
 
     /**
      * Multiplies this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the multiplication operation. This method is not thread safe.
+     * immediately prior to the multiplication operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to multiply, not null
      * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return the value associated with this instance immediately before multiplying the operand
      */
     @Override
     public Long getAndMultiply(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.multiplyExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndMultiplyLong(operand.longValue());
+    }
+
+    /**
+     * Primitive form of {@link #multiplyAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to multiply
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return the value associated with this instance after multiplying the operand
+     */
+    public long multiplyAndGetLong(final long operand) {
+        return updateAndGet(Math::multiplyExact, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndMultiply(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to multiply
+     * @throws ArithmeticException if the result overflows a long
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return the value associated with this instance immediately before multiplying the operand
+     */
+    public long getAndMultiplyLong(final long operand) {
+        return getAndUpdate(Math::multiplyExact, operand);
     }
 
     /**
-     * Divides a value from the value of this instance.
+     * Divides the value of this instance by a value.
      *
-     * @param operand  the value to divide, not null
+     * @param operand the value to divide, not null
      * @throws IllegalArgumentException if the object is null
+     * @throws ArithmeticException if {@code operand} is zero
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return this instance
      */
     @Override
     public LongValue divide(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.divideExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        return divide(operand.longValue());
+    }
+
+    /**
+     * Divides the value of this instance by a value.
+     *
+     * @param operand the value to divide
+     * @throws ArithmeticException if {@code operand} is zero
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return this instance
+     */
+    public LongValue divide(final long operand) {
+        divideAndGetLong(operand);
         return this;
     }
 
     /**
      * Divides this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the division operation. This method is not thread safe.
+     * immediately after the division operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to divide, not null
      * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if {@code operand} is zero
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return the value associated with this instance after dividing the operand
      */
     @Override
     public Long divideAndGet(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.divideExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
-        return value;
+        return divideAndGetLong(operand.longValue());
     }
 
     /**
      * Divides this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the division operation. This method is not thread safe.
+     * immediately prior to the division operation.
+     * This method is only thread safe on an {@link #atomic() atomic} instance.
      *
      * @param operand the quantity to divide, not null
      * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if {@code operand} is zero
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
      * @return the value associated with this instance immediately before dividing the operand
      */
     @Override
     public Long getAndDivide(final @NotNull Number operand) {
-        final Long last = value;
-        value = Math.divideExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
-        return last;
+        return getAndDivideLong(operand.longValue());
+    }
+
+    /**
+     * Primitive form of {@link #divideAndGet(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to divide
+     * @throws ArithmeticException if {@code operand} is zero
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return the value associated with this instance after dividing the operand
+     */
+    public long divideAndGetLong(final long operand) {
+        return updateAndGet(Math::divideExact, operand);
+    }
+
+    /**
+     * Primitive form of {@link #getAndDivide(Number)} that does not box the operand or the result.
+     *
+     * @param operand the quantity to divide
+     * @throws ArithmeticException if {@code operand} is zero
+     * @throws UnsupportedOperationException if this instance is {@link #striped() striped}
+     * @return the value associated with this instance immediately before dividing the operand
+     */
+    public long getAndDivideLong(final long operand) {
+        return getAndUpdate(Math::divideExact, operand);
     }
 
     /**
@@ -402,7 +695,7 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public boolean isPositive() {
-        return Long.signum(value) > 0L;
+        return Long.signum(getAsLong()) > 0;
     }
 
     /**
@@ -410,7 +703,7 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public boolean isNegative() {
-        return Long.signum(value) < 0L;
+        return Long.signum(getAsLong()) < 0;
     }
 
     /**
@@ -418,7 +711,7 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public boolean isZero() {
-        return Long.signum(value) == 0L;
+        return Long.signum(getAsLong()) == 0;
     }
 
     /**
@@ -426,7 +719,7 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public boolean isEqualTo(final @NotNull Number number) {
-        return value == number.longValue();
+        return getAsLong() == number.longValue();
     }
 
     /**
@@ -434,7 +727,7 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public boolean isNotEqualTo(final @NotNull Number number) {
-        return value != number.longValue();
+        return getAsLong() != number.longValue();
     }
 
     /**
@@ -442,7 +735,7 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public boolean isLessThanOrEqualTo(final @NotNull Number number) {
-        return value <= number.longValue();
+        return getAsLong() <= number.longValue();
     }
 
     /**
@@ -450,7 +743,7 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public boolean isGreaterThanOrEqualTo(final @NotNull Number number) {
-        return value >= number.longValue();
+        return getAsLong() >= number.longValue();
     }
 
     /**
@@ -458,7 +751,7 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public boolean isLessThan(final @NotNull Number number) {
-        return value < number.longValue();
+        return getAsLong() < number.longValue();
     }
 
     /**
@@ -466,18 +759,17 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public boolean isGreaterThan(final @NotNull Number number) {
-        return value > number.longValue();
+        return getAsLong() > number.longValue();
     }
 
     @Override
     public int compareTo(final @NotNull LongValue other) {
-        //noinspection AccessingNonPublicFieldOfAnotherObject
-        return Long.compare(value, other.value);
+        return Long.compare(getAsLong(), other.getAsLong());
     }
 
     @Override
     public int compareTo(@NotNull final Long other) {
-        return Long.compare(value, other);
+        return Long.compare(getAsLong(), other);
     }
 
     @Override
@@ -491,7 +783,19 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long get() {
-        return value;
+        return getAsLong();
+    }
+
+    /**
+     * Returns the value without boxing it.
+     * @return the stored value
+     */
+    @Override
+    public long getAsLong() {
+        if (adder != null) {
+            return adder.sum();
+        }
+        return atomic ? (long) VALUE.getVolatile(this) : value;
     }
 
     /**
@@ -502,9 +806,8 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue set(final Long value) {
-        checkArgumentNotNull(value, cannotBeNull("defaultValue"));
-        this.value = value;
-        return this;
+        checkArgumentNotNull(value, cannotBeNull("value"));
+        return set(value.longValue());
     }
 
     /**
@@ -515,18 +818,185 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue set(final Number value) {
-        checkArgumentNotNull(value, cannotBeNull("defaultValue"));
-        this.value = value.longValue();
+        checkArgumentNotNull(value, cannotBeNull("value"));
+        return set(value.longValue());
+    }
+
+    /**
+     * Sets the value without boxing it.
+     * @param value the value to store
+     * @return this instance
+     */
+    public LongValue set(final long value) {
+        if (adder != null) {
+            adder.reset();
+            adder.add(value);
+            return this;
+        }
+        final long last;
+        if (atomic) {
+            last = (long) VALUE.getAndSet(this, value);
+        } else {
+            last = this.value;
+            this.value = value;
+        }
+        changed(last, value);
         return this;
     }
 
+    /**
+     * Adds a listener that receives the old and new values as primitives
+     * whenever the value changes. Unlike a {@link java.beans.PropertyChangeListener}
+     * no event object is created and neither value is boxed.
+     *
+     * @param listener the listener to add, not null
+     * @return this instance
+     * @throws IllegalArgumentException if {@code listener} is null
+     */
+    public synchronized LongValue addValueListener(final LongValueListener listener) {
+        checkArgumentNotNull(listener, cannotBeNull("listener"));
+        valueListeners = withListener(valueListeners, listener, NO_VALUE_LISTENERS);
+        return this;
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addValueListener(LongValueListener)}.
+     * If {@code listener} was never added, no action is taken.
+     *
+     * @param listener the listener to remove
+     * @return this instance
+     */
+    public synchronized LongValue removeValueListener(final LongValueListener listener) {
+        valueListeners = withoutListener(valueListeners, listener);
+        return this;
+    }
+
+    @Override
+    protected boolean hasValueListeners() {
+        return valueListeners != null;
+    }
+
+    /**
+     * Applies {@code function} to the current value and {@code operand}, using a
+     * compare-and-set loop if this instance is atomic, and notifies the listeners.
+     * @return the updated value
+     */
+    private long updateAndGet(final LongBinaryOperator function, final long operand) {
+        if (adder != null) {
+            throw new UnsupportedOperationException("A striped LongValue only supports adding!");
+        }
+        long last;
+        long next;
+        if (atomic) {
+            do {
+                last = (long) VALUE.getVolatile(this);
+                next = function.applyAsLong(last, operand);
+            } while (!VALUE.compareAndSet(this, last, next));
+        } else {
+            last = value;
+            next = function.applyAsLong(last, operand);
+            value = next;
+        }
+        changed(last, next);
+        return next;
+    }
+
+    /**
+     * Applies {@code function} to the current value and {@code operand}, using a
+     * compare-and-set loop if this instance is atomic, and notifies the listeners.
+     * @return the previous value
+     */
+    private long getAndUpdate(final LongBinaryOperator function, final long operand) {
+        if (adder != null) {
+            throw new UnsupportedOperationException("A striped LongValue only supports adding!");
+        }
+        long last;
+        long next;
+        if (atomic) {
+            do {
+                last = (long) VALUE.getVolatile(this);
+                next = function.applyAsLong(last, operand);
+            } while (!VALUE.compareAndSet(this, last, next));
+        } else {
+            last = value;
+            next = function.applyAsLong(last, operand);
+            value = next;
+        }
+        changed(last, next);
+        return last;
+    }
+
+    @Override
+    protected void updateEnded(final Long oldValue) {
+        if (adder == null) {
+            changed(oldValue, getAsLong());
+        }
+    }
+
+    /**
+     * Notifies the listeners of a change from {@code last} to {@code next}.
+     * The property change listeners are only invoked, and the values only boxed,
+     * if any have been registered.
+     */
+    private void changed(final long last, final long next) {
+        if (last == next || isUpdating()) {
+            return;
+        }
+        if (hasPropertyChangeListeners()) {
+            listeners.firePropertyChange("value", last, next);
+        }
+        final LongValueListener[] current = valueListeners;
+        if (current != null) {
+            for (final LongValueListener listener : current) {
+                listener.valueChanged(last, next);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+        return (int) getAsLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+        return getAsLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+        return getAsLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return getAsLong();
+    }
+
     @Override
     public boolean equals(final Object obj) {
-        return obj instanceof LongValue && value == ((LongValue) obj).longValue();
+        return obj instanceof LongValue && getAsLong() == ((LongValue) obj).getAsLong();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(getAsLong());
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(getAsLong());
     }
 }
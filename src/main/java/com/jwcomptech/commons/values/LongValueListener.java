@@ -0,0 +1,40 @@
+package com.jwcomptech.commons.values;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * Receives change notifications from {@link LongValue} with the old and new
+ * values passed as primitives, so no wrapper or event object is created
+ * per update.
+ *
+ * @since 1.0.0-alpha
+ */
+@FunctionalInterface
+public interface LongValueListener {
+    /**
+     * Called after the value has changed.
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    void valueChanged(long oldValue, long newValue);
+}
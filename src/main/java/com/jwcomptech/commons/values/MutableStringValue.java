@@ -55,7 +55,6 @@ import static org.apache.commons.lang3.StringUtils.stripStart;
  */
 @SuppressWarnings({"ClassWithTooManyMethods", "OverlyComplexClass", "unused"})
 public final class MutableStringValue extends ObservableValue<String, MutableStringValue> {
-    private String value;
     /**
      * Required for serialization support.
      *
@@ -66,23 +65,19 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
 
     private MutableStringValue() {
         super(EMPTY);
-        super.setListenersTarget(this);
     }
 
     private MutableStringValue(final String input) {
         super(input);
-        super.setListenersTarget(this);
     }
 
     @SuppressWarnings("TypeMayBeWeakened")
     private MutableStringValue(final @NotNull StringBuilder input) {
         super(input.toString());
-        super.setListenersTarget(this);
     }
 
     private MutableStringValue(final @NotNull CharSequence input) {
         super(input.toString());
-        super.setListenersTarget(this);
     }
 
     /**
@@ -291,7 +286,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToEnd(final String input) {
-        value = value + input;
+        set(value + input);
         return this;
     }
 
@@ -302,7 +297,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToEnd(final @NotNull StringValue input) {
-        value = value + input.get();
+        set(value + input.get());
         return this;
     }
 
@@ -313,7 +308,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToEnd(final @NotNull MutableStringValue input) {
-        value = value + input.get();
+        set(value + input.get());
         return this;
     }
 
@@ -324,7 +319,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToEnd(final char input) {
-        value = value + input;
+        set(value + input);
         return this;
     }
 
@@ -335,7 +330,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToStart(final String input) {
-        value = input + value;
+        set(input + value);
         return this;
     }
 
@@ -346,7 +341,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToStart(final @NotNull StringValue input) {
-        value = input.get() + value;
+        set(input.get() + value);
         return this;
     }
 
@@ -357,7 +352,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToStart(final @NotNull MutableStringValue input) {
-        value = input.get() + value;
+        set(input.get() + value);
         return this;
     }
 
@@ -368,7 +363,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToStart(final char input) {
-        value = input + value;
+        set(input + value);
         return this;
     }
 
@@ -410,7 +405,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue quoteString() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = "\"%s\"".formatted(value);
+        set("\"%s\"".formatted(value));
         return this;
     }
 
@@ -421,9 +416,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue unquoteString() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = (value.startsWith("\"") && value.endsWith("\""))
+        set((value.startsWith("\"") && value.endsWith("\""))
                 || (value.startsWith("'") && value.endsWith("'"))
-                ? value.substring(1, value.length() - 1) : value;
+                ? value.substring(1, value.length() - 1) : value);
         return this;
     }
 
@@ -522,7 +517,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         var startsWith = value.startsWith(prefix);
         if(!startsWith && ignoreCase) startsWith = value.startsWith(prefix.toUpperCase(Locale.getDefault()));
         if(!startsWith && ignoreCase) startsWith = value.startsWith(prefix.toLowerCase(Locale.getDefault()));
-        value = startsWith ? value : prefix + value;
+        set(startsWith ? value : prefix + value);
         return this;
     }
 
@@ -539,7 +534,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         var endsWith = value.endsWith(suffix);
         if(!endsWith && ignoreCase) endsWith = value.startsWith(suffix.toUpperCase(Locale.getDefault()));
         if(!endsWith && ignoreCase) endsWith = value.startsWith(suffix.toLowerCase(Locale.getDefault()));
-        value = endsWith ? value : value + suffix;
+        set(endsWith ? value : value + suffix);
         return this;
     }
 
@@ -951,7 +946,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#substring(int)
      */
     public @NotNull MutableStringValue substring(final int beginIndex) {
-        value = value.substring(beginIndex);
+        set(value.substring(beginIndex));
         return this;
     }
 
@@ -978,7 +973,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#substring(int, int)
      */
     public @NotNull MutableStringValue substring(final int beginIndex, final int endIndex) {
-        value = value.substring(beginIndex, endIndex);
+        set(value.substring(beginIndex, endIndex));
         return this;
     }
 
@@ -1028,7 +1023,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#concat(String)
      */
     public @NotNull MutableStringValue concat(final String str) {
-        value = value + str;
+        set(value + str);
         return this;
     }
 
@@ -1062,7 +1057,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#replace(char, char)
      */
     public @NotNull MutableStringValue replace(final char oldChar, final char newChar) {
-        value = value.replace(oldChar, newChar);
+        set(value.replace(oldChar, newChar));
         return this;
     }
 
@@ -1134,7 +1129,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#replaceFirst(String, String)
      */
     public @NotNull MutableStringValue replaceFirst(final String regex, final String replacement) {
-        value = value.replaceFirst(regex, replacement);
+        set(value.replaceFirst(regex, replacement));
         return this;
     }
 
@@ -1172,7 +1167,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#replaceAll(String, String)
      */
     public @NotNull MutableStringValue replaceAll(final String regex, final String replacement) {
-        value = value.replaceAll(regex, replacement);
+        set(value.replaceAll(regex, replacement));
         return this;
     }
 
@@ -1188,7 +1183,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#replace(CharSequence, CharSequence)
      */
     public @NotNull MutableStringValue replace(final CharSequence target, final CharSequence replacement) {
-        value = value.replace(target, replacement);
+        set(value.replace(target, replacement));
         return this;
     }
 
@@ -1427,7 +1422,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @SuppressWarnings("UnnecessaryUnicodeEscape")
     public @NotNull MutableStringValue toLowerCase() {
-        value = value.toLowerCase(Locale.getDefault());
+        set(value.toLowerCase(Locale.getDefault()));
         return this;
     }
 
@@ -1485,7 +1480,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#toUpperCase(Locale)
      */
     public @NotNull MutableStringValue toLowerCase(final Locale locale) {
-        value = value.toLowerCase(locale);
+        set(value.toLowerCase(locale));
         return this;
     }
 
@@ -1512,7 +1507,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @SuppressWarnings("UnnecessaryUnicodeEscape")
     public @NotNull MutableStringValue toUpperCase() {
-        value = value.toUpperCase(Locale.getDefault());
+        set(value.toUpperCase(Locale.getDefault()));
         return this;
     }
 
@@ -1569,7 +1564,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#toUpperCase(Locale)
      */
     public @NotNull MutableStringValue toUpperCase(final Locale locale) {
-        value = value.toUpperCase(locale);
+        set(value.toUpperCase(locale));
         return this;
     }
 
@@ -1605,7 +1600,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      *          has no leading or trailing space.
      */
     public @NotNull MutableStringValue trim() {
-        value = value.trim();
+        set(value.trim());
         return this;
     }
 
@@ -1633,7 +1628,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#stripLeading()
      */
     public @NotNull MutableStringValue stripLeading() {
-        value = value.stripLeading();
+        set(value.stripLeading());
         return this;
     }
 
@@ -1661,7 +1656,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#stripTrailing()
      */
     public @NotNull MutableStringValue stripTrailing() {
-        value = value.stripTrailing();
+        set(value.stripTrailing());
         return this;
     }
 
@@ -1734,7 +1729,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#indent(int)
      */
     public @NotNull MutableStringValue indent(final int n) {
-        value = value.indent(n);
+        set(value.indent(n));
         return this;
     }
 
@@ -1745,7 +1740,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeLastCharacter() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.substring(0, value.length() - 1);
+        set(value.substring(0, value.length() - 1));
         return this;
     }
 
@@ -1757,7 +1752,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeLastCharacters(final int number) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.substring(0, value.length() - number);
+        set(value.substring(0, value.length() - number));
         return this;
     }
 
@@ -1768,7 +1763,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeFirstCharacter() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.substring(1);
+        set(value.substring(1));
         return this;
     }
 
@@ -1780,7 +1775,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeFirstCharacters(final int number) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.substring(number);
+        set(value.substring(number));
         return this;
     }
 
@@ -1791,7 +1786,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeAllSpecialCharacters() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.replaceAll(RegExPatterns.SPECIAL_CHARS.getRegex(), "");
+        set(value.replaceAll(RegExPatterns.SPECIAL_CHARS.getRegex(), ""));
         return this;
     }
 
@@ -1802,7 +1797,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeAllAlphanumericCharacters() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.replaceAll(RegExPatterns.ALPHANUMERIC.getRegex(), "");
+        set(value.replaceAll(RegExPatterns.ALPHANUMERIC.getRegex(), ""));
         return this;
     }
 
@@ -1813,7 +1808,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeAllLetters() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.replaceAll(RegExPatterns.ALPHA.getRegex(), "");
+        set(value.replaceAll(RegExPatterns.ALPHA.getRegex(), ""));
         return this;
     }
 
@@ -1824,7 +1819,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeAllNumbers() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.replaceAll(RegExPatterns.NUMERIC.getRegex(), "");
+        set(value.replaceAll(RegExPatterns.NUMERIC.getRegex(), ""));
         return this;
     }
 
@@ -1835,7 +1830,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue reverse() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = new StringBuilder(value).reverse().toString();
+        set(new StringBuilder(value).reverse().toString());
         return this;
     }
 
@@ -1849,7 +1844,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue leftOf(final char c) {
         checkArgumentNotNull(value, cannotBeNull("value"));
         final var index = value.indexOf(c);
-        if (index >= 0) value = value.substring(0, index);
+        if (index >= 0) set(value.substring(0, index));
         return this;
     }
 
@@ -1863,7 +1858,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue rightOf(final char c) {
         checkArgumentNotNull(value, cannotBeNull("value"));
         final var index = value.indexOf(c);
-        if (index >= 0) value = value.substring(index + 1);
+        if (index >= 0) set(value.substring(index + 1));
         return this;
     }
 
@@ -1874,7 +1869,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue firstChar() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() > 1 ? value.substring(0, 1) : value;
+        set(value.length() > 1 ? value.substring(0, 1) : value);
         return this;
     }
 
@@ -1885,7 +1880,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue lastChar() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() > 1 ? value.substring(value.length() - 1, 1) : value;
+        set(value.length() > 1 ? value.substring(value.length() - 1, 1) : value);
         return this;
     }
 
@@ -1897,7 +1892,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue firstChars(final int number) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() < number ? value : value.substring(0, number);
+        set(value.length() < number ? value : value.substring(0, number));
         return this;
     }
 
@@ -1909,7 +1904,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue lastChars(final int number) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() < number ? value : value.substring(number + 1);
+        set(value.length() < number ? value : value.substring(number + 1));
         return this;
     }
 
@@ -1921,10 +1916,10 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue toTitleCase() {
         checkArgumentNotNullOrEmpty(value, cannotBeNullOrEmpty("value"));
         final var words = value.trim().split(SPACE);
-        value = Arrays.stream(words)
+        set(Arrays.stream(words)
                 .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1) + ' ')
                 .collect(Collectors.joining())
-                .trim();
+                .trim());
         return this;
     }
 
@@ -2053,7 +2048,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         if (value.charAt(0) == wrapChar && value.charAt(value.length() - 1) == wrapChar) {
             final int startIndex = 0;
             final int endIndex = value.length() - 1;
-            value = value.substring(startIndex + 1, endIndex);
+            set(value.substring(startIndex + 1, endIndex));
         }
 
         return this;
@@ -2066,9 +2061,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue uppercaseFirst() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() > 1
+        set(value.length() > 1
                 ? value.substring(0, 1).toUpperCase(Locale.getDefault()) + value.substring(1)
-                : value.toUpperCase(Locale.getDefault());
+                : value.toUpperCase(Locale.getDefault()));
         return this;
     }
 
@@ -2081,9 +2076,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue uppercaseFirst(final Locale locale) {
         checkArgumentNotNull(value, cannotBeNull("value"));
         checkArgumentNotNull(locale, LOCALE_CANNOT_BE_NULL);
-        value = value.length() > 1
+        set(value.length() > 1
                 ? value.substring(0, 1).toUpperCase(locale) + value.substring(1)
-                : value.toUpperCase(locale);
+                : value.toUpperCase(locale));
         return this;
     }
 
@@ -2094,9 +2089,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue lowercaseFirst() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() > 1
+        set(value.length() > 1
                 ? value.substring(0, 1).toLowerCase(Locale.getDefault()) + value.substring(1)
-                : value.toLowerCase(Locale.getDefault());
+                : value.toLowerCase(Locale.getDefault()));
         return this;
     }
 
@@ -2110,9 +2105,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue lowercaseFirst(final Locale locale) {
         checkArgumentNotNull(value, cannotBeNull("value"));
         checkArgumentNotNull(locale, LOCALE_CANNOT_BE_NULL);
-        value = value.length() > 1
+        set(value.length() > 1
                 ? value.substring(0, 1).toLowerCase(locale) + value.substring(1)
-                : value.toLowerCase(locale);
+                : value.toLowerCase(locale));
         return this;
     }
 
@@ -2211,7 +2206,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#stripIndent()
      */
     public @NotNull MutableStringValue stripIndent() {
-        value = value.stripIndent();
+        set(value.stripIndent());
         return this;
     }
 
@@ -2296,7 +2291,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#translateEscapes()
      */
     public @NotNull MutableStringValue translateEscapes() {
-        value = value.translateEscapes();
+        set(value.translateEscapes());
         return this;
     }
 
@@ -2388,7 +2383,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue strip(final String stripChars) {
         if (value.isEmpty()) return MutableStringValue.EMPTY();
         final String newValue = stripStart(value, stripChars);
-        value = stripEnd(newValue, stripChars);
+        set(stripEnd(newValue, stripChars));
         return this;
     }
 
@@ -2443,7 +2438,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#formatted(Object...)
      */
     public @NotNull MutableStringValue formatted(final Object... args) {
-        value = value.formatted(args);
+        set(value.formatted(args));
         return this;
     }
 
@@ -2461,7 +2456,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#repeat(int)
      */
     public @NotNull MutableStringValue repeat(final int count) {
-        value = value.repeat(count);
+        set(value.repeat(count));
         return this;
     }
 
@@ -2841,18 +2836,6 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.length());
     }
 
-    /**
-     * Sets the value.
-     * @param value the value to store
-     * @return this instance
-     */
-    //TODO: Figure out if this override is necessary
-    @Override
-    public MutableStringValue set(final String value) {
-        this.value = value;
-        return this;
-    }
-
     /**
      * Compares this MutableStringValue to another in ascending order.
      *
@@ -29,6 +29,11 @@ import java.beans.PropertyChangeListenerProxy;
 import java.beans.PropertyChangeSupport;
 import java.io.Serial;
 import java.util.List;
+import java.util.function.Consumer;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkState;
 
 /**
  * Provides mutable access to a {@link Number}.
@@ -49,21 +54,15 @@ import java.util.List;
 public abstract sealed class NumberValue<T extends Number, V extends NumberValue<T, V>>
         extends Number implements Value<T, V>
         permits DoubleValue, FloatValue, IntegerValue, LongValue {
-    protected T value;
     @SuppressWarnings("FieldNotUsedInToString")
     protected PropertyChangeSupport listeners;
+    @SuppressWarnings("FieldNotUsedInToString")
+    private volatile boolean propertyChangeListeners;
+    private transient PendingUpdate<T> pendingUpdate;
 
     @Serial
     private static final long serialVersionUID = -6581876828020928948L;
 
-    public NumberValue(final T value) {
-        this.value = value;
-    }
-
-    protected void setListenersTarget(final V target) {
-        this.listeners = new PropertyChangeSupport(target);
-    }
-
     /**
      * Add a PropertyChangeListener to the listener list.
      * The listener is registered for all properties.
@@ -74,8 +73,12 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
      *
      * @param listener  The PropertyChangeListener to be added
      */
-    public final void addPropertyChangeListener(final PropertyChangeListener listener) {
+    public final synchronized void addPropertyChangeListener(final PropertyChangeListener listener) {
+        if (listeners == null) {
+            listeners = new PropertyChangeSupport(this);
+        }
         listeners.addPropertyChangeListener("value", listener);
+        propertyChangeListeners = listeners.hasListeners("value");
     }
 
     /**
@@ -89,8 +92,12 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
      *
      * @param listener  The PropertyChangeListener to be removed
      */
-    public final void removePropertyChangeListener(final PropertyChangeListener listener) {
+    public final synchronized void removePropertyChangeListener(final PropertyChangeListener listener) {
+        if (listeners == null) {
+            return;
+        }
         listeners.removePropertyChangeListener("value", listener);
+        propertyChangeListeners = listeners.hasListeners("value");
     }
 
     /**
@@ -123,7 +130,7 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
      *         empty list if no listeners have been added
      */
     public final List<PropertyChangeListener> getListeners() {
-        return List.of(listeners.getPropertyChangeListeners());
+        return listeners == null ? List.of() : List.of(listeners.getPropertyChangeListeners());
     }
 
     /**
@@ -131,9 +138,95 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
      * @return true if there are one or more listeners
      */
     public final boolean hasListeners() {
-        return listeners.hasListeners("value");
+        return propertyChangeListeners || hasValueListeners();
     }
 
+    /**
+     * Starts a batched update. Until the matching {@link #endUpdate()}, changes
+     * do not notify any listener. When the outermost batch ends, listeners are
+     * notified once, with the value from before the batch and the final value,
+     * and only if the two differ. Batches may be nested. Opening and closing a
+     * batch is not thread safe, even on an atomic instance.
+     *
+     * @return this instance
+     */
+    @SuppressWarnings("unchecked")
+    public final V beginUpdate() {
+        if (pendingUpdate == null) {
+            pendingUpdate = new PendingUpdate<>(get());
+        } else {
+            pendingUpdate.enter();
+        }
+        return (V) this;
+    }
+
+    /**
+     * Ends a batched update started by {@link #beginUpdate()}. If this ends the
+     * outermost batch, listeners are notified of the net change.
+     *
+     * @return this instance
+     * @throws IllegalStateException if no batch is open
+     */
+    @SuppressWarnings("unchecked")
+    public final V endUpdate() {
+        final PendingUpdate<T> pending = pendingUpdate;
+        checkState(pending != null, "endUpdate called without a matching beginUpdate!");
+        if (pending.exit()) {
+            pendingUpdate = null;
+            updateEnded(pending.getOldValue());
+        }
+        return (V) this;
+    }
+
+    /**
+     * Applies {@code updates} to this instance as a single batch, see {@link #beginUpdate()}.
+     * Listeners are notified once with the net change, even if {@code updates} throws.
+     *
+     * @param updates the mutations to apply
+     * @return this instance
+     * @throws IllegalArgumentException if {@code updates} is null
+     */
+    @SuppressWarnings("unchecked")
+    public final V batch(final Consumer<? super V> updates) {
+        checkArgumentNotNull(updates, cannotBeNull("updates"));
+        beginUpdate();
+        try {
+            updates.accept((V) this);
+        } finally {
+            endUpdate();
+        }
+        return (V) this;
+    }
+
+    /**
+     * Check if a batched update is open.
+     * @return true if {@link #beginUpdate()} was called more often than {@link #endUpdate()}
+     */
+    public final boolean isUpdating() {
+        return pendingUpdate != null;
+    }
+
+    /**
+     * Notifies the listeners of the net change of a batched update.
+     * @param oldValue the value before the batch started
+     */
+    protected abstract void updateEnded(final T oldValue);
+
+    /**
+     * Check if there are any property change listeners. Child classes use this
+     * to skip boxing the old and new values when nobody is listening.
+     * @return true if there are one or more property change listeners
+     */
+    protected final boolean hasPropertyChangeListeners() {
+        return propertyChangeListeners;
+    }
+
+    /**
+     * Check if there are any primitive value listeners.
+     * @return true if there are one or more primitive value listeners
+     */
+    protected abstract boolean hasValueListeners();
+
 
     /**
      * Increments the value.
@@ -143,7 +236,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Increments this instance's value by 1; this method returns the value associated with the instance
-     * immediately prior to the increment operation. This method is not thread safe.
+     * immediately prior to the increment operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @return the value associated with the instance before it was incremented
      */
@@ -151,7 +245,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Increments this instance's value by 1; this method returns the value associated with the instance
-     * immediately after the increment operation. This method is not thread safe.
+     * immediately after the increment operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @return the value associated with the instance after it is incremented
      */
@@ -165,7 +260,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Decrements this instance's value by 1; this method returns the value associated with the instance
-     * immediately prior to the decrement operation. This method is not thread safe.
+     * immediately prior to the decrement operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @return the value associated with the instance before it was decremented
      */
@@ -173,7 +269,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Decrements this instance's value by 1; this method returns the value associated with the instance
-     * immediately after the decrement operation. This method is not thread safe.
+     * immediately after the decrement operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @return the value associated with the instance after it is decremented
      */
@@ -190,7 +287,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Increments this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the addition operation. This method is not thread safe.
+     * immediately after the addition operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -200,7 +298,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Increments this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the addition operation. This method is not thread safe.
+     * immediately prior to the addition operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @param operand the quantity to add, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -219,7 +318,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Decrements this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the subtraction operation. This method is not thread safe.
+     * immediately after the subtraction operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -229,7 +329,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Decrements this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the subtraction operation. This method is not thread safe.
+     * immediately prior to the subtraction operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @param operand the quantity to subtract, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -248,7 +349,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Multiplies this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the multiplication operation. This method is not thread safe.
+     * immediately after the multiplication operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @param operand the quantity to multiply, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -258,7 +360,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Multiplies this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the multiplication operation. This method is not thread safe.
+     * immediately prior to the multiplication operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @param operand the quantity to multiply, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -277,7 +380,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Divides this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately after the division operation. This method is not thread safe.
+     * immediately after the division operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @param operand the quantity to divide, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -287,7 +391,8 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
 
     /**
      * Divides this instance's value by {@code operand}; this method returns the value associated with the instance
-     * immediately prior to the division operation. This method is not thread safe.
+     * immediately prior to the division operation.
+     * This method is only thread safe if the instance supports atomic updates.
      *
      * @param operand the quantity to divide, not null
      * @throws IllegalArgumentException if {@code operand} is null
@@ -387,37 +492,17 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
      */
     public abstract boolean isGreaterThan(final Number number);
 
-    /**
-     * {@inheritDoc}
-     */
     @Override
-    public int intValue() {
-        return value.intValue();
-    }
+    public abstract int intValue();
 
-    /**
-     * {@inheritDoc}
-     */
     @Override
-    public long longValue() {
-        return value.longValue();
-    }
+    public abstract long longValue();
 
-    /**
-     * {@inheritDoc}
-     */
     @Override
-    public float floatValue() {
-        return value.floatValue();
-    }
+    public abstract float floatValue();
 
-    /**
-     * {@inheritDoc}
-     */
     @Override
-    public double doubleValue() {
-        return value.doubleValue();
-    }
+    public abstract double doubleValue();
 
     @Override
     public abstract boolean equals(final Object obj);
@@ -426,9 +511,7 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
     public abstract int hashCode();
 
     @Override
-    public String toString() {
-        return value.toString();
-    }
+    public abstract String toString();
 
     public abstract int compareTo(final @NotNull V other);
 
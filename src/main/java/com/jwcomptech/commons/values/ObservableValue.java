@@ -35,6 +35,14 @@ import java.beans.PropertyChangeSupport;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkState;
+import static com.jwcomptech.commons.values.ListenerArrays.withListener;
+import static com.jwcomptech.commons.values.ListenerArrays.withoutListener;
 
 /**
  * Provides mutable access to a non-numeric value.
@@ -47,7 +55,9 @@ import java.util.List;
 @SuppressWarnings("unused")
 public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extends Validated implements Value<T, V> {
     protected T value;
-    protected PropertyChangeSupport listeners = new PropertyChangeSupport(this);
+    private volatile PropertyChangeSupport listeners;
+    private transient volatile ValueChangeListener<? super T>[] changeListeners;
+    private transient PendingUpdate<T> pendingUpdate;
 
     /**
      * Required for serialization support.
@@ -57,13 +67,37 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
     @Serial
     private static final long serialVersionUID = 5183297117938121441L;
 
+    private static final ValueChangeListener<?>[] NO_CHANGE_LISTENERS = {};
+
     public ObservableValue(final T value) {
         this.value = value;
     }
 
-    //TODO: Figure out if this is necessary
-    protected void setListenersTarget(final V target) {
-        this.listeners = new PropertyChangeSupport(target);
+    /**
+     * Adds a listener that receives the old and new values whenever the value
+     * changes. Unlike a {@link PropertyChangeListener} no event object is created.
+     * The same listener object may be added more than once, and will be called
+     * as many times as it is added.
+     *
+     * @param listener the listener to add, not null
+     * @throws IllegalArgumentException if {@code listener} is null
+     */
+    @SuppressWarnings("unchecked")
+    public final synchronized void addChangeListener(final ValueChangeListener<? super T> listener) {
+        checkArgumentNotNull(listener, cannotBeNull("listener"));
+        changeListeners = withListener(changeListeners, listener,
+                (ValueChangeListener<? super T>[]) NO_CHANGE_LISTENERS);
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addChangeListener(ValueChangeListener)}.
+     * If {@code listener} was added more than once, it will be notified one less
+     * time after being removed. If it was never added, no action is taken.
+     *
+     * @param listener the listener to remove
+     */
+    public final synchronized void removeChangeListener(final ValueChangeListener<? super T> listener) {
+        changeListeners = withoutListener(changeListeners, listener);
     }
 
     /**
@@ -76,7 +110,10 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
      *
      * @param listener  The PropertyChangeListener to be added
      */
-    public final void addPropertyChangeListener(final PropertyChangeListener listener) {
+    public final synchronized void addPropertyChangeListener(final PropertyChangeListener listener) {
+        if (listeners == null) {
+            listeners = new PropertyChangeSupport(this);
+        }
         listeners.addPropertyChangeListener("value", listener);
     }
 
@@ -91,7 +128,10 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
      *
      * @param listener  The PropertyChangeListener to be removed
      */
-    public final void removePropertyChangeListener(final PropertyChangeListener listener) {
+    public final synchronized void removePropertyChangeListener(final PropertyChangeListener listener) {
+        if (listeners == null) {
+            return;
+        }
         listeners.removePropertyChangeListener("value", listener);
     }
 
@@ -125,7 +165,7 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
      *         empty list if no listeners have been added
      */
     public final @NotNull @Unmodifiable List<PropertyChangeListener> getListeners() {
-        return List.of(listeners.getPropertyChangeListeners());
+        return listeners == null ? List.of() : List.of(listeners.getPropertyChangeListeners());
     }
 
     /**
@@ -133,7 +173,94 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
      * @return true if there are one or more listeners
      */
     public final boolean hasListeners() {
-        return listeners.hasListeners("value");
+        return changeListeners != null || listeners != null && listeners.hasListeners("value");
+    }
+
+    /**
+     * Starts a batched update. Until the matching {@link #endUpdate()}, changes
+     * do not notify any listener. When the outermost batch ends, listeners are
+     * notified once, with the value from before the batch and the final value,
+     * and only if the two differ. Batches may be nested.
+     *
+     * @return this instance
+     */
+    @SuppressWarnings("unchecked")
+    public final V beginUpdate() {
+        if (pendingUpdate == null) {
+            pendingUpdate = new PendingUpdate<>(value);
+        } else {
+            pendingUpdate.enter();
+        }
+        return (V) this;
+    }
+
+    /**
+     * Ends a batched update started by {@link #beginUpdate()}. If this ends the
+     * outermost batch, listeners are notified of the net change.
+     *
+     * @return this instance
+     * @throws IllegalStateException if no batch is open
+     */
+    @SuppressWarnings("unchecked")
+    public final V endUpdate() {
+        final PendingUpdate<T> pending = pendingUpdate;
+        checkState(pending != null, "endUpdate called without a matching beginUpdate!");
+        if (pending.exit()) {
+            pendingUpdate = null;
+            fireValueChanged(pending.getOldValue(), value);
+        }
+        return (V) this;
+    }
+
+    /**
+     * Applies {@code updates} to this instance as a single batch, see {@link #beginUpdate()}.
+     * Listeners are notified once with the net change, even if {@code updates} throws.
+     *
+     * @param updates the mutations to apply
+     * @return this instance
+     * @throws IllegalArgumentException if {@code updates} is null
+     */
+    @SuppressWarnings("unchecked")
+    public final V batch(final Consumer<? super V> updates) {
+        checkArgumentNotNull(updates, cannotBeNull("updates"));
+        beginUpdate();
+        try {
+            updates.accept((V) this);
+        } finally {
+            endUpdate();
+        }
+        return (V) this;
+    }
+
+    /**
+     * Check if a batched update is open.
+     * @return true if {@link #beginUpdate()} was called more often than {@link #endUpdate()}
+     */
+    public final boolean isUpdating() {
+        return pendingUpdate != null;
+    }
+
+    /**
+     * Notifies the listeners that the value changed from {@code oldValue} to {@code newValue}.
+     * Nothing is done if the values are equal, if no listeners were ever added or
+     * while a batched update is open.
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    protected final void fireValueChanged(final T oldValue, final T newValue) {
+        final ValueChangeListener<? super T>[] current = changeListeners;
+        if (current == null && listeners == null || pendingUpdate != null
+                || Objects.equals(oldValue, newValue)) {
+            return;
+        }
+        if (current != null) {
+            for (final ValueChangeListener<? super T> listener : current) {
+                listener.valueChanged(oldValue, newValue);
+            }
+        }
+        if (listeners != null) {
+            listeners.firePropertyChange("value", oldValue, newValue);
+        }
     }
 
     /**
@@ -151,9 +278,10 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
      * @return this instance
      */
     @Override
-    //TODO: Figure out if it is safe to not make this abstract
     public V set(final T value) {
+        final T last = this.value;
         this.value = value;
+        fireValueChanged(last, value);
         //noinspection unchecked
         return (V) this;
     }
@@ -166,14 +294,13 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
 
         final ObservableValue<?, ?> that = (ObservableValue<?, ?>) obj;
 
-        return new EqualsBuilder().append(value, that.value).append(listeners, that.listeners).isEquals();
+        return new EqualsBuilder().append(value, that.value).isEquals();
     }
 
     @Override
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
                 .append(value)
-                .append(listeners)
                 .toHashCode();
     }
 
@@ -181,7 +308,6 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
     public String toString() {
         return new ToStringBuilder(this)
                 .append("value", value)
-                .append("listeners", listeners)
                 .toString();
     }
 }
@@ -0,0 +1,62 @@
+package com.jwcomptech.commons.values;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * The state of a batched update on an observable value: how deeply
+ * {@code beginUpdate} calls are nested and the value before the outermost one.
+ * Only allocated while a batch is open, so values that never batch pay
+ * nothing beyond a null reference.
+ *
+ * @param <T> the type of the observed value
+ * @since 1.0.0-alpha
+ */
+final class PendingUpdate<T> {
+    private final T oldValue;
+    private int depth = 1;
+
+    PendingUpdate(final T oldValue) {
+        this.oldValue = oldValue;
+    }
+
+    /** Records a nested {@code beginUpdate}. */
+    void enter() {
+        depth++;
+    }
+
+    /**
+     * Records an {@code endUpdate}.
+     * @return true if this closed the outermost batch
+     */
+    boolean exit() {
+        return --depth == 0;
+    }
+
+    /**
+     * Returns the value before the outermost {@code beginUpdate}.
+     * @return the value before the batch started
+     */
+    T getOldValue() {
+        return oldValue;
+    }
+}
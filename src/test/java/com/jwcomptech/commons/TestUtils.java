@@ -0,0 +1,145 @@
+package com.jwcomptech.commons;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static com.jwcomptech.commons.exceptions.ExceptionUtils.throwUnsupportedExForUtilityCls;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contains methods shared by the tests for running code on several threads and for serialization.
+ */
+public final class TestUtils {
+    /** How long the methods of this class wait for other threads before failing the test. */
+    public static final long TIMEOUT_SECONDS = 5;
+
+    /**
+     * Waits for the specified latch, restoring the interrupt flag instead of throwing if interrupted,
+     * so it can be called from lambdas that cannot throw checked exceptions.
+     * @param latch the latch to wait for
+     */
+    public static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the specified thread is parked or blocked, failing the test if it does not happen in time.
+     * @param thread the thread to wait for
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static void awaitBlocked(final Thread thread) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!isBlocked(thread)) {
+            assertThat(System.nanoTime()).as("Thread %s did not block in time!", thread.getName()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static boolean isBlocked(final Thread thread) {
+        return switch (thread.getState()) {
+            case WAITING, TIMED_WAITING, BLOCKED -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Runs the specified task on several threads at once while the first call to reach it is held up.
+     * <p>
+     * The task must count down {@code blocked} and then wait for {@code release} on the call that
+     * does the work. Once every thread is waiting, {@code release} is counted down and the results
+     * are collected.
+     * @param threads the number of threads
+     * @param task the task to run on each thread
+     * @param blocked counted down by the task once it holds up the work
+     * @param release awaited by the task holding up the work
+     * @param <T> the result type
+     * @return the result of each thread
+     * @throws Exception if a thread failed or did not finish in time
+     */
+    public static <T> List<T> callConcurrently(final int threads,
+                                               final Callable<T> task,
+                                               final CountDownLatch blocked,
+                                               final CountDownLatch release) throws Exception {
+        final List<FutureTask<T>> tasks = new ArrayList<>(threads);
+        final List<Thread> started = new ArrayList<>(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                final FutureTask<T> future = new FutureTask<>(task);
+                tasks.add(future);
+                started.add(Thread.ofPlatform().daemon().name("TestUtils-" + i).start(future));
+            }
+
+            assertThat(blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            for (final Thread thread : started) {
+                awaitBlocked(thread);
+            }
+            release.countDown();
+
+            final List<T> results = new ArrayList<>(threads);
+            for (final FutureTask<T> future : tasks) {
+                results.add(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            release.countDown();
+            started.forEach(Thread::interrupt);
+        }
+    }
+
+    /**
+     * Serializes the specified object and returns the deserialized copy.
+     * @param value the object to serialize
+     * @param <T> the object type
+     * @return the deserialized copy
+     * @throws IOException if the object cannot be serialized
+     * @throws ClassNotFoundException if the copy cannot be deserialized
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Serializable> T roundTrip(final T value) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+
+    private TestUtils() { throwUnsupportedExForUtilityCls(); }
+}
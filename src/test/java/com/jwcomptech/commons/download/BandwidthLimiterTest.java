@@ -0,0 +1,125 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BandwidthLimiterTest {
+    private final FakeTicker ticker = new FakeTicker();
+
+    @Test
+    void testUnlimitedNeverWaits() throws Exception {
+        final BandwidthLimiter limiter = newLimiter(BandwidthLimiter.UNLIMITED);
+
+        limiter.acquire(Long.MAX_VALUE);
+
+        assertThat(limiter.isUnlimited()).isTrue();
+        assertThat(ticker.parked).isEqualTo(0);
+    }
+
+    @Test
+    void testAcquireHoldsTheRate() throws Exception {
+        // 10,000 bytes of burst, the remaining 40,000 bytes take 400ms.
+        final BandwidthLimiter limiter = newLimiter(100_000);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(10_000);
+        }
+
+        assertThat(ticker.parked).isEqualTo(Duration.ofMillis(400).toNanos());
+    }
+
+    @Test
+    void testIdleTimeRefillsTheBurst() throws Exception {
+        final BandwidthLimiter limiter = newLimiter(100_000);
+        limiter.acquire(10_000);
+
+        ticker.now += Duration.ofSeconds(1).toNanos();
+        limiter.acquire(10_000);
+
+        assertThat(ticker.parked).isEqualTo(0);
+    }
+
+    @Test
+    void testRateChangeTakesEffect() throws Exception {
+        final BandwidthLimiter limiter = newLimiter(BandwidthLimiter.UNLIMITED);
+
+        limiter.setBytesPerSecond(100_000);
+        assertThat(limiter.isUnlimited()).isFalse();
+        assertThat(limiter.getBytesPerSecond()).isEqualTo(100_000);
+        limiter.acquire(40_000);
+        assertThat(ticker.parked).isEqualTo(Duration.ofMillis(300).toNanos());
+
+        limiter.setBytesPerSecond(BandwidthLimiter.UNLIMITED);
+        limiter.acquire(40_000);
+        assertThat(ticker.parked).isEqualTo(Duration.ofMillis(300).toNanos());
+    }
+
+    @Test
+    void testInterruptedWhileThrottledThrows() {
+        final BandwidthLimiter limiter = newLimiter(1_000);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> limiter.acquire(10_000)).isInstanceOf(InterruptedIOException.class);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void testNegativeRateIsRejected() {
+        assertThatThrownBy(() -> BandwidthLimiter.of(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BandwidthLimiter.of(1).setBytesPerSecond(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BandwidthLimiter newLimiter(final long bytesPerSecond) {
+        return new BandwidthLimiter(bytesPerSecond, Duration.ofMillis(100), ticker);
+    }
+
+    /**
+     * A ticker whose time only moves when the test moves it or a throttled thread parks.
+     */
+    private static final class FakeTicker implements BandwidthLimiter.Ticker {
+        private long now;
+        private long parked;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void parkNanos(final Object blocker, final long nanos) {
+            now += nanos;
+            parked += nanos;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.jwcomptech.commons.download;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DownloadJournalTest {
+    private static final String URL = "https://example.com/file.zip";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWriteAndReadRoundTrip() throws Exception {
+        final List<DownloadSegment> segments = List.of(
+                new DownloadSegment(0, 99, 50),
+                new DownloadSegment(100, 199, 100));
+        final DownloadJournal journal = DownloadJournal.of(URL, "\"abc\"", "Wed, 21 Oct 2015 07:28:00 GMT", 200, segments);
+        final Path path = DownloadJournal.pathFor(directory.resolve("file.zip"));
+
+        journal.write(path);
+        final Optional<DownloadJournal> read = DownloadJournal.read(path);
+
+        assertThat(read.isPresent()).isTrue();
+        assertThat(read.get()).isEqualTo(journal);
+        assertThat(read.get().getBytesCompleted()).isEqualTo(150);
+        assertThat(read.get().getIfRangeValidator()).isEqualTo("\"abc\"");
+
+        final List<DownloadSegment> restored = read.get().toSegments();
+        assertThat(restored).hasSize(2);
+        assertThat(restored.get(0).getStart()).isEqualTo(0);
+        assertThat(restored.get(0).getEnd()).isEqualTo(99);
+        assertThat(restored.get(0).getPosition()).isEqualTo(50);
+        assertThat(restored.get(1).isComplete()).isTrue();
+    }
+
+    @Test
+    void testWriteReplacesExistingJournal() throws Exception {
+        final Path path = DownloadJournal.pathFor(directory.resolve("file.zip"));
+        DownloadJournal.of(URL, null, null, 100, List.of(new DownloadSegment(0, 99, 10))).write(path);
+        DownloadJournal.of(URL, null, null, 100, List.of(new DownloadSegment(0, 99, 60))).write(path);
+
+        assertThat(DownloadJournal.read(path).map(DownloadJournal::getBytesCompleted)).isEqualTo(Optional.of(60L));
+        try (final var files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testReadMissingOrCorruptJournalIsEmpty() throws Exception {
+        final Path path = DownloadJournal.pathFor(directory.resolve("file.zip"));
+        assertThat(DownloadJournal.read(path).isPresent()).isFalse();
+
+        Files.writeString(path, "{not json", UTF_8);
+        assertThat(DownloadJournal.read(path).isPresent()).isFalse();
+
+        Files.writeString(path, "{}", UTF_8);
+        assertThat(DownloadJournal.read(path).isPresent()).isFalse();
+    }
+
+    @Test
+    void testDeleteRemovesJournal() throws Exception {
+        final Path path = DownloadJournal.pathFor(directory.resolve("file.zip"));
+        DownloadJournal.of(URL, null, null, 100, List.of(new DownloadSegment(0, 99))).write(path);
+
+        DownloadJournal.delete(path);
+
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    @Test
+    void testIfRangeValidatorSkipsWeakEtag() {
+        assertThat(DownloadJournal.ifRangeValidator("\"abc\"", "date")).isEqualTo("\"abc\"");
+        assertThat(DownloadJournal.ifRangeValidator("W/\"abc\"", "date")).isEqualTo("date");
+        assertThat(DownloadJournal.ifRangeValidator(null, null)).isNull();
+    }
+
+    @Test
+    void testPathForAppendsExtension() {
+        assertThat(DownloadJournal.pathFor(directory.resolve("file.zip")).getFileName().toString())
+                .isEqualTo("file.zip" + DownloadJournal.EXTENSION);
+    }
+}
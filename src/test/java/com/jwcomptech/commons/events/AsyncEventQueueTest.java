@@ -0,0 +1,164 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.jwcomptech.commons.TestUtils.TIMEOUT_SECONDS;
+import static com.jwcomptech.commons.TestUtils.awaitBlocked;
+import static com.jwcomptech.commons.TestUtils.awaitUninterruptibly;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncEventQueueTest {
+    private static final int CAPACITY = 2;
+
+    private final List<Integer> handled = new CopyOnWriteArrayList<>();
+    private final List<Integer> discarded = new CopyOnWriteArrayList<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    void testDropNewestDiscardsFiredEvent() throws Exception {
+        final AsyncEventQueue queue = blockedQueue(OverflowPolicy.DROP_NEWEST);
+
+        assertThat(queue.offer(record(3), discard(3))).isFalse();
+        assertThat(queue.getDroppedCount()).isEqualTo(1);
+        assertThat(discarded).containsExactly(3);
+
+        releaseAndDrain(queue);
+        assertThat(handled).containsExactly(1, 2);
+    }
+
+    @Test
+    void testDropOldestDiscardsQueuedEvent() throws Exception {
+        final AsyncEventQueue queue = blockedQueue(OverflowPolicy.DROP_OLDEST);
+
+        assertThat(queue.offer(record(3), discard(3))).isTrue();
+        assertThat(queue.getDroppedCount()).isEqualTo(1);
+        assertThat(queue.size()).isEqualTo(CAPACITY);
+        assertThat(discarded).containsExactly(1);
+
+        releaseAndDrain(queue);
+        assertThat(handled).containsExactly(2, 3);
+        assertThat(discarded).containsExactly(1);
+    }
+
+    @Test
+    void testBlockWaitsForRoom() throws Exception {
+        final AsyncEventQueue queue = blockedQueue(OverflowPolicy.BLOCK);
+
+        final CompletableFuture<Boolean> offered = new CompletableFuture<>();
+        awaitBlocked(Thread.ofPlatform().daemon().start(() -> offered.complete(queue.offer(record(3)))));
+        assertThat(offered.isDone()).isFalse();
+
+        release.countDown();
+        assertThat(offered.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        drain(queue);
+        assertThat(queue.getDroppedCount()).isEqualTo(0);
+        assertThat(handled).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testInterruptedBlockDropsEvent() throws Exception {
+        final AsyncEventQueue queue = blockedQueue(OverflowPolicy.BLOCK);
+
+        final CompletableFuture<Boolean> offered = new CompletableFuture<>();
+        final Thread firing = Thread.ofPlatform().daemon()
+                .start(() -> offered.complete(queue.offer(record(3), discard(3))));
+        awaitBlocked(firing);
+        firing.interrupt();
+
+        assertThat(offered.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isFalse();
+        assertThat(queue.getDroppedCount()).isEqualTo(1);
+        assertThat(discarded).containsExactly(3);
+
+        releaseAndDrain(queue);
+        assertThat(handled).containsExactly(1, 2);
+    }
+
+    @Test
+    void testFailingDispatchDoesNotStopQueue() throws Exception {
+        final AsyncEventQueue queue = new AsyncEventQueue("test", newTemplate(), CAPACITY, OverflowPolicy.BLOCK);
+
+        queue.offer(() -> {
+            throw new IllegalStateException("Handler failed!");
+        });
+        queue.offer(record(1));
+
+        releaseAndDrain(queue);
+        assertThat(handled).containsExactly(1);
+    }
+
+    /**
+     * Returns a queue whose drainer is stuck on a first dispatch and whose {@link #CAPACITY} slots are taken.
+     */
+    private AsyncEventQueue blockedQueue(final OverflowPolicy policy) throws InterruptedException {
+        final AsyncEventQueue queue = new AsyncEventQueue("test", newTemplate(), CAPACITY, policy);
+        queue.offer(() -> {
+            started.countDown();
+            awaitUninterruptibly(release);
+        });
+        assertThat(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 1; i <= CAPACITY; i++) {
+            assertThat(queue.offer(record(i), discard(i))).isTrue();
+        }
+        return queue;
+    }
+
+    private void releaseAndDrain(final AsyncEventQueue queue) throws InterruptedException {
+        release.countDown();
+        drain(queue);
+    }
+
+    private static void drain(final AsyncEventQueue queue) throws InterruptedException {
+        // Wait for room first, so the marker below never triggers the overflow policy.
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (queue.size() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Dispatches run in order, so once this one ran every earlier one has too.
+        final CountDownLatch drained = new CountDownLatch(1);
+        assertThat(queue.offer(drained::countDown)).isTrue();
+        assertThat(drained.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Runnable record(final int dispatch) {
+        return () -> handled.add(dispatch);
+    }
+
+    private Runnable discard(final int dispatch) {
+        return () -> discarded.add(dispatch);
+    }
+
+    private static Event newTemplate() {
+        return new Event(new EventTarget<>());
+    }
+}
@@ -0,0 +1,124 @@
+package com.jwcomptech.commons.events;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventBatcherTest {
+    private static final Duration LONG_WINDOW = Duration.ofMinutes(1);
+
+    private final BlockingQueue<List<Long>> delivered = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Thread> deliveringThreads = new LinkedBlockingQueue<>();
+
+    @Test
+    void testWindowEndDeliversBatch() throws Exception {
+        final EventBatcher batcher = newBatcher(Duration.ofMillis(50), 100, null);
+
+        fire(batcher, "source", 1);
+        fire(batcher, "source", 2);
+        fire(batcher, "source", 3);
+
+        assertThat(delivered.poll(5, TimeUnit.SECONDS)).containsExactly(1L, 2L, 3L);
+        assertThat(deliveringThreads.take()).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void testFullBatchIsDeliveredOnFiringThread() throws Exception {
+        final EventBatcher batcher = newBatcher(LONG_WINDOW, 2, null);
+
+        fire(batcher, "source", 1);
+        assertThat(delivered.isEmpty()).isTrue();
+        fire(batcher, "source", 2);
+
+        assertThat(delivered.poll()).containsExactly(1L, 2L);
+        assertThat(deliveringThreads.take()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void testCoalescingKeepsLatestEventPerKey() throws Exception {
+        final EventBatcher batcher = newBatcher(LONG_WINDOW, Integer.MAX_VALUE, (source, args) -> source);
+
+        fire(batcher, "a", 1);
+        fire(batcher, "b", 2);
+        fire(batcher, "a", 3);
+        batcher.flush();
+
+        assertThat(delivered.poll()).containsExactly(3L, 2L);
+        assertThat(batcher.getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testReleasedBatchIsReused() throws Exception {
+        final BlockingQueue<List<Event>> batches = new LinkedBlockingQueue<>();
+        final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+        final EventBatcher batcher = new EventBatcher(newTemplate(), LONG_WINDOW, 1, null, (self, batch) -> {
+            batches.add(batch);
+            events.add(batch.get(0));
+            self.release(batch);
+        });
+
+        for (int i = 1; i <= 4; i++) {
+            fire(batcher, "source", i);
+        }
+
+        // The pending list and the list being delivered swap, so only two lists are ever used.
+        final List<Event> first = batches.take();
+        final List<Event> second = batches.take();
+        assertThat(second).isNotSameAs(first);
+        assertThat(batches.take()).isSameAs(first);
+        assertThat(batches.take()).isSameAs(second);
+
+        final Event event = events.take();
+        for (int i = 2; i <= 4; i++) {
+            assertThat(events.take()).isSameAs(event);
+        }
+        assertThat(event.getSource()).isNull();
+    }
+
+    private EventBatcher newBatcher(final Duration window,
+                                    final int maxBatchSize,
+                                    final BiFunction<Object, Object[], ?> keyFunction) {
+        return new EventBatcher(newTemplate(), window, maxBatchSize, keyFunction, (batcher, batch) -> {
+            delivered.add(batch.stream().map(Event::getLongArg).toList());
+            deliveringThreads.add(Thread.currentThread());
+            batcher.release(batch);
+        });
+    }
+
+    private static void fire(final EventBatcher batcher, final Object source, final long value) {
+        batcher.add(source, Event.NO_ARGS, value, 0);
+    }
+
+    private static Event newTemplate() {
+        return new Event(new EventTarget<>());
+    }
+}
@@ -0,0 +1,118 @@
+package com.jwcomptech.commons.functions;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jwcomptech.commons.TestUtils.TIMEOUT_SECONDS;
+import static com.jwcomptech.commons.TestUtils.awaitBlocked;
+import static com.jwcomptech.commons.TestUtils.awaitUninterruptibly;
+import static com.jwcomptech.commons.TestUtils.callConcurrently;
+import static com.jwcomptech.commons.TestUtils.roundTrip;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyTest {
+    private static final int THREADS = 8;
+
+    @Test
+    void testSupplierIsCalledOnceUnderContention() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch evaluating = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Lazy<Integer> lazy = Lazy.of(() -> {
+            calls.incrementAndGet();
+            evaluating.countDown();
+            awaitUninterruptibly(release);
+            return 42;
+        });
+
+        final List<Integer> results = callConcurrently(THREADS, lazy::get, evaluating, release);
+
+        assertThat(results).hasSize(THREADS).containsOnly(42);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(lazy.isEvaluated()).isTrue();
+    }
+
+    @Test
+    void testFailedEvaluationIsRetried() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Lazy<Integer> lazy = Lazy.of(() -> {
+            if (calls.incrementAndGet() == 1) throw new IllegalStateException("Supplier failed!");
+            return 42;
+        });
+
+        assertThatThrownBy(lazy::get).isInstanceOf(IllegalStateException.class).hasMessage("Supplier failed!");
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(lazy.get()).isEqualTo(42);
+        assertThat(lazy.get()).isEqualTo(42);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testWaitingThreadRetriesAfterFailure() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch evaluating = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Lazy<Integer> lazy = Lazy.of(() -> {
+            if (calls.incrementAndGet() == 1) {
+                evaluating.countDown();
+                awaitUninterruptibly(release);
+                throw new IllegalStateException("Supplier failed!");
+            }
+            return 42;
+        });
+
+        final FutureTask<Integer> failing = new FutureTask<>(lazy::get);
+        final FutureTask<Integer> waiting = new FutureTask<>(lazy::get);
+        Thread.ofPlatform().daemon().start(failing);
+        assertThat(evaluating.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        awaitBlocked(Thread.ofPlatform().daemon().start(waiting));
+        release.countDown();
+
+        assertThatThrownBy(() -> failing.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(waiting.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(42);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(lazy.isEvaluated()).isTrue();
+    }
+
+    @Test
+    void testSerializationEvaluatesValue() throws Exception {
+        final Lazy<String> lazy = Lazy.of(() -> "value");
+
+        final Lazy<String> copy = roundTrip(lazy);
+
+        assertThat(lazy.isEvaluated()).isTrue();
+        assertThat(copy.isEvaluated()).isTrue();
+        assertThat(copy.get()).isEqualTo("value");
+    }
+}
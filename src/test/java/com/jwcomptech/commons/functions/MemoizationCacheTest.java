@@ -0,0 +1,168 @@
+package com.jwcomptech.commons.functions;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jwcomptech.commons.TestUtils.awaitUninterruptibly;
+import static com.jwcomptech.commons.TestUtils.callConcurrently;
+import static com.jwcomptech.commons.TestUtils.roundTrip;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoizationCacheTest {
+    private static final int THREADS = 8;
+
+    @Test
+    void testConcurrentMissIsComputedOnce() throws Exception {
+        final MemoizationCache<String, Integer> cache = new MemoizationCache<>(MemoizationConfig.UNBOUNDED);
+
+        assertThat(loadConcurrently(cache, "key")).isEqualTo(1);
+        assertThat(cache.get("key", key -> -1)).isEqualTo(3);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(THREADS);
+    }
+
+    @Test
+    void testFailedComputationIsRetried() {
+        final MemoizationCache<String, Integer> cache = new MemoizationCache<>(MemoizationConfig.UNBOUNDED);
+
+        assertThatThrownBy(() -> cache.get("key", key -> {
+            throw new IllegalStateException("Load failed!");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("Load failed!");
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.get("key", String::length)).isEqualTo(3);
+    }
+
+    @Test
+    void testLruEvictsLeastRecentlyUsed() {
+        final MemoizationCache<Integer, Integer> cache = new MemoizationCache<>(MemoizationConfig.builder()
+                .withMaxSize(2)
+                .withEvictionPolicy(EvictionPolicy.LRU)
+                .build());
+
+        cache.get(1, key -> key);
+        cache.get(2, key -> key);
+        cache.get(1, key -> key);
+        cache.get(3, key -> key);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.get(1, key -> -1)).isEqualTo(1);
+        assertThat(cache.get(2, key -> -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void testTinyLfuKeepsFrequentKey() {
+        final MemoizationCache<Integer, Integer> cache = new MemoizationCache<>(MemoizationConfig.builder()
+                .withMaxSize(1)
+                .withEvictionPolicy(EvictionPolicy.TINY_LFU)
+                .build());
+        for (int i = 0; i < 10; i++) {
+            cache.get(1, key -> key);
+        }
+
+        assertThat(cache.get(2, key -> key)).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(1, key -> -1)).isEqualTo(1);
+    }
+
+    @Test
+    void testTinyLfuRejectedKeyIsComputedOnce() throws Exception {
+        final MemoizationCache<String, Integer> cache = new MemoizationCache<>(MemoizationConfig.builder()
+                .withMaxSize(1)
+                .withEvictionPolicy(EvictionPolicy.TINY_LFU)
+                .build());
+        for (int i = 0; i < 10; i++) {
+            cache.get("hot", key -> 0);
+        }
+
+        assertThat(loadConcurrently(cache, "key")).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("hot", key -> -1)).isEqualTo(0);
+    }
+
+    @Test
+    void testMemoizedWithConfigRejectsMemoizedFunction() {
+        final Function1<Integer, Integer> memoized = ((Function1<Integer, Integer>) value -> value * 2).memoized();
+
+        assertThat(memoized.memoized()).isSameAs(memoized);
+        assertThatThrownBy(() -> memoized.memoized(MemoizationConfig.UNBOUNDED))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testSerializedCacheKeepsSettingsOnly() throws Exception {
+        final MemoizationCache<Integer, Integer> cache = new MemoizationCache<>(MemoizationConfig.builder()
+                .withMaxSize(2)
+                .withEvictionPolicy(EvictionPolicy.LFU)
+                .withExpireAfterWrite(Duration.ofMinutes(1))
+                .build());
+        cache.get(1, key -> key);
+
+        final MemoizationCache<Integer, Integer> copy = roundTrip(cache);
+
+        assertThat(copy.size()).isEqualTo(0);
+        assertThat(copy.getConfig().getMaxSize()).isEqualTo(2);
+        assertThat(copy.getConfig().getEvictionPolicy()).isEqualTo(EvictionPolicy.LFU);
+        assertThat(copy.getConfig().getExpireAfterWrite()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(copy.getConfig().getExecutor()).isSameAs(MemoizationConfig.VIRTUAL_THREAD_EXECUTOR);
+        assertThat(copy.get(1, key -> -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void testMemoizedFunctionIsSerializable() throws Exception {
+        final Function1<Integer, Integer> memoized = ((Function1<Integer, Integer>) value -> value * 2).memoized();
+        memoized.apply(1);
+
+        final Function1<Integer, Integer> copy = roundTrip(memoized);
+
+        assertThat(copy.isMemoized()).isTrue();
+        assertThat(copy.apply(2)).isEqualTo(4);
+    }
+
+    /**
+     * Looks up the specified key from several threads while its computation is blocked.
+     * @return the number of times the value was computed
+     */
+    private static int loadConcurrently(final MemoizationCache<String, Integer> cache,
+                                        final String key) throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> results = callConcurrently(THREADS, () -> cache.get(key, k -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            awaitUninterruptibly(release);
+            return k.length();
+        }), loading, release);
+
+        assertThat(results).hasSize(THREADS).containsOnly(key.length());
+        return loads.get();
+    }
+}
@@ -0,0 +1,94 @@
+package com.jwcomptech.commons.validators;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+
+import static com.jwcomptech.commons.TestUtils.roundTrip;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidatedTest {
+    @Test
+    void testUntouchedStateEqualsAllocatedState() {
+        final Sample lazy = new Sample();
+        final Sample eager = new Sample();
+        eager.getTrueValidations();
+        eager.getFalseValidations();
+
+        assertThat(lazy).isEqualTo(eager);
+        assertThat(eager).isEqualTo(lazy);
+        assertThat(lazy).hasSameHashCodeAs(eager);
+        assertThat(lazy.toString()).isEqualTo(eager.toString());
+    }
+
+    @Test
+    void testClearedFailureMessageEqualsUntouchedState() {
+        final Sample lazy = new Sample();
+        final Sample cleared = new Sample();
+        cleared.setValidationFailureMessage("Failed!");
+        cleared.setValidationFailureMessage(null);
+
+        assertThat(lazy.getValidationFailureMessage()).isNull();
+        assertThat(lazy).isEqualTo(cleared);
+        assertThat(lazy).hasSameHashCodeAs(cleared);
+    }
+
+    @Test
+    void testValidationsTakePartInEquality() {
+        final Condition condition = Condition.of(() -> true);
+        final Sample lazy = new Sample();
+        final Sample withCondition = new Sample();
+        withCondition.addToTrueVals(condition);
+
+        assertThat(lazy).isNotEqualTo(withCondition);
+
+        lazy.addToTrueVals(condition);
+        assertThat(lazy).isEqualTo(withCondition);
+    }
+
+    @Test
+    void testEvaluationWithoutValidationsIsValid() {
+        final Sample sample = new Sample();
+
+        assertThat(sample.isValid()).isTrue();
+        assertThat(sample.getFirstValFailMessage().isPresent()).isFalse();
+        assertThat(sample).isEqualTo(new Sample().evaluateAllVals());
+    }
+
+    @Test
+    void testUntouchedStateSurvivesSerialization() throws Exception {
+        final Sample sample = new Sample();
+
+        final Sample copy = roundTrip(sample);
+
+        assertThat(copy).isEqualTo(sample);
+        assertThat(copy.getTrueValidations().isEmpty()).isTrue();
+    }
+
+    private static final class Sample extends Validated {
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+}
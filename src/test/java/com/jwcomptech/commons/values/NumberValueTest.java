@@ -0,0 +1,133 @@
+package com.jwcomptech.commons.values;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NumberValueTest {
+    private static final int THREADS = 8;
+    private static final int UPDATES = 10_000;
+
+    @Test
+    void testAtomicIntegerIncrementsUnderContention() throws Exception {
+        final IntegerValue value = IntegerValue.atomic();
+
+        runConcurrently(value::increment);
+
+        assertThat(value.isAtomic()).isTrue();
+        assertThat(value.getAsInt()).isEqualTo(THREADS * UPDATES);
+    }
+
+    @Test
+    void testAtomicIntegerNotifiesEveryUpdate() throws Exception {
+        final IntegerValue value = IntegerValue.atomic();
+        final AtomicLong notifications = new AtomicLong();
+        final AtomicLong delta = new AtomicLong();
+        value.addValueListener((oldValue, newValue) -> {
+            notifications.incrementAndGet();
+            delta.addAndGet(newValue - oldValue);
+        });
+
+        runConcurrently(value::incrementAndGetInt);
+
+        assertThat(notifications.get()).isEqualTo(THREADS * UPDATES);
+        assertThat(delta.get()).isEqualTo(THREADS * UPDATES);
+    }
+
+    @Test
+    void testAtomicLongGetAndAddReturnsEveryValueOnce() throws Exception {
+        final LongValue value = LongValue.atomic();
+        final Set<Long> seen = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> seen.add(value.getAndAddLong(1)));
+
+        assertThat(seen.size()).isEqualTo(THREADS * UPDATES);
+        assertThat(value.getAsLong()).isEqualTo(THREADS * UPDATES);
+    }
+
+    @Test
+    void testAtomicDoubleAddsUnderContention() throws Exception {
+        final DoubleValue value = DoubleValue.atomic();
+
+        runConcurrently(() -> value.add(1.0));
+
+        assertThat(value.getAsDouble()).isEqualTo(THREADS * UPDATES);
+    }
+
+    @Test
+    void testStripedLongAddsUnderContention() throws Exception {
+        final LongValue value = LongValue.striped();
+
+        runConcurrently(value::increment);
+
+        assertThat(value.isStriped()).isTrue();
+        assertThat(value.getAsLong()).isEqualTo(THREADS * UPDATES);
+        assertThatThrownBy(value::incrementAndGet)
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("A striped LongValue only supports adding!");
+    }
+
+    @Test
+    void testPlainValueIsNotAtomic() {
+        assertThat(IntegerValue.of().isAtomic()).isFalse();
+        assertThat(LongValue.of().isStriped()).isFalse();
+    }
+
+    /**
+     * Runs the specified update {@link #UPDATES} times on each of {@link #THREADS} threads, all starting together.
+     */
+    private static void runConcurrently(final Runnable update) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final Future<?>[] results = new Future<?>[THREADS];
+            for (int i = 0; i < THREADS; i++) {
+                results[i] = executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < UPDATES; j++) {
+                        update.run();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (final Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}